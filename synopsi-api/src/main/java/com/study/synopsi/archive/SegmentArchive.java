@@ -0,0 +1,252 @@
+package com.study.synopsi.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Append-only store of cold article content.
+ * Content is packed into deflate-compressed blocks of about blockBytes, appended to numbered
+ * segment files (segment-000001.seg, ...) that roll over at maxSegmentBytes. A record is located
+ * by (segment, block offset); the caller keeps that offset index. Reads memory-map the segment
+ * and inflate a single block.
+ *
+ * Layout: segment = MAGIC, VERSION, block*; block = rawLength:int, compressedLength:int, deflate bytes;
+ * raw block = (articleId:long, byteLength:int, utf8 bytes)*.
+ *
+ * One writer at a time; reads are thread-safe and may run concurrently with appends.
+ */
+public class SegmentArchive {
+
+    private static final int MAGIC = 0x53594E41; // "SYNA"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    private static final int BLOCK_HEADER_BYTES = 8;
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int blockBytes;
+    private final long maxSegmentBytes;
+    private final Map<Integer, MappedByteBuffer> mappings = new ConcurrentHashMap<>();
+
+    public SegmentArchive(Path directory, int blockBytes, long maxSegmentBytes) {
+        if (maxSegmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("maxSegmentBytes must fit in a single mapping (2 GB)");
+        }
+        this.directory = directory;
+        this.blockBytes = blockBytes;
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    public record Entry(long articleId, String content) {}
+
+    public record Location(long articleId, int segment, long offset) {}
+
+    /**
+     * Append entries and force them to disk before returning their locations
+     */
+    public List<Location> append(List<Entry> entries) throws IOException {
+        List<Location> locations = new ArrayList<>(entries.size());
+        if (entries.isEmpty()) {
+            return locations;
+        }
+        Files.createDirectories(directory);
+
+        int segment = currentSegment();
+        FileChannel channel = openForAppend(segment);
+        try {
+            List<Entry> block = new ArrayList<>();
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(blockBytes);
+            DataOutputStream out = new DataOutputStream(raw);
+
+            for (Entry entry : entries) {
+                byte[] bytes = entry.content().getBytes(StandardCharsets.UTF_8);
+                out.writeLong(entry.articleId());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                block.add(entry);
+
+                if (raw.size() >= blockBytes) {
+                    if (channel.size() >= maxSegmentBytes) {
+                        channel = roll(channel, ++segment);
+                    }
+                    writeBlock(channel, segment, raw.toByteArray(), block, locations);
+                    block.clear();
+                    raw.reset();
+                }
+            }
+            if (!block.isEmpty()) {
+                if (channel.size() >= maxSegmentBytes) {
+                    channel = roll(channel, ++segment);
+                }
+                writeBlock(channel, segment, raw.toByteArray(), block, locations);
+            }
+            channel.force(true);
+        } finally {
+            channel.close();
+            // The mapping of a grown segment is stale; the next read maps the new length
+            mappings.remove(segment);
+        }
+        return locations;
+    }
+
+    /**
+     * Read one article's content from its block
+     */
+    public Optional<String> read(Location location) throws IOException {
+        int offset = Math.toIntExact(location.offset());
+        ByteBuffer segment = mapCovering(location.segment(), offset + BLOCK_HEADER_BYTES);
+        if (segment == null) {
+            return Optional.empty();
+        }
+        int rawLength = segment.getInt(offset);
+        int compressedLength = segment.getInt(offset + 4);
+        segment = mapCovering(location.segment(), offset + BLOCK_HEADER_BYTES + compressedLength);
+        if (segment == null) {
+            return Optional.empty();
+        }
+        byte[] compressed = new byte[compressedLength];
+        segment.get(offset + BLOCK_HEADER_BYTES, compressed);
+
+        ByteBuffer raw = ByteBuffer.wrap(inflate(compressed, rawLength));
+        while (raw.remaining() >= 12) {
+            long articleId = raw.getLong();
+            int length = raw.getInt();
+            if (articleId == location.articleId()) {
+                return Optional.of(new String(raw.array(), raw.position(), length, StandardCharsets.UTF_8));
+            }
+            raw.position(raw.position() + length);
+        }
+        return Optional.empty();
+    }
+
+    // Helper methods
+
+    private void writeBlock(FileChannel channel, int segment, byte[] raw, List<Entry> block,
+                            List<Location> locations) throws IOException {
+        byte[] compressed = deflate(raw);
+        long offset = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(BLOCK_HEADER_BYTES + compressed.length);
+        buffer.putInt(raw.length).putInt(compressed.length).put(compressed).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        for (Entry entry : block) {
+            locations.add(new Location(entry.articleId(), segment, offset));
+        }
+    }
+
+    private FileChannel roll(FileChannel channel, int nextSegment) throws IOException {
+        channel.force(true);
+        channel.close();
+        mappings.remove(nextSegment - 1);
+        return openForAppend(nextSegment);
+    }
+
+    private FileChannel openForAppend(int segment) throws IOException {
+        FileChannel channel = FileChannel.open(path(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            channel.write(ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+        }
+        return channel;
+    }
+
+    private int currentSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .mapToInt(name -> Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .max()
+                    .orElse(1);
+        }
+    }
+
+    /**
+     * Mapping of the segment that covers the given end offset, or null if the file is shorter.
+     * A mapping taken before a later append is replaced once.
+     */
+    private ByteBuffer mapCovering(int segment, long end) throws IOException {
+        ByteBuffer mapping = map(segment);
+        if (end > mapping.limit()) {
+            mappings.remove(segment);
+            mapping = map(segment);
+        }
+        return end > mapping.limit() ? null : mapping;
+    }
+
+    private ByteBuffer map(int segment) throws IOException {
+        MappedByteBuffer mapping = mappings.get(segment);
+        if (mapping == null) {
+            try (FileChannel channel = FileChannel.open(path(segment), StandardOpenOption.READ)) {
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (mapping.limit() < FILE_HEADER_BYTES || mapping.getInt(0) != MAGIC || mapping.getInt(4) != VERSION) {
+                throw new IOException("Not an archive segment: " + path(segment));
+            }
+            mappings.put(segment, mapping);
+        }
+        return mapping;
+    }
+
+    private Path path(int segment) {
+        return directory.resolve(String.format("%s%06d%s", PREFIX, segment, SUFFIX));
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IOException("Truncated archive block");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt archive block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
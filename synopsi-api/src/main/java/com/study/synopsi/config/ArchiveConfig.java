@@ -0,0 +1,22 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.archive")
+@Getter
+@Setter
+public class ArchiveConfig {
+
+    private boolean enabled = true;
+
+    private String directory = "data/archive";     // Segment files live here
+    private int ageDays = 30;                      // Articles published before this are archived
+    private int chunkSize = 500;                   // Articles moved per segment append + DB transaction
+    private int maxChunksPerRun = 200;             // Safety cap per run (remaining articles go next run)
+    private int blockBytes = 64 * 1024;            // Uncompressed bytes per compressed block (one read inflates one block)
+    private long maxSegmentBytes = 256L * 1024 * 1024; // Roll over to a new segment file past this size
+}
@@ -19,8 +19,10 @@ public class CacheConfig {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(
                 "personalizedFeed",
                 "feeds",
+                "feedQueries",
                 "sources",
-                "articles"
+                "articles",
+                "articleStats"
         );
 
         cacheManager.setCaffeine(Caffeine.newBuilder()
@@ -0,0 +1,30 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.crawl")
+@Getter
+@Setter
+public class CrawlConfig {
+
+    private long tickMs = 15_000;                 // Timing wheel resolution (and how often it is advanced)
+    private int wheelSize = 512;                  // Slots per revolution (512 x 15s covers ~2 hours)
+    private long resyncIntervalMs = 600_000;      // Reload the schedule from the database to repair drift
+    private int leaseMinutes = 15;                // How long a claimed feed is reserved for its worker
+    private int maxClaim = 100;                   // Upper bound on feeds handed out per claim
+
+    private boolean adaptiveFrequency = true;     // Adapt each feed's interval to its observed article yield
+    private double targetArticlesPerCrawl = 1.0;  // Aim for about this many new articles per crawl
+    private double yieldTimeConstantMinutes = 1440; // EWMA time constant of the arrival-rate estimate
+    private int minIntervalMinutes = 5;           // Bounds of the adapted interval
+    private int maxIntervalMinutes = 1440;
+    private int maxBackoffMinutes = 1440;         // Cap on the failure backoff
+
+    private int circuitFailureThreshold = 5;      // Consecutive failures that open a feed's circuit
+    private int circuitCooldownMinutes = 360;     // First cool-down; doubles with every failed probe
+    private int circuitMaxCooldownMinutes = 10_080; // Cap on the cool-down (a week)
+}
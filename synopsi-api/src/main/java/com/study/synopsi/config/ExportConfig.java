@@ -0,0 +1,17 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.export")
+@Getter
+@Setter
+public class ExportConfig {
+
+    private int fetchSize = 500;                  // JDBC fetch size for the streamed export queries
+    private int clearInterval = 500;              // Clear the persistence context every N rows to cap memory
+    private int bufferBytes = 64 * 1024;          // Output buffer in front of the response stream
+}
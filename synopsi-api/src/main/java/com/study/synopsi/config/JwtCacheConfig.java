@@ -0,0 +1,17 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.jwt.cache")
+@Getter
+@Setter
+public class JwtCacheConfig {
+
+    private boolean enabled = true;               // Off: every request verifies its token and loads the user
+    private long maxSize = 10_000;                // Verified tokens kept (one per active session)
+    private long ttlSeconds = 300;                // Upper bound on reusing a loaded principal (tokens also expire)
+}
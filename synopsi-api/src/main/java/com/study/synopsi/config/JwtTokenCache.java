@@ -0,0 +1,116 @@
+package com.study.synopsi.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Verified bearer tokens, keyed by the token's SHA-256 (the token itself is never stored).
+ * A hit skips the signature check, claim parsing and user lookup; an entry lives until its token
+ * expires or ttlSeconds pass, whichever is first, so account changes are picked up within the TTL
+ * (and right away for the changes that call invalidateUser).
+ */
+@Component
+public class JwtTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final JwtCacheConfig config;
+    private final Cache<String, Entry> tokens;
+
+    /**
+     * Principal resolved from a verified token
+     */
+    record Entry(UserDetails principal, Long userId, Instant expiresAt) {
+    }
+
+    public JwtTokenCache(JwtUtil jwtUtil, JwtCacheConfig config, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.config = config;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return lifetimeNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return lifetimeNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "jwtTokens");
+    }
+
+    /**
+     * Principal of a bearer token: cached, or verified and parsed once and loaded with loadUser.
+     * Invalid or expired tokens throw the parser's exception and are never cached.
+     */
+    public UserDetails resolve(String token, Function<String, UserDetails> loadUser) {
+        if (!config.isEnabled()) {
+            return load(token, loadUser).principal();
+        }
+        String key = hash(token);
+        Entry cached = tokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.principal();
+        }
+        Entry entry = load(token, loadUser);
+        tokens.put(key, entry);
+        return entry.principal();
+    }
+
+    /**
+     * Forget the tokens of a user whose credentials or account state changed
+     */
+    public void invalidateUser(Long userId) {
+        tokens.asMap().values().removeIf(entry -> userId.equals(entry.userId()));
+    }
+
+    long size() {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    private Entry load(String token, Function<String, UserDetails> loadUser) {
+        Claims claims = jwtUtil.parseClaims(token);
+        UserDetails principal = loadUser.apply(claims.getSubject());
+        return new Entry(principal, claims.get("userId", Long.class), claims.getExpiration().toInstant());
+    }
+
+    private long lifetimeNanos(Entry entry) {
+        Duration untilExpiry = Duration.between(Instant.now(), entry.expiresAt());
+        Duration ttl = Duration.ofSeconds(config.getTtlSeconds());
+        Duration lifetime = untilExpiry.compareTo(ttl) < 0 ? untilExpiry : ttl;
+        return Math.max(0, lifetime.toNanos());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.dedup")
+@Getter
+@Setter
+public class NearDuplicateConfig {
+
+    private boolean enabled = true;
+
+    private int maxDistance = 3;           // Max Hamming distance between SimHashes of the same story
+    private int minWords = 50;             // Shorter texts give unreliable SimHashes and are never clustered
+    private int lookbackDays = 7;          // Articles loaded into the index at startup
+    private int maxEntries = 200_000;      // Index capacity (oldest articles evicted first)
+}
@@ -0,0 +1,18 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.response-cache")
+@Getter
+@Setter
+public class ResponseCacheConfig {
+
+    private boolean enabled = true;               // Off: every hot read is mapped and serialized again
+    private long maxBytes = 64L * 1024 * 1024;    // Upper bound on cached bodies (plain plus gzipped bytes)
+    private int expireAfterAccessMinutes = 30;    // Superseded versions are never read again and age out
+    private int gzipMinBytes = 2 * 1024;          // Bodies at least this large also keep a gzipped copy
+}
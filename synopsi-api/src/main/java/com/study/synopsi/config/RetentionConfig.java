@@ -0,0 +1,40 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.retention")
+@Getter
+@Setter
+public class RetentionConfig {
+
+    private boolean enabled = true;
+
+    // Throttling (applies to every table)
+    private int chunkSize = 500;                   // Rows deleted per transaction
+    private long pauseMillis = 100;                // Sleep between chunks so live traffic gets the locks
+    private int maxChunksPerRun = 2_000;           // Safety cap per table per run (remaining rows go next run)
+
+    // Per-table policies
+    private Policy summaryJobs = new Policy(true, 7);          // COMPLETED jobs
+    private Policy failedSummaries = new Policy(true, 30);     // FAILED summaries
+    private Policy readingHistory = new Policy(false, 365);    // All reading history (opt-in, feeds personalization)
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private boolean enabled;
+        private int retentionDays;                 // Rows older than this are deleted
+
+        public Policy() {
+        }
+
+        public Policy(boolean enabled, int retentionDays) {
+            this.enabled = enabled;
+            this.retentionDays = retentionDays;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.study.synopsi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled maintenance tasks (job cleanup, stale job checks, deferred job release)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,22 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.search")
+@Getter
+@Setter
+public class SearchConfig {
+
+    private boolean enabled = true;               // Off: searches fall back to LIKE queries
+
+    private String snapshotPath;                  // Index snapshot file; blank disables snapshots
+    private int maxHits = 1_000;                  // Ranked matches paged by relevance (no other filters)
+    private int maxFilteredHits = 10_000;         // Matches handed to the database for filtering or column sorts
+    private int rebuildPageSize = 500;            // Articles read per query while (re)building
+    private int titleWeight = 3;                  // Title terms count this many times
+    private double compactDeletedRatio = 0.25;    // Compact postings once this share of docs is tombstoned
+}
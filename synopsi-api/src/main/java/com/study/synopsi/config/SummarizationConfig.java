@@ -0,0 +1,38 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.summarization.provisional")
+@Getter
+@Setter
+public class SummarizationConfig {
+
+    private boolean enabled = true;                // Produce a provisional extractive summary at ingestion
+    private int threads = 2;                       // Worker threads for the in-process engine
+    private int queueCapacity = 500;               // Pending articles before new work is rejected (skipped)
+
+    /**
+     * Bounded executor for in-process summarization.
+     * A full queue rejects the task rather than blocking ingestion; the neural job still runs.
+     */
+    @Bean(name = "summarizationExecutor")
+    public ThreadPoolTaskExecutor summarizationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("summarizer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.synopsi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.summary.admission")
+@Getter
+@Setter
+public class SummaryAdmissionConfig {
+
+    // Per-user token bucket
+    private int userBurst = 10;                    // Max requests a user can fire back to back
+    private double userRefillPerMinute = 6.0;      // Sustained requests per minute per user
+    private int maxTrackedUsers = 10_000;          // Buckets kept in memory (idle ones are evicted)
+    private int bucketIdleMinutes = 30;            // Evict buckets not touched for this long
+
+    // Global queue watermarks
+    private long queueHighWatermark = 500;         // Reject interactive / defer low-priority work above this
+    private long queueLowWatermark = 250;          // Release deferred default jobs below this
+
+    // Back-pressure behaviour
+    private int retryAfterSeconds = 30;            // Retry-After hint sent with 429 responses
+    private int lowPriorityFeedMax = 4;            // Feeds at or below this priority are deferred when saturated
+    private int releaseBatchSize = 100;            // Max deferred jobs released per scheduler tick
+}
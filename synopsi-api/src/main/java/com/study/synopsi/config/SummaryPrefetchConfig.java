@@ -0,0 +1,37 @@
+package com.study.synopsi.config;
+
+import com.study.synopsi.model.Summary;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "synopsi.summary.prefetch")
+@Getter
+@Setter
+public class SummaryPrefetchConfig {
+
+    private boolean enabled = true;
+
+    // Budget and idle detection
+    private int budgetPerRun = 20;                 // Max prefetch jobs enqueued per planner run
+    private long idleQueueDepth = 20;              // Only prefetch while the queue is at or below this depth
+    private int lookbackHours = 48;                // Only consider articles published within this window
+    private int candidateLimit = 500;              // Max candidate articles scored per run
+
+    // Which variants to prefetch (default BRIEF is always produced at ingestion)
+    private List<Summary.SummaryType> variants = new ArrayList<>(
+            List.of(Summary.SummaryType.DETAILED, Summary.SummaryType.ELI5));
+
+    // Signal weights (should sum to 1.0)
+    private double topicInterestWeight = 0.5;      // Users with high interest in the article's topics
+    private double trendingWeight = 0.3;           // Recent reads of the article itself
+    private double sourceReadWeight = 0.2;         // Recent reads of the article's source
+
+    private double minScore = 0.1;                 // Skip candidates scoring below this
+    private double trendingDecay = 0.5;            // Multiplier applied to read counters after each run
+}
@@ -1,18 +1,35 @@
 package com.study.synopsi.controller;
 
+import com.study.synopsi.dto.ArticleBatchRequestDto;
+import com.study.synopsi.dto.ArticleBatchResponseDto;
+import com.study.synopsi.dto.ArticleListItemDto;
 import com.study.synopsi.dto.ArticleRequestDto;
 import com.study.synopsi.dto.ArticleResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
 import com.study.synopsi.dto.filter.ArticleFilterParams;
+import com.study.synopsi.service.ArticleExportService;
+import com.study.synopsi.service.ArticleIngestionService;
 import com.study.synopsi.service.ArticleService;
+import com.study.synopsi.service.ResourceVersions;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for article operations
@@ -23,7 +40,12 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ArticleController {
 
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
     private final ArticleService articleService;
+    private final ArticleIngestionService articleIngestionService;
+    private final ArticleExportService articleExportService;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * GET /api/v1/articles - Fetch paginated and filtered articles
@@ -31,60 +53,120 @@ public class ArticleController {
      * Query parameters:
      * - Filtering: status, feedId, source, startDate, endDate, language, searchTerm
      * - Pagination: page (0-indexed), size (items per page)
-     * - Sorting: sort (e.g., sort=publicationDate,desc or sort=title,asc)
+     * - Sorting: sort (e.g., sort=publicationDate,desc or sort=title,asc; sort=relevance with searchTerm)
+     * - Fields: list items omit content; fields=content opts in (full article: GET /{id})
+     * - Cursor mode: cursor (empty for the first slice, then nextCursor) and size; newest first,
+     *   no total count (approximateTotal for unfiltered requests); page and sort are ignored
      *
      * Examples:
      * - /api/articles?page=0&size=20&sort=publicationDate,desc
      * - /api/articles?status=SUMMARIZED&source=BBC&page=0&size=10
      * - /api/articles?startDate=2025-10-01T00:00:00&endDate=2025-10-23T23:59:59
      * - /api/articles?searchTerm=climate&sort=publicationDate,desc
+     * - /api/articles?searchTerm=climate change&sort=relevance
+     * - /api/articles?cursor=&size=20 then /api/articles?cursor={nextCursor}&size=20
      *
      * @param filters Filter parameters (all optional)
      * @param pageable Pagination and sorting parameters
+     * @param fields Optional extra fields to include (only "content" is supported)
+     * @param cursor Keyset cursor; when present the response is a count-free slice with nextCursor
      * @return Paginated response with articles and metadata
      */
     @GetMapping
-    public ResponseEntity<PagedResponseDto<ArticleResponseDto>> getAllArticles(
+    public ResponseEntity<PagedResponseDto<ArticleListItemDto>> getAllArticles(
             ArticleFilterParams filters,
             @PageableDefault(
                     size = 20,
                     sort = "publicationDate",
                     direction = Sort.Direction.DESC
-            ) Pageable pageable) {
+            ) Pageable pageable,
+            @RequestParam(required = false) Set<String> fields,
+            @RequestParam(required = false) String cursor) {
 
         // Validate date range if both dates provided
         if (filters != null && !filters.isValidDateRange()) {
             throw new IllegalArgumentException("startDate must be before or equal to endDate");
         }
 
-        PagedResponseDto<ArticleResponseDto> articles =
-                articleService.getFilteredArticles(filters, pageable);
+        boolean includeContent = fields != null && fields.contains("content");
+        PagedResponseDto<ArticleListItemDto> articles = cursor != null
+                ? articleService.getArticlesByCursor(filters, cursor, pageable.getPageSize(), includeContent)
+                : articleService.getFilteredArticles(filters, pageable, includeContent);
 
         return ResponseEntity.ok(articles);
     }
 
+    /**
+     * GET /api/v1/articles/export - Stream the corpus as NDJSON (for analytics jobs)
+     * Article lines come first, then default summary lines; each line has a "type" field
+     *
+     * @param since Only rows updated at or after this time (optional, ISO date-time)
+     * @param summaries Whether to include default summaries
+     * @param gzip Whether to gzip the response (sent with Content-Encoding: gzip)
+     */
+    @GetMapping("/export")
+    public void exportArticles(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "true") boolean summaries,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream())) {
+                articleExportService.export(since, summaries, out);
+            }
+        } else {
+            articleExportService.export(since, summaries, response.getOutputStream());
+        }
+    }
+
     /**
      * GET /api/v1/articles/{id} - Fetch a specific article
+     * Conditional: answers 304 to a matching If-None-Match / If-Modified-Since from a version lookup,
+     * without loading the article; otherwise the body is served pre-serialized for that version
      *
      * @param id Article ID
      * @return Article details
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ArticleResponseDto> getArticleById(@PathVariable Long id) {
-        ArticleResponseDto article = articleService.getArticleById(id);
-        return ResponseEntity.ok(article);
+    public ResponseEntity<byte[]> getArticleById(@PathVariable Long id, WebRequest request) {
+        Optional<ResourceVersions.Validator> validator = articleService.getArticleValidator(id);
+        if (validator.isPresent()
+                && request.checkNotModified(validator.get().etag(), validator.get().lastModifiedMillis())) {
+            return null;
+        }
+        return jsonResponseCache.ok("article:" + id, validator.map(ResourceVersions.Validator::etag).orElse(null),
+                () -> articleService.getArticleById(id), request);
     }
 
     /**
      * POST /api/v1/articles - Create new article (for Python worker)
+     * Idempotent by canonical URL: re-posting an ingested article returns it with HTTP 200
      *
      * @param requestDto Article data
-     * @return Created article with HTTP 201
+     * @return Created article with HTTP 201, or the existing article with HTTP 200
      */
     @PostMapping
     public ResponseEntity<ArticleResponseDto> createArticle(
             @Valid @RequestBody ArticleRequestDto requestDto) {
-        ArticleResponseDto createdArticle = articleService.createArticle(requestDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdArticle);
+        ArticleService.UpsertResult result = articleService.upsertArticle(requestDto);
+        return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK).body(result.article());
+    }
+
+    /**
+     * POST /api/v1/articles/batch - Create many articles at once (for Python worker)
+     * Duplicates and invalid items are reported per item; the rest are stored
+     *
+     * @param requestDto Articles to ingest (up to 1000)
+     * @return Per-item results in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ArticleBatchResponseDto> createArticles(
+            @Valid @RequestBody ArticleBatchRequestDto requestDto) {
+        ArticleBatchResponseDto result = articleIngestionService.createArticles(requestDto.getArticles());
+        return ResponseEntity.ok(result);
     }
 }
\ No newline at end of file
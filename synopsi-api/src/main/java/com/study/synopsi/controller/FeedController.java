@@ -1,23 +1,32 @@
 package com.study.synopsi.controller;
 
+import com.study.synopsi.dto.CrawlOutcomeBatchRequestDto;
+import com.study.synopsi.dto.CrawlOutcomeBatchResponseDto;
+import com.study.synopsi.dto.CrawlSuccessDto;
+import com.study.synopsi.dto.FeedClaimDto;
 import com.study.synopsi.dto.FeedRequestDto;
 import com.study.synopsi.dto.FeedResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
 import com.study.synopsi.dto.filter.FeedFilterParams;
 import com.study.synopsi.model.Feed;
+import com.study.synopsi.service.CrawlLeaseService;
 import com.study.synopsi.service.FeedService;
+import com.study.synopsi.service.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/feeds")
@@ -26,6 +35,7 @@ import java.util.List;
 public class FeedController {
 
     private final FeedService feedService;
+    private final CrawlLeaseService crawlLeaseService;
 
     // ========================================================================
     // CORE CRUD OPERATIONS
@@ -78,14 +88,19 @@ public class FeedController {
     }
 
     /**
-     * Get feed by ID
+     * Get feed by ID (conditional: 304 when the ETag / Last-Modified still matches)
      * GET /api/v1/feeds/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<FeedResponseDto> getFeedById(@PathVariable Long id) {
+    public ResponseEntity<FeedResponseDto> getFeedById(@PathVariable Long id, WebRequest request) {
         log.info("GET /api/v1/feeds/{}", id);
+        Optional<ResourceVersions.Validator> validator = feedService.getFeedValidator(id);
+        if (validator.isPresent()
+                && request.checkNotModified(validator.get().etag(), validator.get().lastModifiedMillis())) {
+            return null;
+        }
         FeedResponseDto feed = feedService.getFeedById(id);
-        return ResponseEntity.ok(feed);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(feed);
     }
 
     /**
@@ -251,30 +266,72 @@ public class FeedController {
     // ========================================================================
 
     /**
-     * Record successful crawl
-     * POST /api/v1/feeds/{id}/crawl/success
+     * Lease due feeds to this worker (no two claims get the same feed while its lease holds)
+     * POST /api/v1/feeds/crawl/claim?max=20
+     */
+    @PostMapping("/crawl/claim")
+    public ResponseEntity<List<FeedClaimDto>> claimFeeds(@RequestParam(defaultValue = "10") int max) {
+        log.info("POST /api/v1/feeds/crawl/claim?max={}", max);
+        List<FeedClaimDto> feeds = crawlLeaseService.claim(max);
+        return ResponseEntity.ok(feeds);
+    }
+
+    /**
+     * Release feeds leased by one claim without a crawl outcome
+     * POST /api/v1/feeds/crawl/release?leaseToken=...
+     * Body: [1, 2, 3]
+     */
+    @PostMapping("/crawl/release")
+    public ResponseEntity<Void> releaseFeeds(@RequestParam String leaseToken, @RequestBody List<Long> feedIds) {
+        log.info("POST /api/v1/feeds/crawl/release - {} feeds", feedIds.size());
+        crawlLeaseService.release(leaseToken, feedIds);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Record successful crawl (409 if the claim no longer holds the feed's lease)
+     * POST /api/v1/feeds/{id}/crawl/success?leaseToken=...
+     * Optional body: { "etag": "\"abc\"", "lastModified": "...", "contentHash": "...", "notModified": true }
      */
     @PostMapping("/{id}/crawl/success")
-    public ResponseEntity<Void> recordSuccessfulCrawl(@PathVariable Long id) {
+    public ResponseEntity<Void> recordSuccessfulCrawl(
+            @PathVariable Long id,
+            @RequestParam String leaseToken,
+            @RequestBody(required = false) CrawlSuccessDto result) {
         log.info("POST /api/v1/feeds/{}/crawl/success", id);
-        feedService.recordSuccessfulCrawl(id);
+        feedService.recordSuccessfulCrawl(id, leaseToken, result);
         return ResponseEntity.ok().build();
     }
 
     /**
-     * Record failed crawl
-     * POST /api/v1/feeds/{id}/crawl/failure
+     * Record failed crawl (409 if the claim no longer holds the feed's lease)
+     * POST /api/v1/feeds/{id}/crawl/failure?leaseToken=...
      * Body: { "errorMessage": "Connection timeout" }
      */
     @PostMapping("/{id}/crawl/failure")
     public ResponseEntity<Void> recordFailedCrawl(
             @PathVariable Long id,
+            @RequestParam String leaseToken,
             @RequestBody CrawlFailureRequest request) {
         log.warn("POST /api/v1/feeds/{}/crawl/failure - Error: {}", id, request.getErrorMessage());
-        feedService.recordFailedCrawl(id, request.getErrorMessage());
+        feedService.recordFailedCrawl(id, leaseToken, request.getErrorMessage());
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Record the crawl outcomes of many feeds in one request
+     * POST /api/v1/feeds/crawl/outcomes
+     * Body: { "outcomes": [ { "feedId": 1, "leaseToken": "...", "success": true, "etag": "..." },
+     *                       { "feedId": 2, "leaseToken": "...", "success": false, "errorMessage": "Connection timeout" } ] }
+     */
+    @PostMapping("/crawl/outcomes")
+    public ResponseEntity<CrawlOutcomeBatchResponseDto> recordCrawlOutcomes(
+            @Valid @RequestBody CrawlOutcomeBatchRequestDto requestDto) {
+        log.info("POST /api/v1/feeds/crawl/outcomes - {} outcomes", requestDto.getOutcomes().size());
+        CrawlOutcomeBatchResponseDto result = feedService.recordCrawlOutcomes(requestDto.getOutcomes());
+        return ResponseEntity.ok(result);
+    }
+
     // ========================================================================
     // HELPER CLASSES
     // ========================================================================
@@ -0,0 +1,111 @@
+package com.study.synopsi.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.synopsi.config.ResponseCacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized JSON bodies of hot read-only resources (article detail, topic and source lists).
+ * Entries are keyed by the resource's ETag, so a version bump in the owning service makes the old
+ * body unreachable; hits are written as raw bytes without mapping or Jackson serialization.
+ */
+@Component
+public class JsonResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheConfig config;
+    private final Cache<String, Body> bodies;
+
+    /**
+     * Serialized body, plus a gzipped copy when it is large enough to be worth compressing
+     */
+    record Body(byte[] json, byte[] gzip) {
+
+        int weight() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    public JsonResponseCache(ObjectMapper objectMapper, ResponseCacheConfig config, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(config.getMaxBytes())
+                .weigher((String key, Body body) -> body.weight())
+                .expireAfterAccess(config.getExpireAfterAccessMinutes(), TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bodies, "responseBodies");
+    }
+
+    /**
+     * 200 response with the JSON body of a resource version.
+     * The loader only runs on a miss; without an ETag (unversioned) nothing is cached.
+     *
+     * @param resource Representation of the resource (e.g. "article:42", "topics:root")
+     * @param etag     Version of the resource; part of the cache key
+     */
+    public ResponseEntity<byte[]> ok(String resource, String etag, Supplier<?> loader, WebRequest request) {
+        Body body = config.isEnabled() && etag != null
+                ? bodies.get(resource + '|' + etag, key -> serialize(loader.get()))
+                : serialize(loader.get());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (body.gzip() == null) {
+            return response.body(body.json());
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return acceptsGzip(request)
+                ? response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(body.gzip())
+                : response.body(body.json());
+    }
+
+    long size() {
+        return bodies.estimatedSize();
+    }
+
+    private Body serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new Body(json, json.length >= config.getGzipMinBytes() ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+}
@@ -7,9 +7,11 @@ import com.study.synopsi.service.SourceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class SourceController {
 
     private final SourceService sourceService;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * Create a new source
@@ -32,15 +35,29 @@ public class SourceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Typeahead: source names starting with a prefix
+     * GET /api/v1/sources/suggest?prefix=bb&limit=10
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestSourceNames(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(sourceService.suggestSourceNames(prefix, Math.min(Math.max(limit, 1), 50)));
+    }
+
     /**
      * Get source by ID
      * GET /api/v1/sources/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<SourceResponseDto> getSourceById(@PathVariable Long id) {
+    public ResponseEntity<SourceResponseDto> getSourceById(@PathVariable Long id, WebRequest request) {
         log.info("GET /api/v1/sources/{} - Fetching source", id);
+        if (request.checkNotModified(sourceService.getSourcesETag())) {
+            return null;
+        }
         SourceResponseDto response = sourceService.getSourceById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     /**
@@ -48,10 +65,13 @@ public class SourceController {
      * GET /api/v1/sources/{id}?includeFeeds=true
      */
     @GetMapping("/{id}/with-feeds")
-    public ResponseEntity<SourceResponseDto> getSourceByIdWithFeeds(@PathVariable Long id) {
+    public ResponseEntity<SourceResponseDto> getSourceByIdWithFeeds(@PathVariable Long id, WebRequest request) {
         log.info("GET /api/v1/sources/{}/with-feeds - Fetching source with feeds", id);
+        if (request.checkNotModified(sourceService.getSourcesETag())) {
+            return null;
+        }
         SourceResponseDto response = sourceService.getSourceByIdWithFeeds(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     /**
@@ -59,45 +79,50 @@ public class SourceController {
      * GET /api/v1/sources/by-name/{name}
      */
     @GetMapping("/by-name/{name}")
-    public ResponseEntity<SourceResponseDto> getSourceByName(@PathVariable String name) {
+    public ResponseEntity<SourceResponseDto> getSourceByName(@PathVariable String name, WebRequest request) {
         log.info("GET /api/v1/sources/by-name/{} - Fetching source by name", name);
+        if (request.checkNotModified(sourceService.getSourcesETag())) {
+            return null;
+        }
         SourceResponseDto response = sourceService.getSourceByName(name);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     /**
-     * Get all sources
+     * Get all sources (body served pre-serialized for the current sources version)
      * GET /api/v1/sources
      */
     @GetMapping
-    public ResponseEntity<List<SourceResponseDto>> getAllSources(
+    public ResponseEntity<byte[]> getAllSources(
             @RequestParam(required = false) Boolean active,
             @RequestParam(required = false) Source.SourceType type,
-            @RequestParam(required = false, defaultValue = "false") Boolean includeFeeds) {
+            @RequestParam(required = false, defaultValue = "false") Boolean includeFeeds,
+            WebRequest request) {
         
         log.info("GET /api/v1/sources - Fetching sources (active={}, type={}, includeFeeds={})", 
                 active, type, includeFeeds);
-
-        List<SourceResponseDto> response;
+        String etag = sourceService.getSourcesETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
 
         // Filter by active status
         if (active != null && active) {
-            response = sourceService.getActiveSources();
+            return jsonResponseCache.ok("sources:active", etag, sourceService::getActiveSources, request);
         }
         // Filter by type
         else if (type != null) {
-            response = sourceService.getSourcesByType(type);
+            return jsonResponseCache.ok("sources:type=" + type, etag,
+                    () -> sourceService.getSourcesByType(type), request);
         }
         // Include feeds
         else if (includeFeeds) {
-            response = sourceService.getAllSourcesWithFeeds();
+            return jsonResponseCache.ok("sources:with-feeds", etag, sourceService::getAllSourcesWithFeeds, request);
         }
         // Get all
         else {
-            response = sourceService.getAllSources();
+            return jsonResponseCache.ok("sources:all", etag, sourceService::getAllSources, request);
         }
-
-        return ResponseEntity.ok(response);
     }
 
     /**
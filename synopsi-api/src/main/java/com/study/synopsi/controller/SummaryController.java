@@ -2,6 +2,7 @@ package com.study.synopsi.controller;
 
 import com.study.synopsi.model.Summary;
 import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.service.SummaryPrefetchMetrics;
 import com.study.synopsi.service.SummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -149,6 +150,15 @@ public class SummaryController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Get prefetch hit-rate statistics
+     * GET /api/v1/summaries/prefetch/statistics
+     */
+    @GetMapping("/prefetch/statistics")
+    public ResponseEntity<SummaryPrefetchMetrics.PrefetchStatistics> getPrefetchStatistics() {
+        return ResponseEntity.ok(summaryService.getPrefetchStatistics());
+    }
+
     /**
      * Check if summary exists
      * GET /api/v1/summaries/exists
@@ -163,6 +173,16 @@ public class SummaryController {
         return ResponseEntity.ok(exists);
     }
 
+    /**
+     * Worker pickup callback endpoint (called by Python worker when it starts a job)
+     * POST /api/v1/summaries/callback/started
+     */
+    @PostMapping("/callback/started")
+    public ResponseEntity<Void> handleWorkerStarted(@RequestParam Long jobId) {
+        summaryService.handleWorkerStarted(jobId);
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * Worker callback endpoint (called by Python worker when summary is complete)
      * POST /api/v1/summaries/callback/complete
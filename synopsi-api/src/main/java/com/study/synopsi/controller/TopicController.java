@@ -6,9 +6,11 @@ import com.study.synopsi.service.TopicService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,6 +21,7 @@ import java.util.List;
 public class TopicController {
 
     private final TopicService topicService;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * Create a new topic
@@ -38,8 +41,12 @@ public class TopicController {
     @GetMapping("/{id}")
     public ResponseEntity<TopicResponseDto> getTopicById(
             @PathVariable Long id,
-            @RequestParam(required = false, defaultValue = "false") Boolean includeChildren) {
+            @RequestParam(required = false, defaultValue = "false") Boolean includeChildren,
+            WebRequest request) {
         log.info("GET /api/v1/topics/{} - Fetching topic (includeChildren={})", id, includeChildren);
+        if (request.checkNotModified(topicService.getTopicsETag())) {
+            return null;
+        }
         
         TopicResponseDto response;
         if (includeChildren) {
@@ -48,7 +55,7 @@ public class TopicController {
             response = topicService.getTopicById(id);
         }
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     /**
@@ -56,39 +63,43 @@ public class TopicController {
      * GET /api/v1/topics/by-slug/{slug}
      */
     @GetMapping("/by-slug/{slug}")
-    public ResponseEntity<TopicResponseDto> getTopicBySlug(@PathVariable String slug) {
+    public ResponseEntity<TopicResponseDto> getTopicBySlug(@PathVariable String slug, WebRequest request) {
         log.info("GET /api/v1/topics/by-slug/{} - Fetching topic by slug", slug);
+        if (request.checkNotModified(topicService.getTopicsETag())) {
+            return null;
+        }
         TopicResponseDto response = topicService.getTopicBySlug(slug);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     /**
-     * Get all topics
+     * Get all topics (body served pre-serialized for the current topics version)
      * GET /api/v1/topics
      */
     @GetMapping
-    public ResponseEntity<List<TopicResponseDto>> getAllTopics(
+    public ResponseEntity<byte[]> getAllTopics(
             @RequestParam(required = false) Boolean active,
-            @RequestParam(required = false, defaultValue = "false") Boolean rootOnly) {
+            @RequestParam(required = false, defaultValue = "false") Boolean rootOnly,
+            WebRequest request) {
         
         log.info("GET /api/v1/topics - Fetching topics (active={}, rootOnly={})", active, rootOnly);
-
-        List<TopicResponseDto> response;
+        String etag = topicService.getTopicsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
 
         // Filter by root topics only
         if (rootOnly) {
-            response = topicService.getRootTopics();
+            return jsonResponseCache.ok("topics:root", etag, topicService::getRootTopics, request);
         }
         // Filter by active status
         else if (active != null && active) {
-            response = topicService.getActiveTopics();
+            return jsonResponseCache.ok("topics:active", etag, topicService::getActiveTopics, request);
         }
         // Get all
         else {
-            response = topicService.getAllTopics();
+            return jsonResponseCache.ok("topics:all", etag, topicService::getAllTopics, request);
         }
-
-        return ResponseEntity.ok(response);
     }
 
     /**
@@ -96,18 +107,19 @@ public class TopicController {
      * GET /api/v1/topics/root
      */
     @GetMapping("/root")
-    public ResponseEntity<List<TopicResponseDto>> getRootTopics(
-            @RequestParam(required = false, defaultValue = "false") Boolean includeChildren) {
+    public ResponseEntity<byte[]> getRootTopics(
+            @RequestParam(required = false, defaultValue = "false") Boolean includeChildren,
+            WebRequest request) {
         log.info("GET /api/v1/topics/root - Fetching root topics (includeChildren={})", includeChildren);
+        String etag = topicService.getTopicsETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
-        List<TopicResponseDto> response;
         if (includeChildren) {
-            response = topicService.getRootTopicsWithChildren();
-        } else {
-            response = topicService.getRootTopics();
+            return jsonResponseCache.ok("topics:root-tree", etag, topicService::getRootTopicsWithChildren, request);
         }
-        
-        return ResponseEntity.ok(response);
+        return jsonResponseCache.ok("topics:root", etag, topicService::getRootTopics, request);
     }
 
     /**
@@ -115,10 +127,13 @@ public class TopicController {
      * GET /api/v1/topics/{parentId}/children
      */
     @GetMapping("/{parentId}/children")
-    public ResponseEntity<List<TopicResponseDto>> getChildTopics(@PathVariable Long parentId) {
+    public ResponseEntity<List<TopicResponseDto>> getChildTopics(@PathVariable Long parentId, WebRequest request) {
         log.info("GET /api/v1/topics/{}/children - Fetching child topics", parentId);
+        if (request.checkNotModified(topicService.getTopicsETag())) {
+            return null;
+        }
         List<TopicResponseDto> response = topicService.getChildTopics(parentId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     /**
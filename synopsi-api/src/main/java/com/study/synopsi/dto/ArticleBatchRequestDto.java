@@ -0,0 +1,21 @@
+package com.study.synopsi.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBatchRequestDto {
+    // Items are validated individually so one bad article doesn't reject the batch
+    @NotEmpty
+    @Size(max = 1000)
+    private List<ArticleRequestDto> articles;
+}
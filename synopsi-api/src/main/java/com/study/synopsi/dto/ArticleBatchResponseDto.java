@@ -0,0 +1,41 @@
+package com.study.synopsi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk ingestion request
+ * One item per submitted article, in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBatchResponseDto {
+    private int created;
+    private int duplicates;
+    private int failed;
+    private List<ItemResult> results;
+
+    public enum ItemStatus {
+        CREATED,    // Inserted (with a default summary job unless deferred)
+        DUPLICATE,  // URL already stored, or repeated earlier in the batch
+        FAILED      // Invalid article or unknown feed
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private ItemStatus status;
+        private Long articleId;
+        private String originalUrl;
+        private String error;
+    }
+}
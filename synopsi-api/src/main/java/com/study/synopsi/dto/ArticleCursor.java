@@ -0,0 +1,41 @@
+package com.study.synopsi.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (publicationDate DESC, id DESC) article order.
+ * Sent to clients as an opaque URL-safe token.
+ */
+public record ArticleCursor(LocalDateTime publicationDate, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static ArticleCursor of(ArticleListItemDto item) {
+        return new ArticleCursor(item.getPublicationDate(), item.getId());
+    }
+
+    public String encode() {
+        String raw = publicationDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by encode()
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
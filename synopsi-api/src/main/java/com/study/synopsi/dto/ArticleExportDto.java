@@ -0,0 +1,39 @@
+package com.study.synopsi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One article line of the NDJSON export
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleExportDto {
+
+    @Builder.Default
+    private String type = "article";
+
+    private Long id;
+    private String title;
+    private String originalUrl;
+    private LocalDateTime publicationDate;
+    private String author;
+    private String imageUrl;
+    private String description;
+    private String content;
+    private String status;
+    private String language;
+    private Integer wordCount;
+    private Integer readTimeMinutes;
+    private Long canonicalArticleId;
+    private Long feedId;
+    private String sourceName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
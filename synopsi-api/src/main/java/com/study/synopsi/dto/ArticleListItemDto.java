@@ -0,0 +1,51 @@
+package com.study.synopsi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.study.synopsi.model.Article;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Article list view: selected directly by the listing query (feed and source joined in),
+ * without the content column. Content is only included on explicit opt-in (fields=content).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleListItemDto {
+    private Long id;
+    private String title;
+    private String originalUrl;
+    private LocalDateTime publicationDate;
+    private String author;
+    private String imageUrl;
+    private String description;
+    private String status;
+    private Integer readTimeMinutes;
+    private Integer wordCount;
+    private String language;
+    private Long canonicalArticleId;
+    private LocalDateTime createdAt;
+
+    // Include source/feed info
+    private String feedTitle;
+    private String sourceName;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String content;
+
+    // Projection constructor (used by the criteria query, keep in sync with ArticleQueryRepository)
+    public ArticleListItemDto(Long id, String title, String originalUrl, LocalDateTime publicationDate,
+                              String author, String imageUrl, String description, Article.ArticleStatus status,
+                              Integer readTimeMinutes, Integer wordCount, String language, Long canonicalArticleId,
+                              LocalDateTime createdAt, String feedTitle, String sourceName) {
+        this(id, title, originalUrl, publicationDate, author, imageUrl, description,
+                status != null ? status.name() : null, readTimeMinutes, wordCount, language, canonicalArticleId,
+                createdAt, feedTitle, sourceName, null);
+    }
+}
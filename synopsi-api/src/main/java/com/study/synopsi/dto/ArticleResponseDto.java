@@ -23,6 +23,8 @@ public class ArticleResponseDto {
     private String description;
     private String status;
     private Integer readTimeMinutes;
+    private Integer wordCount;
+    private Long canonicalArticleId; // Set when this article is a near-duplicate
     private String language;
     private LocalDateTime createdAt;
     private LocalDateTime summarizedAt;
@@ -0,0 +1,42 @@
+package com.study.synopsi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result of a batch crawl outcome report
+ * One item per reported outcome, in request order, with the feed's new schedule
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlOutcomeBatchResponseDto {
+    private int updated;
+    private int notFound;
+    private int leaseLost;
+    private List<ItemResult> results;
+
+    public enum ItemStatus {
+        UPDATED,    // Outcome recorded and the feed rescheduled
+        NOT_FOUND,  // No feed with this id
+        LEASE_LOST  // The claim no longer holds the feed's lease; nothing was written
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long feedId;
+        private ItemStatus status;
+        private LocalDateTime nextCrawlAt;
+        private Integer crawlIntervalMinutes;
+        private Integer failureCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.synopsi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One crawl result in a batch report: success (with the validators the worker saw) or failure
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlOutcomeDto {
+    @NotNull
+    private Long feedId;
+
+    @NotBlank
+    private String leaseToken;      // From the claim that leased the feed
+
+    @NotNull
+    private Boolean success;
+
+    private String errorMessage;    // Failures only
+
+    // Successes only, as in CrawlSuccessDto
+    private String etag;
+    private String lastModified;
+    private String contentHash;
+    private Boolean notModified;
+}
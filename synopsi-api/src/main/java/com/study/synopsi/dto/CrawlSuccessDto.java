@@ -0,0 +1,21 @@
+package com.study.synopsi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional body of the crawl success callback: the HTTP validators and body hash the worker saw.
+ * They are stored on the feed and handed back with the next claim for a conditional fetch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlSuccessDto {
+    private String etag;            // ETag response header
+    private String lastModified;    // Last-Modified response header, as sent
+    private String contentHash;     // Hash of the fetched body (any stable digest, hex)
+    private Boolean notModified;    // The server answered 304 Not Modified
+}
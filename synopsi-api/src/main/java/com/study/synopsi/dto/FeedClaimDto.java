@@ -0,0 +1,36 @@
+package com.study.synopsi.dto;
+
+import com.study.synopsi.model.Feed;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Crawl lease handed to an ingestion worker: just what it needs to fetch the feed.
+ * Selected directly by the claim query (keep in sync with FeedRepository.findClaimedFeeds).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedClaimDto {
+    private Long id;
+    private String feedUrl;
+    private Feed.FeedType feedType;
+    private Long sourceId;
+    private String sourceName;
+    private Long topicId;
+    private Integer priority;
+    private String leaseToken;            // Send back with the crawl outcome or release
+    private LocalDateTime leaseExpiresAt; // Report success/failure (or release) before this
+
+    // Validators of the last fetch: send them for a conditional GET, compare the body hash
+    private String httpEtag;
+    private String httpLastModified;
+    private String contentHash;
+
+    private Feed.CircuitState circuitState; // HALF_OPEN: a probe of a feed that kept failing
+}
@@ -27,10 +27,18 @@ public class FeedResponseDto {
     private LocalDateTime lastCrawled;
     private LocalDateTime lastSuccessfulCrawl;
     private LocalDateTime lastFailedCrawl;
+    private LocalDateTime nextCrawlAt;
+    private LocalDateTime leaseExpiresAt;
+    private Integer crawlIntervalMinutes;
+    private Double yieldRate;
+    private String httpEtag;
+    private String httpLastModified;
+    private String contentHash;
     private String lastError;
     private Boolean isActive;
     private Integer priority;
     private Integer failureCount;
+    private Feed.CircuitState circuitState;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Integer articleCount; // Number of articles from this feed
@@ -1,5 +1,6 @@
 package com.study.synopsi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,7 @@ import java.util.List;
  */
 @Data
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @AllArgsConstructor
 public class PagedResponseDto<T> {
 
@@ -59,4 +61,20 @@ public class PagedResponseDto<T> {
      * Number of elements in current page
      */
     private int numberOfElements;
+
+    /**
+     * Cursor for the next slice (cursor mode only; null when there is no next slice)
+     */
+    private String nextCursor;
+
+    /**
+     * Approximate total from cached statistics (cursor mode only; null when unknown)
+     */
+    private Long approximateTotal;
+
+    /**
+     * Search matches were capped before filtering and sorting, so totals cover only the first matches
+     * (index search only; null otherwise)
+     */
+    private Boolean truncated;
 }
\ No newline at end of file
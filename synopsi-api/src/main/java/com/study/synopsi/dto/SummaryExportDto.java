@@ -0,0 +1,31 @@
+package com.study.synopsi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One summary line of the NDJSON export (default summaries only)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryExportDto {
+
+    @Builder.Default
+    private String type = "summary";
+
+    private Long id;
+    private Long articleId;
+    private String summaryType;
+    private String summaryLength;
+    private String summaryText;
+    private String modelVersion;
+    private Integer tokenCount;
+    private Boolean provisional;
+    private LocalDateTime generatedAt;
+}
@@ -59,6 +59,21 @@ public class ArticleFilterParams {
      */
     private String searchTerm;
 
+    /**
+     * Whether any filter other than the search term is set
+     */
+    public boolean hasNonSearchFilters() {
+        return status != null || feedId != null || (source != null && !source.isBlank())
+                || startDate != null || endDate != null || (language != null && !language.isBlank());
+    }
+
+    /**
+     * Whether any filter, including the search term, is set
+     */
+    public boolean hasFilters() {
+        return hasNonSearchFilters() || (searchTerm != null && !searchTerm.isBlank());
+    }
+
     /**
      * Validate that startDate is before endDate
      */
@@ -0,0 +1,17 @@
+package com.study.synopsi.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a crawl outcome comes from a claim that no longer holds the feed's lease
+ * (it expired and another claim took the feed, or the lease already ended).
+ * Maps to HTTP 409 CONFLICT.
+ */
+public class CrawlLeaseLostException extends BaseException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public CrawlLeaseLostException(Long feedId) {
+        super(String.format("Crawl lease of feed %d is no longer held by this claim", feedId));
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.synopsi.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a request is rejected by admission control.
+ * Maps to HTTP 429 TOO_MANY_REQUESTS with a Retry-After header.
+ */
+public class TooManyRequestsException extends BaseException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public static TooManyRequestsException userRateLimited(Long userId, long retryAfterSeconds) {
+        return new TooManyRequestsException(
+                String.format("Summary request rate exceeded for user %s", userId != null ? userId : "anonymous"),
+                retryAfterSeconds
+        );
+    }
+
+    public static TooManyRequestsException queueSaturated(long queueDepth, long retryAfterSeconds) {
+        return new TooManyRequestsException(
+                String.format("Summary queue is saturated (%d jobs queued), please retry later", queueDepth),
+                retryAfterSeconds
+        );
+    }
+}
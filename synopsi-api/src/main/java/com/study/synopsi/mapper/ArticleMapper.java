@@ -5,6 +5,7 @@ import com.study.synopsi.dto.ArticleResponseDto;
 import com.study.synopsi.model.Article;
 import com.study.synopsi.model.Feed;
 import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.util.ContentAnalyzer;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -17,6 +18,10 @@ import java.time.LocalDateTime;
 )
 public abstract class ArticleMapper {
 
+    // Detected language only replaces the default when the guess is reasonably sure
+    private static final double MIN_LANGUAGE_CONFIDENCE = 0.5;
+    private static final String DEFAULT_LANGUAGE = "en";
+
     @Autowired
     protected FeedRepository feedRepository;
 
@@ -24,8 +29,6 @@ public abstract class ArticleMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "feed", source = "feedId", qualifiedByName = "feedIdToFeed")
     @Mapping(target = "status", constant = "PENDING")
-    @Mapping(target = "language", source = "language", defaultValue = "en")
-    @Mapping(target = "readTimeMinutes", source = ".", qualifiedByName = "calculateReadTime")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "summaries", ignore = true)
@@ -34,6 +37,40 @@ public abstract class ArticleMapper {
     @Mapping(target = "articleFeedback", ignore = true)
     public abstract Article toEntity(ArticleRequestDto dto);
 
+    // DTO → Entity with an already-resolved feed (bulk ingestion, avoids a feed lookup per article)
+    @InheritConfiguration(name = "toEntity")
+    @Mapping(target = "feed", ignore = true)
+    public abstract Article toEntityWithFeed(ArticleRequestDto dto, @Context Feed feed);
+
+    // Derive content features in one pass; only new entities (updates never change the content)
+    @AfterMapping
+    protected void applyContentFeatures(ArticleRequestDto dto, @MappingTarget Article article) {
+        if (article.getId() != null) {
+            return;
+        }
+        ContentAnalyzer.ContentFeatures features = ContentAnalyzer.analyze(dto.getContent());
+        article.setWordCount(features.wordCount());
+        article.setContentFingerprint(features.fingerprint());
+        article.setSimHash(features.simHash());
+        article.setLanguageConfidence(features.languageConfidence());
+
+        if (article.getReadTimeMinutes() == null || article.getReadTimeMinutes() <= 0) {
+            article.setReadTimeMinutes(features.readTimeMinutes());
+        }
+        if (article.getLanguage() == null) {
+            boolean detected = features.language() != null && features.languageConfidence() >= MIN_LANGUAGE_CONFIDENCE;
+            article.setLanguage(detected ? features.language() : DEFAULT_LANGUAGE);
+        }
+        if (article.getDescription() == null || article.getDescription().isBlank()) {
+            article.setDescription(features.excerpt());
+        }
+    }
+
+    @AfterMapping
+    protected void attachFeed(@MappingTarget Article article, @Context Feed feed) {
+        article.setFeed(feed);
+    }
+
     // Entity → DTO (for returning article in responses)
     @Mapping(target = "status", source = "status", qualifiedByName = "statusToString")
     @Mapping(target = "feedTitle", source = "feed.title")
@@ -82,12 +119,8 @@ public abstract class ArticleMapper {
             return 1; // Default minimum read time
         }
 
-        // Average reading speed: 200 words per minute
-        String content = dto.getContent().trim();
-        int wordCount = content.split("\\s+").length;
-        int readTime = (int) Math.ceil(wordCount / 200.0);
-
-        return Math.max(1, readTime); // Minimum 1 minute
+        // Average reading speed: 200 words per minute, minimum 1 minute
+        return ContentAnalyzer.readTimeMinutes(ContentAnalyzer.countWords(dto.getContent()));
     }
 
     @Named("statusToString")
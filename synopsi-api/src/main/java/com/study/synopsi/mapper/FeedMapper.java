@@ -33,6 +33,12 @@ public abstract class FeedMapper {
     @Mapping(target = "articleCount", expression = "java(getArticleCount(feed))")
     public abstract FeedResponseDto toDto(Feed feed);
 
+    // Entity → DTO for crawl scheduling (articleCount would load every article of the feed)
+    @Named("crawl")
+    @InheritConfiguration(name = "toDto")
+    @Mapping(target = "articleCount", ignore = true)
+    public abstract FeedResponseDto toCrawlDto(Feed feed);
+
     // DTO → Entity (for creating new feeds)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "source", source = "sourceId", qualifiedByName = "sourceIdToSource")
@@ -41,6 +47,15 @@ public abstract class FeedMapper {
     @Mapping(target = "lastCrawled", ignore = true)
     @Mapping(target = "lastSuccessfulCrawl", ignore = true)
     @Mapping(target = "lastFailedCrawl", ignore = true)
+    @Mapping(target = "nextCrawlAt", ignore = true)
+    @Mapping(target = "leaseToken", ignore = true)
+    @Mapping(target = "leaseExpiresAt", ignore = true)
+    @Mapping(target = "crawlIntervalMinutes", ignore = true)
+    @Mapping(target = "yieldRate", ignore = true)
+    @Mapping(target = "httpEtag", ignore = true)
+    @Mapping(target = "httpLastModified", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "circuitState", ignore = true)
     @Mapping(target = "lastError", ignore = true)
     @Mapping(target = "failureCount", constant = "0")
     @Mapping(target = "createdAt", ignore = true)
@@ -55,6 +70,15 @@ public abstract class FeedMapper {
     @Mapping(target = "lastCrawled", ignore = true)
     @Mapping(target = "lastSuccessfulCrawl", ignore = true)
     @Mapping(target = "lastFailedCrawl", ignore = true)
+    @Mapping(target = "nextCrawlAt", ignore = true)
+    @Mapping(target = "leaseToken", ignore = true)
+    @Mapping(target = "leaseExpiresAt", ignore = true)
+    @Mapping(target = "crawlIntervalMinutes", ignore = true)
+    @Mapping(target = "yieldRate", ignore = true)
+    @Mapping(target = "httpEtag", ignore = true)
+    @Mapping(target = "httpLastModified", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "circuitState", ignore = true)
     @Mapping(target = "lastError", ignore = true)
     @Mapping(target = "failureCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -89,4 +113,7 @@ public abstract class FeedMapper {
 
     // Helper method for batch conversions
     public abstract List<FeedResponseDto> toDtoList(List<Feed> feeds);
+
+    @IterableMapping(qualifiedByName = "crawl")
+    public abstract List<FeedResponseDto> toCrawlDtoList(List<Feed> feeds);
 }
\ No newline at end of file
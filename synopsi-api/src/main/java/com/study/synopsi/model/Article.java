@@ -1,6 +1,7 @@
 package com.study.synopsi.model;
 
 import jakarta.persistence.*;
+import com.study.synopsi.util.UrlCanonicalizer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,7 +16,11 @@ import java.util.Set;
 @Table(name = "articles", indexes = {
         @Index(name = "idx_article_publication_date", columnList = "publicationDate"),
         @Index(name = "idx_article_feed_id", columnList = "feed_id"),
-        @Index(name = "idx_article_created_at", columnList = "createdAt")
+        @Index(name = "idx_article_feed_created", columnList = "feed_id, createdAt"),
+        @Index(name = "idx_article_created_at", columnList = "createdAt"),
+        @Index(name = "idx_article_url_hash", columnList = "urlHash", unique = true),
+        @Index(name = "idx_article_content_fingerprint", columnList = "contentFingerprint"),
+        @Index(name = "idx_article_canonical_id", columnList = "canonicalArticleId")
 })
 @Data
 @NoArgsConstructor
@@ -29,9 +34,12 @@ public class Article {
     @Column(nullable = false, length = 500)
     private String title;
 
-    @Column(nullable = false, unique = true, length = 2048)
+    @Column(nullable = false, length = 2048)
     private String originalUrl;
 
+    @Column(nullable = false, length = UrlCanonicalizer.HASH_LENGTH)
+    private String urlHash; // SHA-256 of the canonical URL; identity key for dedup/upsert
+
     @Column(columnDefinition = "TEXT")
     private String content; // Full article text
 
@@ -57,6 +65,28 @@ public class Article {
     @Column(length = 100)
     private String language; // e.g., "en", "es", "fr"
 
+    // Content features, derived once at creation by ContentAnalyzer
+    @Column
+    private Integer wordCount;
+
+    @Column
+    private Long contentFingerprint; // Hash of the normalized word sequence (exact duplicates)
+
+    @Column
+    private Long simHash; // 64-bit SimHash over word bigrams (near duplicates)
+
+    @Column
+    private Double languageConfidence; // Confidence of the detected language, 0-1
+
+    @Column
+    private Long canonicalArticleId; // Set on near-duplicates: first ingested copy of the same story
+
+    @Column
+    private Integer archiveSegment; // ARCHIVED: segment file holding the content
+
+    @Column
+    private Long archiveOffset; // ARCHIVED: offset of the content's block in the segment
+
     // Timestamps for our system
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -85,12 +115,21 @@ public class Article {
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Summary> summaries = new HashSet<>();
 
+    // Derive the identity key from the URL when it wasn't set explicitly
+    @PrePersist
+    protected void assignUrlHash() {
+        if (urlHash == null && originalUrl != null) {
+            urlHash = UrlCanonicalizer.hash(originalUrl);
+        }
+    }
+
     // Enum for article processing status
     public enum ArticleStatus {
         PENDING,        // Just fetched, not yet processed
         PROCESSING,     // Currently being summarized
         SUMMARIZED,     // Summary generated successfully
         FAILED,         // Summary generation failed
+        DUPLICATE,      // Near-duplicate of a canonical article, not summarized
         ARCHIVED        // Old article, archived
     }
 
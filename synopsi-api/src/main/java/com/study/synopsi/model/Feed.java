@@ -14,7 +14,9 @@ import java.util.Set;
 @Entity
 @Table(name = "feeds", indexes = {
         @Index(name = "idx_feed_last_crawled", columnList = "lastCrawled"),
-        @Index(name = "idx_feed_is_active", columnList = "isActive")
+        @Index(name = "idx_feed_is_active", columnList = "isActive"),
+        @Index(name = "idx_feed_crawl_due", columnList = "isActive, nextCrawlAt, priority"),
+        @Index(name = "idx_feed_lease_token", columnList = "leaseToken")
 })
 @Data
 @NoArgsConstructor
@@ -49,6 +51,12 @@ public class Feed {
     @Column(nullable = false)
     private Integer crawlFrequencyMinutes = 60; // How often to check this feed
 
+    @Column
+    private Integer crawlIntervalMinutes; // Interval adapted to the feed's yield (crawlFrequencyMinutes until estimated)
+
+    @Column
+    private Double yieldRate; // Exponentially weighted estimate of new articles per hour
+
     @Column
     private LocalDateTime lastCrawled;
 
@@ -58,6 +66,24 @@ public class Feed {
     @Column
     private LocalDateTime lastFailedCrawl;
 
+    @Column
+    private LocalDateTime nextCrawlAt; // When the feed is next due (lastCrawled + crawlFrequencyMinutes)
+
+    @Column(length = 36)
+    private String leaseToken; // Claim that currently holds the crawl lease (null when not leased)
+
+    @Column
+    private LocalDateTime leaseExpiresAt; // The feed becomes claimable again after this
+
+    @Column(length = 512)
+    private String httpEtag; // Validators from the last fetch, sent back as If-None-Match / If-Modified-Since
+
+    @Column(length = 64)
+    private String httpLastModified;
+
+    @Column(length = 128)
+    private String contentHash; // Hash of the last fetched body (detects unchanged feeds without validators)
+
     @Column(columnDefinition = "TEXT")
     private String lastError; // Store last error message for debugging
 
@@ -70,6 +96,10 @@ public class Feed {
     @Column(nullable = false)
     private Integer failureCount = 0; // Track consecutive failures
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private CircuitState circuitState = CircuitState.CLOSED; // Null on rows stored before the breaker existed
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -89,6 +119,12 @@ public class Feed {
         OTHER
     }
 
+    public enum CircuitState {
+        CLOSED,     // Crawled on its schedule
+        OPEN,       // Failing: left alone until its cool-down ends
+        HALF_OPEN   // Cool-down over: one probe crawl is leased
+    }
+
     // Helper methods
     public void addArticle(Article article) {
         articles.add(article);
@@ -97,15 +133,71 @@ public class Feed {
 
     public void recordSuccessfulCrawl() {
         this.lastCrawled = LocalDateTime.now();
-        this.lastSuccessfulCrawl = LocalDateTime.now();
+        this.lastSuccessfulCrawl = lastCrawled;
         this.failureCount = 0;
         this.lastError = null;
+        releaseLease();
+        scheduleNextCrawl();
     }
 
     public void recordFailedCrawl(String errorMessage) {
         this.lastCrawled = LocalDateTime.now();
-        this.lastFailedCrawl = LocalDateTime.now();
+        this.lastFailedCrawl = lastCrawled;
         this.failureCount++;
         this.lastError = errorMessage;
+        releaseLease();
+        scheduleNextCrawl();
+    }
+
+    // A 304 may omit validators, so only the ones sent replace the stored ones
+    public void updateValidators(String etag, String lastModified, String contentHash) {
+        if (etag != null) {
+            this.httpEtag = etag;
+        }
+        if (lastModified != null) {
+            this.httpLastModified = lastModified;
+        }
+        if (contentHash != null) {
+            this.contentHash = contentHash;
+        }
+    }
+
+    public void clearValidators() {
+        this.httpEtag = null;
+        this.httpLastModified = null;
+        this.contentHash = null;
+    }
+
+    public CircuitState currentCircuitState() {
+        return circuitState != null ? circuitState : CircuitState.CLOSED;
+    }
+
+    public boolean holdsLease(String token) {
+        return leaseToken != null && leaseToken.equals(token);
+    }
+
+    public void releaseLease() {
+        this.leaseToken = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public int currentCrawlInterval() {
+        return crawlIntervalMinutes != null ? crawlIntervalMinutes : crawlFrequencyMinutes;
+    }
+
+    public void scheduleNextCrawl() {
+        scheduleNextCrawl(currentCrawlInterval());
+    }
+
+    // Never-crawled feeds are due right away
+    public void scheduleNextCrawl(int intervalMinutes) {
+        this.nextCrawlAt = lastCrawled != null ? lastCrawled.plusMinutes(intervalMinutes) : LocalDateTime.now();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (nextCrawlAt == null) {
+            scheduleNextCrawl();
+        }
     }
 }
\ No newline at end of file
@@ -62,6 +62,12 @@ public class Summary {
     @Column(nullable = false)
     private Integer regenerationCount = 0;
 
+    @Column(nullable = false)
+    private Boolean prefetched = false; // Generated ahead of demand by the prefetch planner
+
+    @Column(nullable = false)
+    private Boolean provisional = false; // In-process extractive summary, superseded by the worker result
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -60,6 +60,9 @@ public class SummaryJob {
     @Column(length = 255)
     private String workerJobId; // ID from Python worker when it exists
 
+    @Column(nullable = false)
+    private Boolean prefetched = false; // Speculatively enqueued by the prefetch planner
+
     @Column(nullable = false)
     private LocalDateTime submittedAt;
 
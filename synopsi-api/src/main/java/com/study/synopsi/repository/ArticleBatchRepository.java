@@ -0,0 +1,179 @@
+package com.study.synopsi.repository;
+
+import com.study.synopsi.archive.SegmentArchive;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.model.SummaryJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writes for bulk ingestion and archival.
+ * Articles use IDENTITY ids, which stops Hibernate from batching inserts, so the bulk path
+ * writes rows directly with one batched statement per table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleBatchRepository {
+
+    private static final String INSERT_ARTICLE = """
+            INSERT INTO articles (title, original_url, url_hash, content, publication_date, author, image_url,
+                                  description, status, read_time_minutes, language, word_count,
+                                  content_fingerprint, sim_hash, language_confidence, canonical_article_id,
+                                  feed_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DEFAULT_JOB = """
+            INSERT INTO summary_jobs (article_id, summary_type, summary_length, status, priority, attempts,
+                                      max_attempts, prefetched, submitted_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 0, 3, FALSE, ?, ?, ?)
+            """;
+
+    // Content moves to the archive tier; the row keeps the block location
+    private static final String MARK_ARCHIVED = """
+            UPDATE articles SET content = NULL, status = 'ARCHIVED', archive_segment = ?, archive_offset = ?
+            WHERE id = ? AND status <> 'ARCHIVED'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert articles in one JDBC batch and set the generated ids on the entities
+     */
+    public void insertArticles(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ARTICLE, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Article article = articles.get(i);
+                        ps.setString(1, article.getTitle());
+                        ps.setString(2, article.getOriginalUrl());
+                        ps.setString(3, article.getUrlHash());
+                        ps.setString(4, article.getContent());
+                        ps.setTimestamp(5, Timestamp.valueOf(article.getPublicationDate()));
+                        ps.setString(6, article.getAuthor());
+                        ps.setString(7, article.getImageUrl());
+                        ps.setString(8, article.getDescription());
+                        ps.setString(9, article.getStatus().name());
+                        setInteger(ps, 10, article.getReadTimeMinutes());
+                        ps.setString(11, article.getLanguage());
+                        setInteger(ps, 12, article.getWordCount());
+                        setLong(ps, 13, article.getContentFingerprint());
+                        setLong(ps, 14, article.getSimHash());
+                        setDouble(ps, 15, article.getLanguageConfidence());
+                        setLong(ps, 16, article.getCanonicalArticleId());
+                        ps.setLong(17, article.getFeed().getId());
+                        ps.setTimestamp(18, now);
+                        ps.setTimestamp(19, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return articles.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < articles.size(); i++) {
+            articles.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    /**
+     * Insert a QUEUED default (BRIEF/MEDIUM) summary job for each article in one JDBC batch
+     */
+    public void insertDefaultSummaryJobs(List<Long> articleIds, int priority) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_DEFAULT_JOB, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, articleIds.get(i));
+                ps.setString(2, Summary.SummaryType.BRIEF.name());
+                ps.setString(3, Summary.SummaryLength.MEDIUM.name());
+                ps.setString(4, SummaryJob.JobStatus.QUEUED.name());
+                ps.setInt(5, priority);
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+                ps.setTimestamp(8, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return articleIds.size();
+            }
+        });
+    }
+
+    /**
+     * Drop archived content from the hot table and record where it went, in one JDBC batch
+     */
+    public void markArchived(List<SegmentArchive.Location> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MARK_ARCHIVED, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SegmentArchive.Location location = locations.get(i);
+                ps.setInt(1, location.segment());
+                ps.setLong(2, location.offset());
+                ps.setLong(3, location.articleId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return locations.size();
+            }
+        });
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.study.synopsi.repository;
+
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Summary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Forward-only streaming queries for the bulk export.
+ * Streams must be consumed and closed inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleExportRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Articles (with feed and source) updated since the given time, or all when since is null, in id order
+     */
+    public Stream<Article> streamArticles(LocalDateTime since, int fetchSize) {
+        TypedQuery<Article> query = entityManager.createQuery(
+                "SELECT a FROM Article a LEFT JOIN FETCH a.feed f LEFT JOIN FETCH f.source " +
+                        (since != null ? "WHERE a.updatedAt >= :since " : "") + "ORDER BY a.id", Article.class);
+        if (since != null) {
+            query.setParameter("since", since);
+        }
+        return stream(query, fetchSize);
+    }
+
+    /**
+     * Completed default summaries (user = null) updated since the given time, or all when since is null, in id order
+     */
+    public Stream<Summary> streamDefaultSummaries(LocalDateTime since, int fetchSize) {
+        TypedQuery<Summary> query = entityManager.createQuery(
+                "SELECT s FROM Summary s WHERE s.user IS NULL AND s.status = :status " +
+                        (since != null ? "AND s.updatedAt >= :since " : "") + "ORDER BY s.id", Summary.class);
+        query.setParameter("status", Summary.SummaryStatus.COMPLETED);
+        if (since != null) {
+            query.setParameter("since", since);
+        }
+        return stream(query, fetchSize);
+    }
+
+    /**
+     * Detach everything loaded so far; streamed rows are never needed again
+     */
+    public void clear() {
+        entityManager.clear();
+    }
+
+    // Helper methods
+
+    private <T> Stream<T> stream(TypedQuery<T> query, int fetchSize) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.synopsi.repository;
+
+import com.study.synopsi.dto.ArticleCursor;
+import com.study.synopsi.dto.ArticleListItemDto;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.Source;
+import com.study.synopsi.specification.ArticleSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Criteria queries that Spring Data specifications can't express directly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleQueryRepository {
+
+    // Keyset order; matches idx_article_publication_date with id as the tie-breaker
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "publicationDate", "id");
+
+    private final EntityManager entityManager;
+
+    /**
+     * Ids of the articles matching a specification, without loading the entities
+     */
+    public List<Long> findIds(Specification<Article> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(root.get("id")).where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Page of list items matching a specification (one query, plus a count only when needed)
+     */
+    public Page<ArticleListItemDto> findListItems(Specification<Article> specification, Pageable pageable) {
+        TypedQuery<ArticleListItemDto> query = listItemQuery(specification, pageable);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(specification));
+    }
+
+    /**
+     * All list items matching a specification, unordered
+     */
+    public List<ArticleListItemDto> findListItems(Specification<Article> specification) {
+        return listItemQuery(specification, Pageable.unpaged()).getResultList();
+    }
+
+    /**
+     * Slice of list items after a keyset cursor, newest first; no count query is run.
+     * One extra row is read to tell whether another slice follows.
+     */
+    public Slice<ArticleListItemDto> findListItemsAfter(Specification<Article> specification, ArticleCursor cursor, int size) {
+        TypedQuery<ArticleListItemDto> query = listItemQuery(
+                specification.and(ArticleSpecification.after(cursor)), PageRequest.of(0, size, KEYSET_SORT));
+        query.setMaxResults(size + 1);
+        List<ArticleListItemDto> items = query.getResultList();
+        boolean hasNext = items.size() > size;
+        return new SliceImpl<>(hasNext ? items.subList(0, size) : items, PageRequest.of(0, size, KEYSET_SORT), hasNext);
+    }
+
+    /**
+     * Approximate number of stored articles, cached so cursor pages can report a total for free
+     */
+    @Cacheable(value = "articleStats", key = "'total'")
+    public long estimateTotal() {
+        return count((root, query, criteriaBuilder) -> criteriaBuilder.conjunction());
+    }
+
+    public long count(Specification<Article> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(criteriaBuilder.count(root)).where(specification.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Helper methods
+
+    private TypedQuery<ArticleListItemDto> listItemQuery(Specification<Article> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArticleListItemDto> query = criteriaBuilder.createQuery(ArticleListItemDto.class);
+        Root<Article> root = query.from(Article.class);
+        Join<Article, Feed> feed = root.join("feed", JoinType.LEFT);
+        Join<Feed, Source> source = feed.join("source", JoinType.LEFT);
+
+        query.select(criteriaBuilder.construct(ArticleListItemDto.class,
+                        root.get("id"),
+                        root.get("title"),
+                        root.get("originalUrl"),
+                        root.get("publicationDate"),
+                        root.get("author"),
+                        root.get("imageUrl"),
+                        root.get("description"),
+                        root.get("status"),
+                        root.get("readTimeMinutes"),
+                        root.get("wordCount"),
+                        root.get("language"),
+                        root.get("canonicalArticleId"),
+                        root.get("createdAt"),
+                        feed.get("title"),
+                        source.get("name")))
+                .where(specification.toPredicate(root, query, criteriaBuilder));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query);
+    }
+}
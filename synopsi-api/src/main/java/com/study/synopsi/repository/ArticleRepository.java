@@ -1,10 +1,20 @@
 package com.study.synopsi.repository;
 
 import com.study.synopsi.model.Article;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long>,
         JpaSpecificationExecutor<Article> {
@@ -24,4 +34,132 @@ public interface ArticleRepository extends JpaRepository<Article, Long>,
     // Add custom queries here if needed, for example:
     // List<Article> findByStatus(Article.ArticleStatus status);
     // List<Article> findByPublicationDateBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    /**
+     * Find an article by canonical URL hash (single indexed probe, feed and source fetched for the response)
+     */
+    @EntityGraph(attributePaths = {"feed", "feed.source"})
+    Optional<Article> findByUrlHash(String urlHash);
+
+    /**
+     * Which of these URL hashes are already stored (duplicate check for bulk ingestion, one query)
+     * Returns [urlHash, articleId] pairs
+     */
+    @Query("SELECT a.urlHash, a.id FROM Article a WHERE a.urlHash IN :urlHashes")
+    List<Object[]> findIdsByUrlHashes(@Param("urlHashes") Collection<String> urlHashes);
+
+    /**
+     * Find articles whose default summary job was deferred by admission control
+     * (still PENDING with no job), highest feed priority and oldest first
+     */
+    @Query("""
+        SELECT a.id FROM Article a
+        WHERE a.status = 'PENDING'
+        AND NOT EXISTS (SELECT j.id FROM SummaryJob j WHERE j.article = a)
+        ORDER BY a.feed.priority DESC, a.createdAt ASC
+        """)
+    List<Long> findDeferredArticleIds(Pageable pageable);
+
+    /**
+     * Find recently published, summarized articles as prefetch candidates
+     * Returns [articleId, sourceId] pairs, newest first
+     */
+    @Query("""
+        SELECT a.id, a.feed.source.id FROM Article a
+        WHERE a.status = 'SUMMARIZED'
+        AND a.publicationDate >= :since
+        ORDER BY a.publicationDate DESC
+        """)
+    List<Object[]> findPrefetchCandidates(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * Find topic assignments for a set of articles
+     * Returns [articleId, topicId] pairs
+     */
+    @Query("SELECT at.article.id, at.topic.id FROM ArticleTopic at WHERE at.article.id IN :articleIds")
+    List<Object[]> findTopicIdsByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
+    /**
+     * Find SimHashes of recent articles to warm the near-duplicate index
+     * Returns [articleId, simHash, canonicalArticleId] triples, newest first
+     */
+    @Query("""
+        SELECT a.id, a.simHash, a.canonicalArticleId FROM Article a
+        WHERE a.createdAt >= :since
+        AND a.simHash IS NOT NULL
+        AND a.wordCount >= :minWords
+        ORDER BY a.id DESC
+        """)
+    List<Object[]> findSimHashesSince(@Param("since") LocalDateTime since,
+                                      @Param("minWords") int minWords,
+                                      Pageable pageable);
+
+    /**
+     * Oldest surviving member of a near-duplicate cluster (successor when the canonical is deleted)
+     */
+    Optional<Article> findFirstByCanonicalArticleIdOrderByIdAsc(Long canonicalArticleId);
+
+    /**
+     * Move the members of a near-duplicate cluster to a new canonical article
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Article a SET a.canonicalArticleId = :newId WHERE a.canonicalArticleId = :oldId")
+    int repointCanonical(@Param("oldId") Long oldId, @Param("newId") Long newId);
+
+    /**
+     * Find articles changed since the given time, in id order (search index rebuild, keyset paging)
+     */
+    @Query("""
+        SELECT a FROM Article a
+        WHERE a.updatedAt >= :since
+        AND a.id > :afterId
+        ORDER BY a.id
+        """)
+    List<Article> findForIndexing(@Param("since") LocalDateTime since,
+                                  @Param("afterId") long afterId,
+                                  Pageable pageable);
+
+    /**
+     * Find article ids in id order (search index pruning after a snapshot restore, keyset paging)
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT MAX(a.id) FROM Article a")
+    Long findMaxId();
+
+    /**
+     * Version columns of one article for conditional GETs, without loading the entity
+     * Returns [updatedAt, status, latest summary updatedAt]; status is included because archiving
+     * rewrites the row without touching updatedAt
+     */
+    @Query("""
+        SELECT a.updatedAt, a.status, (SELECT MAX(s.updatedAt) FROM Summary s WHERE s.article.id = a.id)
+        FROM Article a WHERE a.id = :id
+        """)
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find content for a set of articles (opt-in content on list views)
+     * Returns [articleId, content, archiveSegment, archiveOffset]; archived rows have null content
+     */
+    @Query("SELECT a.id, a.content, a.archiveSegment, a.archiveOffset FROM Article a WHERE a.id IN :ids")
+    List<Object[]> findContentByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find content of cold articles to move to the archive tier, in id order (keyset paging)
+     * Returns [articleId, content] pairs
+     */
+    @Query("""
+        SELECT a.id, a.content FROM Article a
+        WHERE a.publicationDate < :cutoff
+        AND a.status IN :statuses
+        AND a.content IS NOT NULL
+        AND a.id > :afterId
+        ORDER BY a.id
+        """)
+    List<Object[]> findArchivableContent(@Param("cutoff") LocalDateTime cutoff,
+                                         @Param("statuses") Collection<Article.ArticleStatus> statuses,
+                                         @Param("afterId") long afterId,
+                                         Pageable pageable);
+}
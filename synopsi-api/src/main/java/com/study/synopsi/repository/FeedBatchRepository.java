@@ -0,0 +1,89 @@
+package com.study.synopsi.repository;
+
+import com.study.synopsi.model.Feed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writes for crawl outcomes.
+ * Hibernate would flush one UPDATE per feed (no JDBC batching is configured), so a batch report
+ * writes the crawl state of every feed with one batched statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedBatchRepository {
+
+    // Ends the crawl lease: the outcome is in. Rows whose lease another claim took by now are left alone.
+    private static final String UPDATE_CRAWL_STATE = """
+            UPDATE feeds SET last_crawled = ?, last_successful_crawl = ?, last_failed_crawl = ?, failure_count = ?,
+                             last_error = ?, next_crawl_at = ?, crawl_interval_minutes = ?, yield_rate = ?,
+                             http_etag = ?, http_last_modified = ?, content_hash = ?, circuit_state = ?,
+                             lease_token = NULL, lease_expires_at = NULL, updated_at = ?
+            WHERE id = ? AND lease_token = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Write the crawl fields of the given feeds in one JDBC batch, each guarded by the lease token it was reported with
+     */
+    public void updateCrawlState(List<Feed> feeds, Map<Long, String> leaseTokens) {
+        if (feeds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_CRAWL_STATE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Feed feed = feeds.get(i);
+                setTimestamp(ps, 1, feed.getLastCrawled());
+                setTimestamp(ps, 2, feed.getLastSuccessfulCrawl());
+                setTimestamp(ps, 3, feed.getLastFailedCrawl());
+                ps.setInt(4, feed.getFailureCount());
+                ps.setString(5, feed.getLastError());
+                setTimestamp(ps, 6, feed.getNextCrawlAt());
+                if (feed.getCrawlIntervalMinutes() != null) {
+                    ps.setInt(7, feed.getCrawlIntervalMinutes());
+                } else {
+                    ps.setNull(7, Types.INTEGER);
+                }
+                if (feed.getYieldRate() != null) {
+                    ps.setDouble(8, feed.getYieldRate());
+                } else {
+                    ps.setNull(8, Types.DOUBLE);
+                }
+                ps.setString(9, feed.getHttpEtag());
+                ps.setString(10, feed.getHttpLastModified());
+                ps.setString(11, feed.getContentHash());
+                ps.setString(12, feed.currentCircuitState().name());
+                ps.setTimestamp(13, now);
+                ps.setLong(14, feed.getId());
+                ps.setString(15, leaseTokens.get(feed.getId()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return feeds.size();
+            }
+        });
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+}
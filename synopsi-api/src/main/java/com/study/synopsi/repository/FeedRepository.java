@@ -1,14 +1,24 @@
 package com.study.synopsi.repository;
 
+import com.study.synopsi.dto.FeedClaimDto;
 import com.study.synopsi.model.Feed;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FeedRepository extends JpaRepository<Feed, Long>, JpaSpecificationExecutor<Feed> {
@@ -25,16 +35,93 @@ public interface FeedRepository extends JpaRepository<Feed, Long>, JpaSpecificat
     boolean existsByFeedUrl(String feedUrl);
 
     // Query for feeds that need crawling
-    // Returns feeds where: isActive = true AND (lastCrawled is null OR lastCrawled + crawlFrequencyMinutes <= now)
+    // Returns feeds where: isActive = true AND nextCrawlAt <= now (a range scan on idx_feed_crawl_due)
     @Query("""
         SELECT f FROM Feed f
+        LEFT JOIN FETCH f.source
+        LEFT JOIN FETCH f.topic
         WHERE f.isActive = true
-        AND (f.lastCrawled IS NULL
-            OR FUNCTION('TIMESTAMPADD', MINUTE, f.crawlFrequencyMinutes, f.lastCrawled) <= :now)
-        ORDER BY f.priority DESC, f.lastCrawled ASC NULLS FIRST
+        AND f.nextCrawlAt <= :now
+        ORDER BY f.priority DESC, f.nextCrawlAt ASC
         """)
     List<Feed> findFeedsNeedingCrawl(@Param("now") LocalDateTime now);
 
+    // Feed id and next crawl time of every active feed (loads the in-memory crawl schedule)
+    @Query("SELECT f.id, f.nextCrawlAt FROM Feed f WHERE f.isActive = true AND f.nextCrawlAt IS NOT NULL")
+    List<Object[]> findCrawlSchedule();
+
+    // Feeds stored before nextCrawlAt existed are due right away
+    @Modifying
+    @Query("UPDATE Feed f SET f.nextCrawlAt = :now WHERE f.nextCrawlAt IS NULL")
+    int scheduleUnscheduledFeeds(@Param("now") LocalDateTime now);
+
+    // Ids of due feeds in claim order (same range scan as findFeedsNeedingCrawl, ids only)
+    @Query("""
+        SELECT f.id FROM Feed f
+        WHERE f.isActive = true
+        AND f.nextCrawlAt <= :now
+        ORDER BY f.priority DESC, f.nextCrawlAt ASC
+        """)
+    List<Long> findDueFeedIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Lease the feeds among ids that are still due; a concurrent claim that got there first makes
+    // the row no longer match. nextCrawlAt moves to the lease expiry so an abandoned lease comes due again.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Feed f
+        SET f.leaseToken = :token, f.leaseExpiresAt = :expiresAt, f.nextCrawlAt = :expiresAt,
+            f.lastCrawled = :now, f.updatedAt = :now
+        WHERE f.id IN :ids
+        AND f.isActive = true
+        AND f.nextCrawlAt <= :now
+        """)
+    int leaseDueFeeds(@Param("ids") Collection<Long> ids, @Param("token") String token,
+                      @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Compact descriptors of the feeds leased by one claim, in crawl priority order
+    @Query("""
+        SELECT new com.study.synopsi.dto.FeedClaimDto(f.id, f.feedUrl, f.feedType, s.id, s.name, t.id,
+                                                      f.priority, f.leaseToken, f.leaseExpiresAt, f.httpEtag,
+                                                      f.httpLastModified, f.contentHash, f.circuitState)
+        FROM Feed f
+        JOIN f.source s
+        LEFT JOIN f.topic t
+        WHERE f.leaseToken = :token
+        ORDER BY f.priority DESC, f.id ASC
+        """)
+    List<FeedClaimDto> findClaimedFeeds(@Param("token") String token);
+
+    // Move the feeds leased by one claim from one circuit state to another (open circuits become probes)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Feed f SET f.circuitState = :to WHERE f.leaseToken = :token AND f.circuitState = :from")
+    int updateCircuitStateByLeaseToken(@Param("token") String token, @Param("from") Feed.CircuitState from,
+                                       @Param("to") Feed.CircuitState to);
+
+    // Feed count per circuit state (null = stored before the breaker existed, i.e. closed)
+    @Query("SELECT f.circuitState, COUNT(f) FROM Feed f GROUP BY f.circuitState")
+    List<Object[]> countByCircuitState();
+
+    // Ids among ids whose lease is held by the given claim
+    @Query("SELECT f.id FROM Feed f WHERE f.id IN :ids AND f.leaseToken = :token")
+    List<Long> findIdsLeasedBy(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    // Hand leases back without a crawl outcome; the feeds are due again right away.
+    // Only leases still held by the claim are released (an expired one may belong to another claim by now).
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Feed f
+        SET f.leaseToken = NULL, f.leaseExpiresAt = NULL, f.nextCrawlAt = :now, f.updatedAt = :now
+        WHERE f.id IN :ids
+        AND f.leaseToken = :token
+        """)
+    int releaseLeases(@Param("ids") Collection<Long> ids, @Param("token") String token,
+                      @Param("now") LocalDateTime now);
+
+    // Feed row locked for a crawl outcome, so a concurrent claim or outcome waits instead of being overwritten
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Feed f WHERE f.id = :id")
+    Optional<Feed> findByIdForUpdate(@Param("id") Long id);
+
     // Query for feeds with failures
     List<Feed> findByFailureCountGreaterThan(Integer count);
 
@@ -45,4 +132,32 @@ public interface FeedRepository extends JpaRepository<Feed, Long>, JpaSpecificat
     // Count articles per feed
     @Query("SELECT COUNT(a) FROM Article a WHERE a.feed.id = :feedId")
     Integer countArticlesByFeedId(@Param("feedId") Long feedId);
-}
\ No newline at end of file
+
+    // Articles a feed gained since a point in time (its yield between two crawls)
+    @Query("SELECT COUNT(a) FROM Article a WHERE a.feed.id = :feedId AND a.createdAt > :since")
+    int countArticlesByFeedIdCreatedAfter(@Param("feedId") Long feedId, @Param("since") LocalDateTime since);
+
+    // Articles each feed gained since its last successful crawl (yields of a batch of crawls)
+    @Query("""
+        SELECT f.id, COUNT(a) FROM Article a JOIN a.feed f
+        WHERE f.id IN :ids
+        AND a.createdAt > f.lastSuccessfulCrawl
+        GROUP BY f.id
+        """)
+    List<Object[]> countNewArticlesByFeedIds(@Param("ids") Collection<Long> ids);
+
+    // Feeds locked for changes written in bulk, so a concurrent claim or outcome waits instead of being
+    // overwritten; loaded read-only (not dirty-checked). Id order keeps concurrent batches from deadlocking.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT f FROM Feed f WHERE f.id IN :ids ORDER BY f.id")
+    List<Feed> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Last update time of a feed (cheap version lookup for conditional GETs)
+    @Query("SELECT f.updatedAt FROM Feed f WHERE f.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // Feed id and source id of every feed (for the in-memory source name index)
+    @Query("SELECT f.id, f.source.id FROM Feed f")
+    List<Object[]> findIdAndSourceId();
+}
@@ -4,11 +4,13 @@ import com.study.synopsi.model.ReadingHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -127,6 +129,23 @@ public interface ReadingHistoryRepository extends JpaRepository<ReadingHistory,
             "ORDER BY readCount DESC")
     List<Object[]> getMostReadTopicsByUser(@Param("userId") Long userId);
 
+    /**
+     * Next chunk of reading history ids older than the cutoff, keyset-ordered by id (retention)
+     */
+    @Query("SELECT rh.id FROM ReadingHistory rh WHERE rh.readAt < :cutoffDate AND rh.id > :afterId ORDER BY rh.id")
+    List<Long> findExpiredIds(
+            @Param("cutoffDate") LocalDateTime cutoffDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Delete reading history by id without loading entities (retention)
+     */
+    @Modifying
+    @Query("DELETE FROM ReadingHistory rh WHERE rh.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Delete old reading history entries (for GDPR/cleanup)
      */
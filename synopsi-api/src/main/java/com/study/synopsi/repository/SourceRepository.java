@@ -59,4 +59,10 @@ public interface SourceRepository extends JpaRepository<Source, Long> {
      * Check if source exists by base URL (for validation)
      */
     boolean existsByBaseUrl(String baseUrl);
-}
\ No newline at end of file
+
+    /**
+     * Id and name of every source (for the in-memory name index)
+     */
+    @Query("SELECT s.id, s.name FROM Source s")
+    List<Object[]> findIdAndName();
+}
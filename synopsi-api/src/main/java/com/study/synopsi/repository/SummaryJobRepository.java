@@ -1,5 +1,6 @@
 package com.study.synopsi.repository;
 
+import com.study.synopsi.model.Summary;
 import com.study.synopsi.model.SummaryJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +61,13 @@ public interface SummaryJobRepository extends JpaRepository<SummaryJob, Long> {
      */
     long countByStatus(SummaryJob.JobStatus status);
 
+    /**
+     * Count and oldest submission time per status in one pass
+     * Returns [status, count, minSubmittedAt] rows
+     */
+    @Query("SELECT j.status, COUNT(j), MIN(j.submittedAt) FROM SummaryJob j GROUP BY j.status")
+    List<Object[]> summarizeByStatus();
+
     /**
      * Check if there's already a queued/processing job for article and user
      */
@@ -76,6 +85,23 @@ public interface SummaryJobRepository extends JpaRepository<SummaryJob, Long> {
             List<SummaryJob.JobStatus> statuses
     );
 
+    /**
+     * Check if there's already a queued/processing default job of one summary type for article
+     */
+    boolean existsByArticleIdAndUserIsNullAndSummaryTypeAndStatusIn(
+            Long articleId,
+            Summary.SummaryType summaryType,
+            List<SummaryJob.JobStatus> statuses
+    );
+
+    /**
+     * Find which default summary types have an active (queued/processing) job for a set of articles
+     * Returns [articleId, summaryType] pairs
+     */
+    @Query("SELECT j.article.id, j.summaryType FROM SummaryJob j " +
+            "WHERE j.user IS NULL AND j.status IN ('QUEUED', 'PROCESSING') AND j.article.id IN :articleIds")
+    List<Object[]> findActiveDefaultJobTypesByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
     /**
      * Find old completed jobs for cleanup (completed > X days ago)
      */
@@ -83,11 +109,22 @@ public interface SummaryJobRepository extends JpaRepository<SummaryJob, Long> {
     List<SummaryJob> findOldCompletedJobs(@Param("cutoffDate") LocalDateTime cutoffDate);
 
     /**
-     * Delete old completed jobs
+     * Next chunk of expired completed job ids, keyset-ordered by id (retention)
+     */
+    @Query("SELECT j.id FROM SummaryJob j WHERE j.status = 'COMPLETED' AND j.completedAt < :cutoffDate " +
+            "AND j.id > :afterId ORDER BY j.id")
+    List<Long> findExpiredCompletedJobIds(
+            @Param("cutoffDate") LocalDateTime cutoffDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Delete jobs by id without loading them (retention)
      */
     @Modifying
-    @Query("DELETE FROM SummaryJob j WHERE j.status = 'COMPLETED' AND j.completedAt < :cutoffDate")
-    int deleteOldCompletedJobs(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query("DELETE FROM SummaryJob j WHERE j.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Find jobs submitted in a time range (for monitoring/analytics)
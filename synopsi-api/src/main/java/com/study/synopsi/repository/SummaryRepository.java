@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +36,14 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
             Summary.SummaryStatus status
     );
 
+    /**
+     * Find the provisional default summary awaiting replacement by the worker result
+     */
+    Optional<Summary> findFirstByArticleIdAndUserIsNullAndSummaryTypeAndProvisionalTrue(
+            Long articleId,
+            Summary.SummaryType summaryType
+    );
+
     /**
      * Find all summaries for a specific article
      */
@@ -77,6 +86,14 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
             Summary.SummaryType summaryType
     );
 
+    /**
+     * Find which default summary types already exist for a set of articles
+     * Returns [articleId, summaryType] pairs
+     */
+    @Query("SELECT s.article.id, s.summaryType FROM Summary s " +
+            "WHERE s.user IS NULL AND s.article.id IN :articleIds")
+    List<Object[]> findDefaultSummaryTypesByArticleIds(@Param("articleIds") Collection<Long> articleIds);
+
     /**
      * Find summaries older than a certain date (for cleanup)
      */
@@ -86,6 +103,25 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
             @Param("status") Summary.SummaryStatus status
     );
 
+    /**
+     * Next chunk of expired summary ids with the given status, keyset-ordered by id (retention)
+     */
+    @Query("SELECT s.id FROM Summary s WHERE s.createdAt < :cutoffDate AND s.status = :status " +
+            "AND s.id > :afterId ORDER BY s.id")
+    List<Long> findExpiredSummaryIds(
+            @Param("cutoffDate") LocalDateTime cutoffDate,
+            @Param("status") Summary.SummaryStatus status,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Delete summaries by id without loading them (retention)
+     */
+    @Modifying
+    @Query("DELETE FROM Summary s WHERE s.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Delete old summaries (for scheduled cleanup)
      */
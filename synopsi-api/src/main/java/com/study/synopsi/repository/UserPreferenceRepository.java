@@ -40,6 +40,14 @@ public interface UserPreferenceRepository extends JpaRepository<UserPreference,
             "AND up.interestLevel IN ('HIGH', 'VERY_HIGH') AND up.isActive = true")
     List<UserPreference> findHighInterestUsersByTopic(@Param("topicId") Long topicId);
 
+    /**
+     * Count active high-interest preferences per topic (topic interest density)
+     */
+    @Query("SELECT up.topic.id, COUNT(up) FROM UserPreference up " +
+            "WHERE up.interestLevel IN ('HIGH', 'VERY_HIGH') AND up.isActive = true " +
+            "GROUP BY up.topic.id")
+    List<Object[]> countHighInterestUsersPerTopic();
+
     /**
      * Find user preferences by interest level
      */
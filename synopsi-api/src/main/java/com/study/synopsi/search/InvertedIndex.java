@@ -0,0 +1,234 @@
+package com.study.synopsi.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * In-memory inverted index with BM25 ranking.
+ * Documents are numbered in insertion order; re-indexing an article tombstones its previous
+ * document and appends a new one, and compact() drops tombstoned documents from the postings.
+ * Not thread-safe (see ArticleSearchService for locking).
+ */
+public final class InvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x53594E49; // "SYNI"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByArticle = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] articleIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private int docCount;
+    private long liveLength; // Sum of lengths of live documents
+
+    /**
+     * Add or replace an article; term frequencies are already weighted per field
+     */
+    public void add(long articleId, Map<String, Integer> termFrequencies) {
+        remove(articleId);
+        if (termFrequencies.isEmpty()) {
+            return;
+        }
+
+        int doc = docCount++;
+        if (doc == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, doc * 2);
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+        articleIds[doc] = articleId;
+        lengths[doc] = length;
+        liveLength += length;
+        docByArticle.put(articleId, doc);
+    }
+
+    public boolean remove(long articleId) {
+        Integer doc = docByArticle.remove(articleId);
+        if (doc == null) {
+            return false;
+        }
+        deleted.set(doc);
+        liveLength -= lengths[doc];
+        return true;
+    }
+
+    /**
+     * Articles containing every term, best BM25 score first (ties: newest article first)
+     */
+    public List<Hit> search(Collection<String> terms, int limit) {
+        int live = size();
+        if (terms.isEmpty() || live == 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Rarest term first so the candidate set starts small
+        List<PostingList> lists = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(terms)) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::docCount));
+
+        double averageLength = (double) liveLength / live;
+        Map<Integer, double[]> scores = null;
+        for (PostingList list : lists) {
+            double idf = Math.log(1 + (live - list.docCount() + 0.5) / (list.docCount() + 0.5));
+            Map<Integer, double[]> previous = scores;
+            Map<Integer, double[]> next = new HashMap<>();
+            list.forEach((doc, tf) -> {
+                if (deleted.get(doc)) {
+                    return;
+                }
+                double[] score = previous == null ? new double[1] : previous.get(doc);
+                if (score == null) {
+                    return; // Missing an earlier term
+                }
+                double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                score[0] += idf * tf * (K1 + 1) / (tf + norm);
+                next.put(doc, score);
+            });
+            scores = next;
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        Comparator<Hit> order = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::articleId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(order);
+        for (Map.Entry<Integer, double[]> entry : scores.entrySet()) {
+            top.add(new Hit(articleIds[entry.getKey()], entry.getValue()[0]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(order.reversed());
+        return hits;
+    }
+
+    public boolean contains(long articleId) {
+        return docByArticle.containsKey(articleId);
+    }
+
+    public int size() {
+        return docByArticle.size();
+    }
+
+    /**
+     * Ids of all live (not tombstoned) articles
+     */
+    public Set<Long> articleIds() {
+        return new HashSet<>(docByArticle.keySet());
+    }
+
+    public long maxArticleId() {
+        return docByArticle.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+    }
+
+    /**
+     * Share of document slots held by tombstones
+     */
+    public double deletedRatio() {
+        return docCount == 0 ? 0.0 : (double) (docCount - size()) / docCount;
+    }
+
+    /**
+     * Copy without tombstoned documents (documents renumbered, order kept)
+     */
+    public InvertedIndex compact() {
+        InvertedIndex compacted = new InvertedIndex();
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            remap[doc] = deleted.get(doc) ? -1 : next++;
+        }
+
+        compacted.articleIds = new long[Math.max(1024, next)];
+        compacted.lengths = new int[Math.max(1024, next)];
+        for (int doc = 0; doc < docCount; doc++) {
+            if (remap[doc] >= 0) {
+                compacted.articleIds[remap[doc]] = articleIds[doc];
+                compacted.lengths[remap[doc]] = lengths[doc];
+                compacted.docByArticle.put(articleIds[doc], remap[doc]);
+            }
+        }
+        compacted.docCount = next;
+        compacted.liveLength = liveLength;
+
+        postings.forEach((term, list) -> {
+            PostingList copy = new PostingList();
+            list.forEach((doc, tf) -> {
+                if (remap[doc] >= 0) {
+                    copy.add(remap[doc], tf);
+                }
+            });
+            if (copy.docCount() > 0) {
+                compacted.postings.put(term, copy);
+            }
+        });
+        return compacted;
+    }
+
+    // Snapshot format
+
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(docCount);
+        for (int doc = 0; doc < docCount; doc++) {
+            out.writeLong(articleIds[doc]);
+            out.writeInt(lengths[doc]);
+            out.writeBoolean(deleted.get(doc));
+        }
+        out.writeInt(postings.size());
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            out.writeUTF(entry.getKey());
+            entry.getValue().write(out);
+        }
+    }
+
+    public static InvertedIndex read(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Not a search index snapshot (or an incompatible version)");
+        }
+        InvertedIndex index = new InvertedIndex();
+        int docCount = in.readInt();
+        index.articleIds = new long[Math.max(1024, docCount)];
+        index.lengths = new int[Math.max(1024, docCount)];
+        for (int doc = 0; doc < docCount; doc++) {
+            index.articleIds[doc] = in.readLong();
+            index.lengths[doc] = in.readInt();
+            if (in.readBoolean()) {
+                index.deleted.set(doc);
+            } else {
+                index.docByArticle.put(index.articleIds[doc], doc);
+                index.liveLength += index.lengths[doc];
+            }
+        }
+        index.docCount = docCount;
+
+        int terms = in.readInt();
+        for (int i = 0; i < terms; i++) {
+            String term = in.readUTF();
+            index.postings.put(term, PostingList.read(in));
+        }
+        return index;
+    }
+
+    public record Hit(long articleId, double score) {}
+}
@@ -0,0 +1,94 @@
+package com.study.synopsi.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compressed posting list: (doc delta, term frequency) pairs as variable-length integers.
+ * Documents are appended in increasing order, so deltas are small and most entries take 2 bytes.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int docCount;
+    private int lastDoc = -1;
+
+    void add(int doc, int termFrequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Documents must be added in increasing order");
+        }
+        writeVarInt(doc - lastDoc);
+        writeVarInt(termFrequency);
+        lastDoc = doc;
+        docCount++;
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int doc = -1;
+        while (position < length) {
+            // Decoded inline: this is the hot loop of every query
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            int termFrequency = 0;
+            shift = 0;
+            do {
+                b = data[position++];
+                termFrequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            doc += delta;
+            consumer.accept(doc, termFrequency);
+        }
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeInt(docCount);
+        out.writeInt(lastDoc);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    static PostingList read(DataInput in) throws IOException {
+        PostingList list = new PostingList();
+        list.docCount = in.readInt();
+        list.lastDoc = in.readInt();
+        list.length = in.readInt();
+        list.data = new byte[Math.max(8, list.length)];
+        in.readFully(list.data, 0, list.length);
+        return list;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int doc, int termFrequency);
+    }
+
+    // Variable-length integer encoding (7 bits per byte, high bit = continuation)
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
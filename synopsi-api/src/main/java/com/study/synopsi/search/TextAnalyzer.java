@@ -0,0 +1,84 @@
+package com.study.synopsi.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Search term analysis shared by indexing and querying.
+ * Lower-cases, splits on non-alphanumerics, drops stop words and one-letter tokens,
+ * and applies light English suffix stripping so "elections" matches "election".
+ */
+public final class TextAnalyzer {
+
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "he", "in",
+            "is", "it", "its", "of", "on", "or", "she", "that", "the", "their", "they", "this", "to",
+            "was", "were", "will", "with"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Emit the analyzed terms of the text in order
+     */
+    public static void analyze(CharSequence text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder word = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (!word.isEmpty()) {
+                emit(word, sink);
+                word.setLength(0);
+            }
+        }
+    }
+
+    public static List<String> terms(CharSequence text) {
+        List<String> terms = new ArrayList<>();
+        analyze(text, terms::add);
+        return terms;
+    }
+
+    /**
+     * Strip common inflectional suffixes (a small subset of Porter step 1)
+     */
+    static String stem(String word) {
+        String stem = word;
+        if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.endsWith("ing") && stem.length() - 3 >= MIN_STEM_LENGTH) {
+            stem = stem.substring(0, stem.length() - 3);
+        } else if (stem.endsWith("ed") && stem.length() - 2 >= MIN_STEM_LENGTH) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ly") && stem.length() - 2 >= MIN_STEM_LENGTH) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+        return stem;
+    }
+
+    private static void emit(StringBuilder word, Consumer<String> sink) {
+        if (word.length() < 2) {
+            return;
+        }
+        String term = word.toString();
+        if (!STOP_WORDS.contains(term)) {
+            sink.accept(stem(term));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.archive.SegmentArchive;
+import com.study.synopsi.config.ArchiveConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.repository.ArticleBatchRepository;
+import com.study.synopsi.repository.ArticleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Archive tier for cold article content.
+ * Content of articles older than the policy threshold is appended to compressed segment files
+ * (forced to disk first), then removed from the hot table in a short transaction that marks the
+ * article ARCHIVED and stores the block location. Reads inflate the block from a memory-mapped segment.
+ */
+@Service
+@Slf4j
+public class ArticleArchiveService {
+
+    // Articles still waiting on the summarizer keep their content in the hot table
+    private static final List<Article.ArticleStatus> ARCHIVABLE = List.of(
+            Article.ArticleStatus.SUMMARIZED, Article.ArticleStatus.FAILED, Article.ArticleStatus.DUPLICATE);
+
+    private final ArticleRepository articleRepository;
+    private final ArticleBatchRepository articleBatchRepository;
+    private final TransactionOperations transactionOperations;
+    private final ArchiveConfig config;
+    private final SegmentArchive archive;
+    private final Counter archivedCounter;
+
+    // Prevents overlapping runs; the segment archive supports one writer at a time
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ArticleArchiveService(
+            ArticleRepository articleRepository,
+            ArticleBatchRepository articleBatchRepository,
+            TransactionOperations transactionOperations,
+            ArchiveConfig config,
+            MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.articleBatchRepository = articleBatchRepository;
+        this.transactionOperations = transactionOperations;
+        this.config = config;
+        this.archive = new SegmentArchive(Path.of(config.getDirectory()), config.getBlockBytes(), config.getMaxSegmentBytes());
+        this.archivedCounter = Counter.builder("synopsi.archive.articles")
+                .description("Articles whose content moved to the archive tier")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Move cold article content to the archive (runs daily at 3 AM, after retention)
+     * @return number of articles archived
+     */
+    @Scheduled(cron = "${synopsi.archive.cron:0 0 3 * * *}")
+    public long archiveColdArticles() {
+        if (!config.isEnabled() || !running.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(config.getAgeDays());
+        long startNanos = System.nanoTime();
+        long afterId = 0L;
+        long archived = 0;
+        int chunks = 0;
+        try {
+            while (chunks < config.getMaxChunksPerRun()) {
+                List<Object[]> rows = articleRepository.findArchivableContent(
+                        cutoff, ARCHIVABLE, afterId, PageRequest.of(0, config.getChunkSize()));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<SegmentArchive.Entry> entries = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    entries.add(new SegmentArchive.Entry((Long) row[0], (String) row[1]));
+                }
+                // Durable in the archive before the hot copy is dropped; a crash in between only leaves unused blocks
+                List<SegmentArchive.Location> locations = archive.append(entries);
+                transactionOperations.executeWithoutResult(status -> articleBatchRepository.markArchived(locations));
+
+                afterId = entries.get(entries.size() - 1).articleId();
+                archived += entries.size();
+                chunks++;
+                archivedCounter.increment(entries.size());
+                if (rows.size() < config.getChunkSize()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Archiving stopped after {} articles: {}", archived, e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+
+        if (archived > 0) {
+            log.info("Archived content of {} articles published before {} in {} chunks ({} ms)",
+                    archived, cutoff, chunks, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return archived;
+    }
+
+    /**
+     * Content of an archived article, if it has an archive location
+     */
+    public Optional<String> readContent(Long articleId, Integer segment, Long offset) {
+        if (segment == null || offset == null) {
+            return Optional.empty();
+        }
+        try {
+            return archive.read(new SegmentArchive.Location(articleId, segment, offset));
+        } catch (IOException e) {
+            log.error("Failed to read archived content of article {} (segment {}, offset {}): {}",
+                    articleId, segment, offset, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Content of an article from the hot table, or from the archive when it has been archived
+     */
+    public String resolveContent(Article article) {
+        if (article.getContent() != null || article.getStatus() != Article.ArticleStatus.ARCHIVED) {
+            return article.getContent();
+        }
+        return readContent(article.getId(), article.getArchiveSegment(), article.getArchiveOffset()).orElse(null);
+    }
+}
@@ -0,0 +1,134 @@
+package com.study.synopsi.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.synopsi.config.ExportConfig;
+import com.study.synopsi.dto.ArticleExportDto;
+import com.study.synopsi.dto.SummaryExportDto;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams the article corpus as NDJSON: one "article" line per article, then one "summary" line
+ * per default summary. Rows are read through forward-only JPA streams and written as they arrive,
+ * and the persistence context is cleared periodically, so memory stays flat for any corpus size.
+ */
+@Slf4j
+@Service
+public class ArticleExportService {
+
+    private static final int NEWLINE = '\n';
+
+    private final ArticleExportRepository articleExportRepository;
+    private final ArticleArchiveService articleArchiveService;
+    private final ExportConfig config;
+    private final ObjectWriter writer;
+
+    public ArticleExportService(ArticleExportRepository articleExportRepository,
+                                ArticleArchiveService articleArchiveService, ExportConfig config,
+                                ObjectMapper objectMapper) {
+        this.articleExportRepository = articleExportRepository;
+        this.articleArchiveService = articleArchiveService;
+        this.config = config;
+        // One value per write without closing or flushing the response stream in between
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write the export to the given stream (not closed here)
+     *
+     * @param since only rows updated at or after this time; null exports everything
+     * @param includeSummaries whether to append the default summaries
+     * @return number of lines written
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime since, boolean includeSummaries, OutputStream target) throws IOException {
+        long started = System.currentTimeMillis();
+        OutputStream out = new BufferedOutputStream(target, config.getBufferBytes());
+
+        long articles;
+        try (Stream<Article> stream = articleExportRepository.streamArticles(since, config.getFetchSize())) {
+            articles = writeLines(stream, this::toArticleLine, out);
+        }
+
+        long summaries = 0;
+        if (includeSummaries) {
+            try (Stream<Summary> stream = articleExportRepository.streamDefaultSummaries(since, config.getFetchSize())) {
+                summaries = writeLines(stream, this::toSummaryLine, out);
+            }
+        }
+        out.flush();
+
+        log.info("Exported {} articles and {} summaries in {} ms", articles, summaries,
+                System.currentTimeMillis() - started);
+        return articles + summaries;
+    }
+
+    // Helper methods
+
+    private <T> long writeLines(Stream<T> rows, Function<T, Object> mapper, OutputStream out) throws IOException {
+        long written = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.writeValue(out, mapper.apply(iterator.next()));
+            out.write(NEWLINE);
+            if (++written % config.getClearInterval() == 0) {
+                articleExportRepository.clear();
+            }
+        }
+        return written;
+    }
+
+    private ArticleExportDto toArticleLine(Article article) {
+        return ArticleExportDto.builder()
+                .id(article.getId())
+                .title(article.getTitle())
+                .originalUrl(article.getOriginalUrl())
+                .publicationDate(article.getPublicationDate())
+                .author(article.getAuthor())
+                .imageUrl(article.getImageUrl())
+                .description(article.getDescription())
+                .content(articleArchiveService.resolveContent(article))
+                .status(article.getStatus() != null ? article.getStatus().name() : null)
+                .language(article.getLanguage())
+                .wordCount(article.getWordCount())
+                .readTimeMinutes(article.getReadTimeMinutes())
+                .canonicalArticleId(article.getCanonicalArticleId())
+                .feedId(article.getFeed() != null ? article.getFeed().getId() : null)
+                .sourceName(article.getFeed() != null && article.getFeed().getSource() != null
+                        ? article.getFeed().getSource().getName() : null)
+                .createdAt(article.getCreatedAt())
+                .updatedAt(article.getUpdatedAt())
+                .build();
+    }
+
+    private SummaryExportDto toSummaryLine(Summary summary) {
+        return SummaryExportDto.builder()
+                .id(summary.getId())
+                .articleId(summary.getArticle().getId())
+                .summaryType(summary.getSummaryType().name())
+                .summaryLength(summary.getSummaryLength().name())
+                .summaryText(summary.getSummaryText())
+                .modelVersion(summary.getModelVersion())
+                .tokenCount(summary.getTokenCount())
+                .provisional(summary.getProvisional())
+                .generatedAt(summary.getGeneratedAt())
+                .build();
+    }
+}
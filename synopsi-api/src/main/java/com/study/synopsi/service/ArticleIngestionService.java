@@ -0,0 +1,257 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.dto.ArticleBatchResponseDto;
+import com.study.synopsi.dto.ArticleBatchResponseDto.ItemResult;
+import com.study.synopsi.dto.ArticleBatchResponseDto.ItemStatus;
+import com.study.synopsi.dto.ArticleRequestDto;
+import com.study.synopsi.mapper.ArticleMapper;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.repository.ArticleBatchRepository;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.util.SimHashIndex;
+import com.study.synopsi.util.UrlCanonicalizer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk article ingestion for the ingestion worker.
+ * A whole crawl batch is handled with a fixed number of statements: one feed lookup,
+ * one duplicate probe on the URL hash index, one JDBC batch for articles (a second one only for
+ * near-duplicates of other items in the same batch) and one for default summary jobs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleIngestionService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleBatchRepository articleBatchRepository;
+    private final FeedRepository feedRepository;
+    private final ArticleMapper articleMapper;
+    private final Validator validator;
+    private final SummaryAdmissionService summaryAdmissionService;
+    private final SummaryJobMetrics summaryJobMetrics;
+    private final ProvisionalSummaryService provisionalSummaryService;
+    private final NearDuplicateService nearDuplicateService;
+    private final ArticleSearchService articleSearchService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Create many articles at once
+     * Invalid items, unknown feeds and duplicates (by canonical URL) are reported per item instead of failing the batch.
+     * If another writer stores one of the URLs between the duplicate probe and the insert, the unique URL hash
+     * index rejects the batch; it is rolled back and run once more, and the retry reports those items as duplicates.
+     */
+    public ArticleBatchResponseDto createArticles(List<ArticleRequestDto> requests) {
+        try {
+            return transactionTemplate.execute(status -> ingest(requests));
+        } catch (DataIntegrityViolationException e) {
+            log.info("Bulk ingestion raced a concurrent insert, retrying once: {}", e.getMostSpecificCause().getMessage());
+            return transactionTemplate.execute(status -> ingest(requests));
+        }
+    }
+
+    private ArticleBatchResponseDto ingest(List<ArticleRequestDto> requests) {
+        ItemResult[] results = new ItemResult[requests.size()];
+
+        // Resolve every referenced feed with a single query
+        Set<Long> feedIds = requests.stream()
+                .map(ArticleRequestDto::getFeedId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Feed> feeds = feedRepository.findAllById(feedIds).stream()
+                .collect(Collectors.toMap(Feed::getId, Function.identity()));
+
+        // Canonical URL hash per item; invalid items are reported and skipped
+        String[] hashes = new String[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            ArticleRequestDto request = requests.get(i);
+            String url = request != null ? request.getOriginalUrl() : null;
+
+            String error = validate(request);
+            if (error == null && !feeds.containsKey(request.getFeedId())) {
+                error = "Feed not found with id: " + request.getFeedId();
+            }
+            if (error != null) {
+                results[i] = item(i, ItemStatus.FAILED, null, url, error);
+            } else {
+                hashes[i] = UrlCanonicalizer.hash(url);
+            }
+        }
+
+        // Articles already stored, by canonical URL hash (one indexed query)
+        Set<String> uniqueHashes = Arrays.stream(hashes).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<String, Long> storedIds = new HashMap<>();
+        if (!uniqueHashes.isEmpty()) {
+            for (Object[] row : articleRepository.findIdsByUrlHashes(uniqueHashes)) {
+                storedIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+
+        List<Article> toInsert = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+        Map<String, Article> insertedByHash = new HashMap<>();
+        List<Integer> repeatIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            if (hashes[i] == null) {
+                continue;
+            }
+            ArticleRequestDto request = requests.get(i);
+
+            if (storedIds.containsKey(hashes[i])) {
+                results[i] = item(i, ItemStatus.DUPLICATE, storedIds.get(hashes[i]), request.getOriginalUrl(), null);
+                continue;
+            }
+            // Repeated earlier in this batch (id is known once the first one is inserted)
+            if (insertedByHash.containsKey(hashes[i])) {
+                repeatIndexes.add(i);
+                continue;
+            }
+
+            Article article = articleMapper.toEntityWithFeed(request, feeds.get(request.getFeedId()));
+            article.setUrlHash(hashes[i]);
+            if (article.getPublicationDate() == null) {
+                article.setPublicationDate(LocalDateTime.now());
+            }
+            insertedByHash.put(hashes[i], article);
+            toInsert.add(article);
+            insertIndexes.add(i);
+        }
+
+        // Near-duplicates (of recent articles or of an earlier item in this batch) are clustered, not summarized
+        Map<Article, Article> batchCanonicals = clusterNearDuplicates(toInsert);
+
+        // Decide deferral per article before insert so the status is written once
+        List<Long> jobArticleIds = new ArrayList<>();
+        Set<Article> deferred = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Article article : toInsert) {
+            if (article.getStatus() == Article.ArticleStatus.DUPLICATE) {
+                continue;
+            }
+            boolean defer = summaryAdmissionService.shouldDeferDefaultJob(article.getFeed());
+            article.setStatus(defer ? Article.ArticleStatus.PENDING : Article.ArticleStatus.PROCESSING);
+            if (defer) {
+                deferred.add(article);
+            }
+        }
+
+        // Duplicates of a batch item need its id, so they are written in a second batch
+        articleBatchRepository.insertArticles(toInsert.stream().filter(a -> !batchCanonicals.containsKey(a)).toList());
+        if (!batchCanonicals.isEmpty()) {
+            List<Article> batchDuplicates = toInsert.stream().filter(batchCanonicals::containsKey).toList();
+            batchDuplicates.forEach(a -> nearDuplicateService.markDuplicate(a, batchCanonicals.get(a).getId()));
+            articleBatchRepository.insertArticles(batchDuplicates);
+        }
+
+        int nearDuplicates = 0;
+        for (int n = 0; n < toInsert.size(); n++) {
+            Article article = toInsert.get(n);
+            if (article.getStatus() == Article.ArticleStatus.DUPLICATE) {
+                nearDuplicates++;
+            } else if (!deferred.contains(article)) {
+                jobArticleIds.add(article.getId());
+            }
+            results[insertIndexes.get(n)] = item(insertIndexes.get(n), ItemStatus.CREATED,
+                    article.getId(), article.getOriginalUrl(), null);
+        }
+
+        for (Integer index : repeatIndexes) {
+            Article first = insertedByHash.get(hashes[index]);
+            results[index] = item(index, ItemStatus.DUPLICATE, first.getId(), requests.get(index).getOriginalUrl(), null);
+        }
+
+        articleBatchRepository.insertDefaultSummaryJobs(jobArticleIds, SummaryService.DEFAULT_JOB_PRIORITY);
+        summaryJobMetrics.recordQueued(jobArticleIds.size());
+        toInsert.forEach(article -> {
+            nearDuplicateService.register(article);
+            articleSearchService.index(article);
+            if (article.getStatus() != Article.ArticleStatus.DUPLICATE) {
+                provisionalSummaryService.submit(article);
+            }
+        });
+
+        ArticleBatchResponseDto response = summarize(Arrays.asList(results));
+        log.info("Bulk ingestion: {} created ({} jobs queued, {} deferred, {} near-duplicates), {} duplicates, {} failed",
+                response.getCreated(), jobArticleIds.size(), deferred.size(), nearDuplicates,
+                response.getDuplicates(), response.getFailed());
+        return response;
+    }
+
+    // Helper methods
+
+    /**
+     * Mark near-duplicates of indexed articles right away; duplicates of an earlier batch item
+     * are returned mapped to that item (their canonical id is only known after insert)
+     */
+    private Map<Article, Article> clusterNearDuplicates(List<Article> articles) {
+        Map<Article, Article> batchCanonicals = new IdentityHashMap<>();
+        SimHashIndex<Article> batchIndex = nearDuplicateService.newBatchIndex(articles.size());
+
+        for (Article article : articles) {
+            if (!nearDuplicateService.isEligible(article)) {
+                continue;
+            }
+            Optional<Long> canonicalId = nearDuplicateService.findCanonical(article);
+            if (canonicalId.isPresent()) {
+                nearDuplicateService.markDuplicate(article, canonicalId.get());
+                continue;
+            }
+            Optional<SimHashIndex.Match<Article>> match = batchIndex.nearest(article.getSimHash());
+            if (match.isPresent()) {
+                article.setStatus(Article.ArticleStatus.DUPLICATE);
+                batchCanonicals.put(article, match.get().value());
+            } else {
+                batchIndex.add(article.getSimHash(), article);
+            }
+        }
+        return batchCanonicals;
+    }
+
+    private String validate(ArticleRequestDto request) {
+        if (request == null) {
+            return "Article is required";
+        }
+        Set<ConstraintViolation<ArticleRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private ItemResult item(int index, ItemStatus status, Long articleId, String url, String error) {
+        return ItemResult.builder()
+                .index(index)
+                .status(status)
+                .articleId(articleId)
+                .originalUrl(url)
+                .error(error)
+                .build();
+    }
+
+    private ArticleBatchResponseDto summarize(List<ItemResult> results) {
+        Map<ItemStatus, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(ItemResult::getStatus, Collectors.counting()));
+        return ArticleBatchResponseDto.builder()
+                .created(counts.getOrDefault(ItemStatus.CREATED, 0L).intValue())
+                .duplicates(counts.getOrDefault(ItemStatus.DUPLICATE, 0L).intValue())
+                .failed(counts.getOrDefault(ItemStatus.FAILED, 0L).intValue())
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,324 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SearchConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.search.InvertedIndex;
+import com.study.synopsi.search.TextAnalyzer;
+import com.study.synopsi.util.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Full-text article search backed by an in-process inverted index.
+ * The index is updated incrementally as articles change, snapshotted to disk periodically and
+ * on shutdown, and on startup restored from the snapshot plus the articles changed since (articles
+ * deleted since are pruned, as a kill can lose the removals made after the last snapshot).
+ * Until it is ready, callers fall back to database LIKE queries.
+ */
+@Service
+@Slf4j
+public class ArticleSearchService {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long CATCH_UP_MARGIN_MINUTES = 5; // Covers transactions in flight while snapshotting
+    private static final int PRUNE_PAGE_SIZE = 10_000;       // Ids read per query while pruning a restored snapshot
+
+    private final ArticleRepository articleRepository;
+    private final ArticleArchiveService articleArchiveService;
+    private final SearchConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Timer latency;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+
+    public ArticleSearchService(ArticleRepository articleRepository, ArticleArchiveService articleArchiveService,
+                                SearchConfig config, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.articleArchiveService = articleArchiveService;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.latency = Timer.builder("synopsi.search.latency")
+                .description("Time spent ranking articles in the inverted index")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("synopsi.search.index.size", this, ArticleSearchService::size)
+                .description("Articles held in the search index")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return config.isEnabled() && ready;
+    }
+
+    /**
+     * Whether the index can answer this query (ready, and the query has terms other than stop words)
+     */
+    public boolean canSearch(String query) {
+        return isReady() && !TextAnalyzer.terms(query).isEmpty();
+    }
+
+    /**
+     * Article ids matching every term of the query, best match first (at most maxHits)
+     */
+    public List<Long> search(String query) {
+        return rank(query).ids();
+    }
+
+    /**
+     * Best matches for paging by relevance alone (at most maxHits)
+     */
+    public Matches rank(String query) {
+        return matches(query, config.getMaxHits());
+    }
+
+    /**
+     * Matches to intersect with other filters or sort in the database (at most maxFilteredHits), best first
+     */
+    public Matches matchAll(String query) {
+        return matches(query, config.getMaxFilteredHits());
+    }
+
+    /**
+     * Matching article ids, best first; truncated when more articles matched than the limit
+     */
+    public record Matches(List<Long> ids, boolean truncated) {
+    }
+
+    /**
+     * (Re)index an article once the surrounding transaction commits
+     */
+    public void index(Article article) {
+        if (!config.isEnabled() || article.getId() == null) {
+            return;
+        }
+        // Analyze on the caller thread, outside the lock
+        long articleId = article.getId();
+        Map<String, Integer> terms = termFrequencies(article);
+        AfterCommit.run(() -> write(index -> index.add(articleId, terms)));
+    }
+
+    public void remove(Long articleId) {
+        if (!config.isEnabled() || articleId == null) {
+            return;
+        }
+        AfterCommit.run(() -> write(index -> index.remove(articleId)));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lifecycle
+
+    /**
+     * Restore the snapshot (if any), drop articles deleted since and index everything changed since it was taken
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime since = loadSnapshot();
+        int pruned = since.equals(EPOCH) ? 0 : pruneDeleted();
+
+        long afterId = 0;
+        int indexed = 0;
+        List<Article> page;
+        do {
+            page = articleRepository.findForIndexing(since, afterId, PageRequest.of(0, config.getRebuildPageSize()));
+            List<Map.Entry<Long, Map<String, Integer>>> analyzed = page.stream()
+                    .map(article -> Map.entry(article.getId(), termFrequencies(article)))
+                    .toList();
+            write(index -> analyzed.forEach(entry -> index.add(entry.getKey(), entry.getValue())));
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+                indexed += page.size();
+            }
+        } while (page.size() == config.getRebuildPageSize());
+
+        ready = true;
+        log.info("Search index ready: {} articles ({} indexed from the database, {} deleted pruned) in {} ms",
+                size(), indexed, pruned, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Compact if needed and write a snapshot (every 10 minutes by default)
+     */
+    @Scheduled(fixedDelayString = "${synopsi.search.snapshot-interval-ms:600000}", initialDelay = 600_000)
+    public void snapshot() {
+        if (!isReady()) {
+            return;
+        }
+        write(index -> {
+            if (index.deletedRatio() >= config.getCompactDeletedRatio()) {
+                this.index = index.compact();
+            }
+        });
+
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        long takenAt = System.currentTimeMillis();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeLong(takenAt);
+                lock.readLock().lock();
+                try {
+                    out.writeLong(index.maxArticleId());
+                    index.write(out);
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Search index snapshot written to {} in {} ms", path, System.currentTimeMillis() - takenAt);
+        } catch (IOException e) {
+            log.warn("Failed to write search index snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    // Helper methods
+
+    private Matches matches(String query, int limit) {
+        List<String> terms = TextAnalyzer.terms(query);
+        if (terms.isEmpty()) {
+            return new Matches(List.of(), false);
+        }
+        // One extra hit tells whether the limit cut off any matches
+        List<InvertedIndex.Hit> hits = latency.record(() -> {
+            lock.readLock().lock();
+            try {
+                return index.search(terms, limit + 1);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+        boolean truncated = hits.size() > limit;
+        return new Matches(hits.stream().limit(limit).map(InvertedIndex.Hit::articleId).toList(), truncated);
+    }
+
+    /**
+     * Load the snapshot; returns the time from which database changes must be re-indexed
+     */
+    private LocalDateTime loadSnapshot() {
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return EPOCH;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            long takenAt = in.readLong();
+            long maxArticleId = in.readLong();
+            // A snapshot newer than the database (e.g. a recreated dev database) is useless
+            Long databaseMaxId = articleRepository.findMaxId();
+            if (databaseMaxId == null || databaseMaxId < maxArticleId) {
+                log.info("Ignoring search index snapshot {}: it does not match the database", path);
+                return EPOCH;
+            }
+            InvertedIndex loaded = InvertedIndex.read(in);
+            write(index -> this.index = loaded);
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(takenAt), ZoneId.systemDefault())
+                    .minusMinutes(CATCH_UP_MARGIN_MINUTES);
+        } catch (IOException e) {
+            log.warn("Failed to read search index snapshot {}, rebuilding: {}", path, e.getMessage());
+            write(index -> this.index = new InvertedIndex());
+            return EPOCH;
+        }
+    }
+
+    /**
+     * Remove restored articles that no longer exist, with one keyset pass over the article ids;
+     * articles indexed concurrently are not in the restored set and never pruned
+     */
+    private int pruneDeleted() {
+        Set<Long> stale;
+        lock.readLock().lock();
+        try {
+            stale = index.articleIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long afterId = 0;
+        List<Long> page;
+        do {
+            page = articleRepository.findIdsAfter(afterId, PageRequest.of(0, PRUNE_PAGE_SIZE));
+            page.forEach(stale::remove);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1);
+            }
+        } while (page.size() == PRUNE_PAGE_SIZE && !stale.isEmpty());
+
+        write(index -> stale.forEach(index::remove));
+        return stale.size();
+    }
+
+    // Archived articles no longer have content in the table; their body is read back from the archive
+    private Map<String, Integer> termFrequencies(Article article) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TextAnalyzer.analyze(article.getTitle(), term -> frequencies.merge(term, config.getTitleWeight(), Integer::sum));
+        TextAnalyzer.analyze(article.getDescription(), term -> frequencies.merge(term, 1, Integer::sum));
+        TextAnalyzer.analyze(articleArchiveService.resolveContent(article), term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private void write(Consumer<InvertedIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Path snapshotPath() {
+        String path = config.getSnapshotPath();
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+}
@@ -1,5 +1,7 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.dto.ArticleCursor;
+import com.study.synopsi.dto.ArticleListItemDto;
 import com.study.synopsi.dto.ArticleRequestDto;
 import com.study.synopsi.dto.ArticleResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
@@ -7,47 +9,231 @@ import com.study.synopsi.dto.filter.ArticleFilterParams;
 import com.study.synopsi.exception.ArticleNotFoundException;
 import com.study.synopsi.mapper.ArticleMapper;
 import com.study.synopsi.model.Article;
-import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleQueryRepository;
 import com.study.synopsi.repository.ArticleRepository;
 import com.study.synopsi.specification.ArticleSpecification;
+import com.study.synopsi.util.UrlCanonicalizer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
 
+    // Sort property that orders search results by relevance instead of an entity column
+    public static final String RELEVANCE_SORT = "relevance";
+
     private final ArticleRepository articleRepository;
+    private final ArticleQueryRepository articleQueryRepository;
+    private final ArticleSearchService articleSearchService;
     private final ArticleMapper articleMapper;
     private final SummaryService summaryService;
+    private final SummaryAdmissionService summaryAdmissionService;
+    private final ProvisionalSummaryService provisionalSummaryService;
+    private final NearDuplicateService nearDuplicateService;
+    private final SourceNameResolver sourceNameResolver;
+    private final ArticleArchiveService articleArchiveService;
+    private final ResourceVersions resourceVersions;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Get filtered and paginated articles
      * Supports filtering by status, feed, source, date range, language, and search term
      * Supports sorting and pagination
+     * Search terms are resolved by the search index when it is ready (LIKE queries otherwise)
      */
     @Transactional(readOnly = true)
-    public PagedResponseDto<ArticleResponseDto> getFilteredArticles(
+    public PagedResponseDto<ArticleListItemDto> getFilteredArticles(
             ArticleFilterParams filters,
             Pageable pageable) {
+        return getFilteredArticles(filters, pageable, false);
+    }
+
+    /**
+     * Get filtered and paginated list items; content is only loaded when includeContent is set
+     * Index search hands at most maxFilteredHits matches to the other filters and column sorts
+     * (maxHits when paging by relevance alone); the response is flagged truncated when that cap was hit
+     */
+    @Transactional(readOnly = true)
+    public PagedResponseDto<ArticleListItemDto> getFilteredArticles(
+            ArticleFilterParams filters,
+            Pageable pageable,
+            boolean includeContent) {
+
+        Page<ArticleListItemDto> page;
+        boolean truncated = false;
+        if (usesSearchIndex(filters)) {
+            boolean relevanceOnly = pageable.getSort().getOrderFor(RELEVANCE_SORT) != null
+                    && !filters.hasNonSearchFilters();
+            ArticleSearchService.Matches matches = relevanceOnly
+                    ? articleSearchService.rank(filters.getSearchTerm())
+                    : articleSearchService.matchAll(filters.getSearchTerm());
+            page = searchArticles(filters, pageable, matches.ids());
+            truncated = matches.truncated();
+        } else {
+            // Build dynamic query specification from filters; the projection query skips content
+            Specification<Article> specification = ArticleSpecification.buildSpecification(filters, resolveSourceFeedIds(filters));
+            page = articleQueryRepository.findListItems(specification, pageable);
+        }
+
+        if (includeContent) {
+            attachContent(page.getContent());
+        }
+        PagedResponseDto<ArticleListItemDto> response = buildPagedResponse(page, page.getContent());
+        if (truncated) {
+            response.setTruncated(true);
+        }
+        return response;
+    }
+
+    /**
+     * Get a slice of list items after a keyset cursor, newest first (publicationDate DESC, id DESC)
+     * No count query is run; approximateTotal is only reported for unfiltered requests, from cached statistics
+     *
+     * @param cursor token from a previous response's nextCursor, or blank for the first slice
+     */
+    @Transactional(readOnly = true)
+    public PagedResponseDto<ArticleListItemDto> getArticlesByCursor(
+            ArticleFilterParams filters,
+            String cursor,
+            int size,
+            boolean includeContent) {
+
+        ArticleCursor after = cursor == null || cursor.isBlank() ? null : ArticleCursor.decode(cursor);
+
+        List<Long> sourceFeedIds = resolveSourceFeedIds(filters);
+        Slice<ArticleListItemDto> slice;
+        boolean truncated = false;
+        if (usesSearchIndex(filters)) {
+            // Index matches are ordered by the database like any other filter
+            ArticleSearchService.Matches matches = articleSearchService.matchAll(filters.getSearchTerm());
+            List<Long> matchingIds = matches.ids();
+            truncated = matches.truncated();
+            slice = matchingIds.isEmpty()
+                    ? new SliceImpl<>(List.of())
+                    : articleQueryRepository.findListItemsAfter(ArticleSpecification.buildFilterSpecification(filters, sourceFeedIds)
+                            .and(ArticleSpecification.hasIdIn(matchingIds)), after, size);
+        } else {
+            slice = articleQueryRepository.findListItemsAfter(
+                    ArticleSpecification.buildSpecification(filters, sourceFeedIds), after, size);
+        }
+
+        List<ArticleListItemDto> items = slice.getContent();
+        if (includeContent) {
+            attachContent(items);
+        }
 
-        // Build dynamic query specification from filters
-        Specification<Article> specification = ArticleSpecification.buildSpecification(filters);
+        PagedResponseDto<ArticleListItemDto> response = new PagedResponseDto<>();
+        response.setContent(items);
+        response.setPageSize(size);
+        response.setNumberOfElements(items.size());
+        response.setFirst(after == null);
+        response.setLast(!slice.hasNext());
+        response.setEmpty(items.isEmpty());
+        if (slice.hasNext()) {
+            response.setNextCursor(ArticleCursor.of(items.get(items.size() - 1)).encode());
+        }
+        if (filters == null || !filters.hasFilters()) {
+            response.setApproximateTotal(articleQueryRepository.estimateTotal());
+        }
+        if (truncated) {
+            response.setTruncated(true);
+        }
+        return response;
+    }
+
+    /**
+     * Search terms go to the index when it is ready and the query is not made only of stop words
+     */
+    private boolean usesSearchIndex(ArticleFilterParams filters) {
+        return filters != null && filters.getSearchTerm() != null && !filters.getSearchTerm().isBlank()
+                && articleSearchService.canSearch(filters.getSearchTerm());
+    }
+
+    /**
+     * Search through the inverted index, then intersect with the other filters by id
+     * sort=relevance keeps the index ranking; any other sort is applied by the database to the matches
+     */
+    private Page<ArticleListItemDto> searchArticles(ArticleFilterParams filters, Pageable pageable, List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Specification<Article> specification = ArticleSpecification.buildFilterSpecification(filters, resolveSourceFeedIds(filters))
+                .and(ArticleSpecification.hasIdIn(rankedIds));
+
+        if (pageable.getSort().getOrderFor(RELEVANCE_SORT) == null) {
+            return articleQueryRepository.findListItems(specification, pageable);
+        }
+
+        // Relevance order: filter the ranked ids, then load only the requested page
+        List<Long> matchingIds = rankedIds;
+        if (filters.hasNonSearchFilters()) {
+            Set<Long> allowed = new HashSet<>(articleQueryRepository.findIds(specification));
+            matchingIds = rankedIds.stream().filter(allowed::contains).toList();
+        }
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        int from = (int) Math.min(unsorted.getOffset(), matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(from, Math.min(from + unsorted.getPageSize(), matchingIds.size()));
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), unsorted, matchingIds.size());
+        }
 
-        // Execute query with pagination
-        Page<Article> articlePage = articleRepository.findAll(specification, pageable);
+        Map<Long, ArticleListItemDto> items = articleQueryRepository.findListItems(ArticleSpecification.hasIdIn(pageIds))
+                .stream()
+                .collect(Collectors.toMap(ArticleListItemDto::getId, Function.identity()));
+        List<ArticleListItemDto> ordered = pageIds.stream().map(items::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(ordered, unsorted, matchingIds.size());
+    }
 
-        // Map to DTOs
-        List<ArticleResponseDto> dtos = articleMapper.toDtoList(articlePage.getContent());
+    /**
+     * Resolve the source name filter to feed ids from the cached source directory (null when not filtering by source)
+     */
+    private List<Long> resolveSourceFeedIds(ArticleFilterParams filters) {
+        if (filters == null || filters.getSource() == null || filters.getSource().isBlank()) {
+            return null;
+        }
+        return sourceNameResolver.directory().resolveFeedIds(filters.getSource());
+    }
 
-        // Build paginated response
-        return buildPagedResponse(articlePage, dtos);
+    /**
+     * Load content for a page of list items with one query (explicit fields=content opt-in)
+     */
+    private void attachContent(List<ArticleListItemDto> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<Long, String> contentById = new HashMap<>();
+        for (Object[] row : articleRepository.findContentByIds(items.stream().map(ArticleListItemDto::getId).toList())) {
+            Long id = (Long) row[0];
+            String content = row[1] != null ? (String) row[1]
+                    : articleArchiveService.readContent(id, (Integer) row[2], (Long) row[3]).orElse(null);
+            contentById.put(id, content);
+        }
+        items.forEach(item -> item.setContent(contentById.get(item.getId())));
     }
 
     /**
@@ -60,34 +246,101 @@ public class ArticleService {
     }
 
     /**
-     * Get article by ID
+     * Validators for an article from its version columns and the sources version (feed/source names)
+     * Empty when the article does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersions.Validator> getArticleValidator(Long id) {
+        return articleRepository.findVersionById(id).stream().findFirst().map(row -> {
+            LocalDateTime updatedAt = (LocalDateTime) row[0];
+            LocalDateTime summaryUpdatedAt = (LocalDateTime) row[2];
+            LocalDateTime lastModified = summaryUpdatedAt != null
+                    && (updatedAt == null || summaryUpdatedAt.isAfter(updatedAt)) ? summaryUpdatedAt : updatedAt;
+            return new ResourceVersions.Validator(
+                    resourceVersions.etag("article", id, updatedAt, row[1], summaryUpdatedAt,
+                            resourceVersions.current(ResourceVersions.SOURCES)),
+                    lastModified);
+        });
+    }
+
+    /**
+     * Get article by ID (archived content is read back from the archive tier)
      */
     @Transactional(readOnly = true)
     public ArticleResponseDto getArticleById(Long id) {
         Article article = articleRepository.findById(id)
                 .orElseThrow(() -> new ArticleNotFoundException(id));
-        return articleMapper.toDto(article);
+        ArticleResponseDto dto = articleMapper.toDto(article);
+        if (article.getStatus() == Article.ArticleStatus.ARCHIVED && article.getContent() == null) {
+            dto.setContent(articleArchiveService.resolveContent(article));
+        }
+        return dto;
     }
 
     /**
      * Create new article (from Python worker or API)
+     * Idempotent: returns the stored article if the same canonical URL was already ingested
      */
-
-    @Transactional
     public ArticleResponseDto createArticle(ArticleRequestDto requestDto) {
+        return upsertArticle(requestDto).article();
+    }
+
+    /**
+     * Create an article unless one with the same canonical URL exists
+     * The existence check is a single probe on the URL hash index, done before any mapping work.
+     * The insert runs in its own transaction: if a concurrent writer stores the same canonical URL
+     * first, the unique URL hash index rejects it and the stored article is returned instead.
+     */
+    public UpsertResult upsertArticle(ArticleRequestDto requestDto) {
+        String urlHash = UrlCanonicalizer.hash(requestDto.getOriginalUrl());
+        try {
+            return transactionTemplate.execute(status -> insertUnlessStored(requestDto, urlHash));
+        } catch (DataIntegrityViolationException e) {
+            UpsertResult stored = transactionTemplate.execute(status -> articleRepository.findByUrlHash(urlHash)
+                    .map(article -> new UpsertResult(articleMapper.toDto(article), false))
+                    .orElse(null));
+            if (stored == null) {
+                throw e;
+            }
+            log.debug("Article {} was stored concurrently ({})", stored.article().getId(), requestDto.getOriginalUrl());
+            return stored;
+        }
+    }
+
+    private UpsertResult insertUnlessStored(ArticleRequestDto requestDto, String urlHash) {
+        Optional<Article> existing = articleRepository.findByUrlHash(urlHash);
+        if (existing.isPresent()) {
+            log.debug("Article already ingested as {} ({})", existing.get().getId(), requestDto.getOriginalUrl());
+            return new UpsertResult(articleMapper.toDto(existing.get()), false);
+        }
+
         // Save article
         Article article = articleMapper.toEntity(requestDto);
+        article.setUrlHash(urlHash);
+        Optional<Long> canonicalId = nearDuplicateService.findCanonical(article);
+        canonicalId.ifPresent(id -> nearDuplicateService.markDuplicate(article, id));
         Article savedArticle = articleRepository.save(article);
+        nearDuplicateService.register(savedArticle);
+        articleSearchService.index(savedArticle);
 
-        // Auto-create default summary job
-        summaryService.requestSummary(
-                savedArticle.getId(),
-                null,  // Default summary (no user)
-                Summary.SummaryType.BRIEF,
-                Summary.SummaryLength.MEDIUM
-        );
+        // Near-duplicates share the canonical article's summaries; no model time is spent on them
+        if (canonicalId.isPresent()) {
+            log.info("Article {} is a near-duplicate of {}, skipping summarization", savedArticle.getId(), canonicalId.get());
+            return new UpsertResult(articleMapper.toDto(savedArticle), true);
+        }
+
+        // Auto-create default summary job, unless the queue is saturated and the feed is low priority.
+        // Deferred articles stay PENDING and are picked up by SummaryService.releaseDeferredJobs
+        if (summaryAdmissionService.shouldDeferDefaultJob(savedArticle.getFeed())) {
+            log.info("Deferring default summary job for article {} (summary queue saturated)", savedArticle.getId());
+        } else {
+            summaryService.requestDefaultSummary(savedArticle.getId());
+        }
 
-        return articleMapper.toDto(savedArticle);
+        // Immediate extractive summary so the article is readable before the worker runs
+        provisionalSummaryService.submit(savedArticle);
+
+        return new UpsertResult(articleMapper.toDto(savedArticle), true);
     }
 
     /**
@@ -103,18 +356,48 @@ public class ArticleService {
 
         // Save and return
         Article updatedArticle = articleRepository.save(existingArticle);
+        articleSearchService.index(updatedArticle);
         return articleMapper.toDto(updatedArticle);
     }
 
     /**
      * Delete article by ID
+     * Deleting the canonical article of a near-duplicate cluster promotes its oldest member
      */
     @Transactional
     public void deleteArticle(Long id) {
-        if (!articleRepository.existsById(id)) {
-            throw new ArticleNotFoundException(id);
+        Article article = articleRepository.findById(id)
+                .orElseThrow(() -> new ArticleNotFoundException(id));
+
+        Long successorId = article.getCanonicalArticleId() == null ? promoteClusterSuccessor(id) : null;
+        articleRepository.delete(article);
+        articleSearchService.remove(id);
+        nearDuplicateService.remove(article, successorId);
+    }
+
+    /**
+     * Make the oldest member of a deleted canonical's cluster the new canonical and queue its summary
+     * @return the successor's id, or null if the cluster had no other members
+     */
+    private Long promoteClusterSuccessor(Long canonicalId) {
+        Optional<Article> successor = articleRepository.findFirstByCanonicalArticleIdOrderByIdAsc(canonicalId);
+        if (successor.isEmpty()) {
+            return null;
         }
-        articleRepository.deleteById(id);
+
+        Article promoted = successor.get();
+        promoted.setCanonicalArticleId(null);
+        promoted.setStatus(Article.ArticleStatus.PENDING);
+        articleRepository.save(promoted);
+        int moved = articleRepository.repointCanonical(canonicalId, promoted.getId());
+        log.info("Article {} replaces deleted canonical article {} ({} other near-duplicates re-pointed)",
+                promoted.getId(), canonicalId, moved);
+
+        // Same admission as a newly ingested original; deferred articles stay PENDING until released
+        if (!summaryAdmissionService.shouldDeferDefaultJob(promoted.getFeed())) {
+            summaryService.requestDefaultSummary(promoted.getId());
+        }
+        return promoted.getId();
     }
 
     /**
@@ -133,4 +416,6 @@ public class ArticleService {
         response.setNumberOfElements(page.getNumberOfElements());
         return response;
     }
+
+    public record UpsertResult(ArticleResponseDto article, boolean created) {}
 }
\ No newline at end of file
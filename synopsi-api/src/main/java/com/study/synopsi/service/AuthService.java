@@ -1,5 +1,6 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.config.JwtTokenCache;
 import com.study.synopsi.config.JwtUtil;
 import com.study.synopsi.dto.*;
 import com.study.synopsi.model.User;
@@ -29,6 +30,7 @@ public class AuthService implements UserDetailsService {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
     private final AuthenticationManager authenticationManager;
 
     // Use @Lazy on AuthenticationManager to break circular dependency
@@ -37,11 +39,13 @@ public class AuthService implements UserDetailsService {
             UserService userService,
             PasswordEncoder passwordEncoder,
             JwtUtil jwtUtil,
+            JwtTokenCache jwtTokenCache,
             @Lazy AuthenticationManager authenticationManager) {
         this.userRepository = userRepository;
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.jwtTokenCache = jwtTokenCache;
         this.authenticationManager = authenticationManager;
     }
 
@@ -177,6 +181,7 @@ public class AuthService implements UserDetailsService {
         user.setResetTokenExpiry(null);
 
         userRepository.save(user);
+        jwtTokenCache.invalidateUser(user.getId());
 
         log.info("Password reset successful for user: {}", user.getUsername());
     }
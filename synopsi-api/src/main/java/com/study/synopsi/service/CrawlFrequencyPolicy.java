@@ -0,0 +1,58 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.model.Feed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Adaptive crawl intervals.
+ * Each successful crawl folds its new articles into an exponentially weighted arrival-rate estimate
+ * (articles per hour; samples are weighted by the time they cover, so irregular crawls average out),
+ * and the interval moves toward the time it takes to collect targetArticlesPerCrawl, at most doubling
+ * or halving per crawl and within the configured bounds. Consecutive failures back off exponentially.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlFrequencyPolicy {
+
+    private final CrawlConfig crawlConfig;
+
+    /**
+     * Update the feed's yield estimate with newArticles found since the previous successful crawl
+     */
+    public void recordYield(Feed feed, int newArticles, LocalDateTime since, LocalDateTime now) {
+        if (!crawlConfig.isAdaptiveFrequency()) {
+            return;
+        }
+        double elapsedMinutes = Math.max(1.0, Duration.between(since, now).toSeconds() / 60.0);
+        double sample = newArticles * 60.0 / elapsedMinutes;
+        double alpha = 1 - Math.exp(-elapsedMinutes / crawlConfig.getYieldTimeConstantMinutes());
+        Double previous = feed.getYieldRate();
+        double rate = previous == null ? sample : previous + alpha * (sample - previous);
+        feed.setYieldRate(rate);
+
+        int current = feed.currentCrawlInterval();
+        double target = rate > 0 ? crawlConfig.getTargetArticlesPerCrawl() * 60.0 / rate : Double.MAX_VALUE;
+        double stepped = Math.max(current / 2.0, Math.min(current * 2.0, target));
+        long bounded = Math.max(crawlConfig.getMinIntervalMinutes(),
+                Math.min(crawlConfig.getMaxIntervalMinutes(), Math.round(stepped)));
+        feed.setCrawlIntervalMinutes((int) bounded);
+    }
+
+    /**
+     * Minutes until the next crawl: the current interval, doubled for every failure after the first
+     */
+    public int nextIntervalMinutes(Feed feed) {
+        int interval = feed.currentCrawlInterval();
+        int failures = feed.getFailureCount() != null ? feed.getFailureCount() : 0;
+        if (failures <= 1) {
+            return interval;
+        }
+        long backoff = (long) interval << Math.min(failures - 1, 20);
+        return (int) Math.min(backoff, Math.max(interval, crawlConfig.getMaxBackoffMinutes()));
+    }
+}
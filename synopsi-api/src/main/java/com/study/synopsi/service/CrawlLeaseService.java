@@ -0,0 +1,88 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.dto.FeedClaimDto;
+import com.study.synopsi.repository.FeedRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Crawl leases for ingestion workers.
+ * A claim leases due feeds with one conditional UPDATE per candidate batch, so concurrent claims
+ * (from any number of workers and API instances) never hand out the same feed twice. The lease ends
+ * with a crawl outcome (FeedService.recordSuccessfulCrawl / recordFailedCrawl), an explicit release,
+ * or by expiring, after which the feed is due again. Outcomes and releases carry the claim's token and
+ * only end a lease that claim still holds, so a late report never ends another claim's lease. Leasing a feed whose circuit is open (its cool-down
+ * ended) makes that lease the circuit's single half-open probe.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlLeaseService {
+
+    private final FeedRepository feedRepository;
+    private final CrawlScheduleService crawlScheduleService;
+    private final CrawlConfig crawlConfig;
+    private final FeedCache feedCache;
+    private final FeedCircuitBreaker feedCircuitBreaker;
+
+    /**
+     * Lease up to max due feeds, highest priority first
+     */
+    @Transactional
+    public List<FeedClaimDto> claim(int max) {
+        int limit = Math.min(Math.max(max, 1), crawlConfig.getMaxClaim());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(crawlConfig.getLeaseMinutes());
+        String token = UUID.randomUUID().toString();
+
+        // Feeds the timing wheel already found due, then the due index for whatever is left
+        int leased = lease(crawlScheduleService.pollDue(limit), token, now, expiresAt);
+        if (leased < limit) {
+            leased += lease(feedRepository.findDueFeedIds(now, PageRequest.of(0, limit - leased)),
+                    token, now, expiresAt);
+        }
+        if (leased == 0) {
+            return List.of();
+        }
+
+        feedCircuitBreaker.startProbes(token);
+        List<FeedClaimDto> claimed = feedRepository.findClaimedFeeds(token);
+        claimed.forEach(feed -> crawlScheduleService.schedule(feed.getId(), expiresAt));
+        feedCache.invalidate(claimed.stream().map(FeedClaimDto::getId).toList());
+        log.info("Leased {} feeds for crawling until {}", claimed.size(), expiresAt);
+        return claimed;
+    }
+
+    /**
+     * Hand feeds leased by one claim back without a crawl outcome (e.g. a worker shutting down); they are due again.
+     * Feeds the claim no longer holds are left alone.
+     */
+    @Transactional
+    public int release(String leaseToken, List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> held = feedRepository.findIdsLeasedBy(feedIds, leaseToken);
+        if (held.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int released = feedRepository.releaseLeases(held, leaseToken, now);
+        held.forEach(id -> crawlScheduleService.schedule(id, now));
+        feedCache.invalidate(held);
+        log.info("Released {} crawl leases ({} not held by the claim)", released, feedIds.size() - released);
+        return released;
+    }
+
+    private int lease(List<Long> candidates, String token, LocalDateTime now, LocalDateTime expiresAt) {
+        return candidates.isEmpty() ? 0 : feedRepository.leaseDueFeeds(candidates, token, now, expiresAt);
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.util.AfterCommit;
+import com.study.synopsi.util.HashedTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-memory crawl schedule.
+ * Every active feed sits in a hashed timing wheel at its nextCrawlAt; each tick emits the feeds
+ * that became due into the due set, where they stay until a crawl outcome reschedules them.
+ * The database stays the source of truth (nextCrawlAt); the schedule is reloaded from it at
+ * startup and periodically, and FeedService keeps it current in between.
+ */
+@Service
+@Slf4j
+public class CrawlScheduleService {
+
+    private final FeedRepository feedRepository;
+    private final MeterRegistry meterRegistry;
+    private final HashedTimingWheel<Long> wheel;
+
+    // Feeds emitted by the wheel and not yet rescheduled, earliest due first
+    private final Set<Long> due = new LinkedHashSet<>();
+
+    public CrawlScheduleService(FeedRepository feedRepository, CrawlConfig config, MeterRegistry meterRegistry) {
+        this.feedRepository = feedRepository;
+        this.meterRegistry = meterRegistry;
+        this.wheel = new HashedTimingWheel<>(config.getTickMs(), config.getWheelSize(), System.currentTimeMillis());
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("synopsi.crawl.scheduled", this, CrawlScheduleService::scheduledCount)
+                .description("Active feeds waiting in the crawl schedule")
+                .register(meterRegistry);
+        Gauge.builder("synopsi.crawl.due", this, CrawlScheduleService::dueCount)
+                .description("Feeds due for a crawl")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuild the schedule from nextCrawlAt (feeds stored before the column existed become due now)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${synopsi.crawl.resync-interval-ms:600000}",
+            fixedDelayString = "${synopsi.crawl.resync-interval-ms:600000}")
+    @Transactional
+    public void reload() {
+        int backfilled = feedRepository.scheduleUnscheduledFeeds(LocalDateTime.now());
+        List<Object[]> rows = feedRepository.findCrawlSchedule();
+        synchronized (this) {
+            wheel.clear();
+            due.clear();
+            for (Object[] row : rows) {
+                wheel.schedule((Long) row[0], toMillis((LocalDateTime) row[1]));
+            }
+        }
+        log.info("Crawl schedule loaded with {} feeds ({} newly scheduled)", rows.size(), backfilled);
+    }
+
+    /**
+     * Move the wheel forward and collect the feeds that became due
+     */
+    @Scheduled(fixedDelayString = "${synopsi.crawl.tick-ms:15000}")
+    public void tick() {
+        advance(System.currentTimeMillis());
+    }
+
+    /**
+     * (Re)schedule a feed once the current transaction commits
+     */
+    public void schedule(Long feedId, LocalDateTime nextCrawlAt) {
+        if (feedId == null || nextCrawlAt == null) {
+            return;
+        }
+        long deadline = toMillis(nextCrawlAt);
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                due.remove(feedId);
+                wheel.schedule(feedId, deadline);
+            }
+        });
+    }
+
+    /**
+     * Drop a feed from the schedule once the current transaction commits (deactivated or deleted)
+     */
+    public void cancel(Long feedId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                due.remove(feedId);
+                wheel.cancel(feedId);
+            }
+        });
+    }
+
+    /**
+     * Take up to max due feed ids, earliest due first; they leave the due set until rescheduled
+     */
+    public synchronized List<Long> pollDue(int max) {
+        List<Long> polled = new ArrayList<>(Math.min(max, due.size()));
+        Iterator<Long> ids = due.iterator();
+        while (ids.hasNext() && polled.size() < max) {
+            polled.add(ids.next());
+            ids.remove();
+        }
+        return polled;
+    }
+
+    public synchronized int dueCount() {
+        return due.size();
+    }
+
+    public synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    synchronized void advance(long nowMillis) {
+        due.addAll(wheel.advance(nowMillis));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,53 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Invalidation of the feed caches.
+ * Single feeds are cached by id (BY_ID) and evicted one by one; query results (QUERIES) are keyed
+ * by FeedQueryKey, so invalidating them is a version bump rather than a sweep of the cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedCache {
+
+    public static final String BY_ID = "feeds";
+    public static final String QUERIES = "feedQueries";
+
+    private final CacheManager cacheManager;
+    private final ResourceVersions resourceVersions;
+
+    /**
+     * Feeds changed: drop their entries and retire all query results, once the transaction commits
+     */
+    public void invalidate(Collection<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Cache byId = cacheManager.getCache(BY_ID);
+            if (byId != null) {
+                feedIds.forEach(byId::evict);
+            }
+        });
+        resourceVersions.bump(ResourceVersions.FEEDS);
+    }
+
+    public void invalidate(Long feedId) {
+        invalidate(List.of(feedId));
+    }
+
+    /**
+     * The set of feeds changed without touching cached ones (e.g. a feed was created)
+     */
+    public void invalidateQueries() {
+        resourceVersions.bump(ResourceVersions.FEEDS);
+    }
+}
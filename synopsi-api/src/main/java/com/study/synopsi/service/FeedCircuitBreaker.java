@@ -0,0 +1,134 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-feed circuit breaker.
+ * A feed whose consecutive failures reach the threshold opens: it is not due again until a cool-down
+ * ends (doubling with every further failure). The first claim after that leases it as a single
+ * half-open probe; success closes the circuit, failure opens it again for longer.
+ * Per-state counts are kept in memory (updated after commit, reconciled with one GROUP BY query)
+ * and published as gauges along with a transition counter.
+ */
+@Component
+@Slf4j
+public class FeedCircuitBreaker {
+
+    private final FeedRepository feedRepository;
+    private final CrawlConfig crawlConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Feed.CircuitState, AtomicLong> counts = new EnumMap<>(Feed.CircuitState.class);
+
+    public FeedCircuitBreaker(FeedRepository feedRepository, CrawlConfig crawlConfig, MeterRegistry meterRegistry) {
+        this.feedRepository = feedRepository;
+        this.crawlConfig = crawlConfig;
+        this.meterRegistry = meterRegistry;
+
+        for (Feed.CircuitState state : Feed.CircuitState.values()) {
+            AtomicLong count = new AtomicLong();
+            counts.put(state, count);
+            Gauge.builder("synopsi.feed.circuit", count, AtomicLong::get)
+                    .description("Feeds by circuit breaker state")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * A crawl succeeded: close the circuit
+     */
+    public void onSuccess(Feed feed) {
+        transition(feed, Feed.CircuitState.CLOSED);
+    }
+
+    /**
+     * A crawl failed (failureCount already counts it): open the circuit once the threshold is reached,
+     * or again after a failed probe, and push nextCrawlAt out to the end of the cool-down
+     */
+    public void onFailure(Feed feed) {
+        int failures = feed.getFailureCount();
+        if (feed.currentCircuitState() != Feed.CircuitState.HALF_OPEN
+                && failures < crawlConfig.getCircuitFailureThreshold()) {
+            return;
+        }
+        transition(feed, Feed.CircuitState.OPEN);
+        feed.scheduleNextCrawl(cooldownMinutes(failures));
+    }
+
+    /**
+     * Turn the open circuits among the feeds leased by a claim into half-open probes
+     */
+    public void startProbes(String leaseToken) {
+        int probes = feedRepository.updateCircuitStateByLeaseToken(
+                leaseToken, Feed.CircuitState.OPEN, Feed.CircuitState.HALF_OPEN);
+        if (probes > 0) {
+            log.info("Probing {} feeds with open circuits", probes);
+            record(Feed.CircuitState.OPEN, Feed.CircuitState.HALF_OPEN, probes);
+        }
+    }
+
+    /**
+     * Minutes an open circuit stays out of the schedule after the given number of consecutive failures
+     */
+    public int cooldownMinutes(int failures) {
+        int doublings = Math.max(0, failures - crawlConfig.getCircuitFailureThreshold());
+        long cooldown = (long) crawlConfig.getCircuitCooldownMinutes() << Math.min(doublings, 20);
+        return (int) Math.min(cooldown, crawlConfig.getCircuitMaxCooldownMinutes());
+    }
+
+    public long count(Feed.CircuitState state) {
+        return counts.get(state).get();
+    }
+
+    /**
+     * Re-read the per-state counts with a single GROUP BY query
+     */
+    @Scheduled(fixedDelayString = "${synopsi.crawl.circuit-reconcile-interval-ms:60000}", initialDelay = 5_000)
+    public void reconcile() {
+        Map<Feed.CircuitState, Long> fresh = new EnumMap<>(Feed.CircuitState.class);
+        List<Object[]> rows = feedRepository.countByCircuitState();
+        for (Object[] row : rows) {
+            Feed.CircuitState state = row[0] != null ? (Feed.CircuitState) row[0] : Feed.CircuitState.CLOSED;
+            fresh.merge(state, ((Number) row[1]).longValue(), Long::sum);
+        }
+        counts.forEach((state, count) -> count.set(fresh.getOrDefault(state, 0L)));
+    }
+
+    private void transition(Feed feed, Feed.CircuitState to) {
+        Feed.CircuitState from = feed.currentCircuitState();
+        feed.setCircuitState(to);
+        if (from != to) {
+            log.info("Feed {} circuit {} -> {} after {} consecutive failures", feed.getId(), from, to,
+                    feed.getFailureCount());
+            record(from, to, 1);
+        }
+    }
+
+    private void record(Feed.CircuitState from, Feed.CircuitState to, int feeds) {
+        AfterCommit.run(() -> {
+            counts.get(from).updateAndGet(value -> Math.max(0, value - feeds));
+            counts.get(to).addAndGet(feeds);
+            Counter.builder("synopsi.feed.circuit.transitions")
+                    .description("Circuit breaker state changes")
+                    .tag("from", from.name())
+                    .tag("to", to.name())
+                    .register(meterRegistry)
+                    .increment(feeds);
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.dto.filter.FeedFilterParams;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Cache key of a feed query result: the filters and page, tagged with the feed-set version.
+ * Any feed change moves the version on, so stale results are never looked up again and simply
+ * age out of the cache instead of being evicted one by one.
+ */
+public record FeedQueryKey(long version, FeedFilterParams filters, int page, int size, Sort sort) {
+
+    public static FeedQueryKey of(ResourceVersions resourceVersions, FeedFilterParams filters, Pageable pageable) {
+        return new FeedQueryKey(resourceVersions.current(ResourceVersions.FEEDS), filters,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    }
+}
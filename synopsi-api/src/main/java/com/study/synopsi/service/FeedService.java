@@ -1,13 +1,18 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.dto.CrawlOutcomeBatchResponseDto;
+import com.study.synopsi.dto.CrawlOutcomeDto;
+import com.study.synopsi.dto.CrawlSuccessDto;
 import com.study.synopsi.dto.FeedRequestDto;
 import com.study.synopsi.dto.FeedResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
 import com.study.synopsi.dto.filter.FeedFilterParams;
+import com.study.synopsi.exception.CrawlLeaseLostException;
 import com.study.synopsi.exception.FeedNotFoundException;
 import com.study.synopsi.exception.InvalidFeedException;
 import com.study.synopsi.mapper.FeedMapper;
 import com.study.synopsi.model.Feed;
+import com.study.synopsi.repository.FeedBatchRepository;
 import com.study.synopsi.repository.FeedRepository;
 import com.study.synopsi.specification.FeedSpecification;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +26,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +44,12 @@ public class FeedService {
 
     private final FeedRepository feedRepository;
     private final FeedMapper feedMapper;
+    private final ResourceVersions resourceVersions;
+    private final CrawlScheduleService crawlScheduleService;
+    private final CrawlFrequencyPolicy crawlFrequencyPolicy;
+    private final FeedBatchRepository feedBatchRepository;
+    private final FeedCache feedCache;
+    private final FeedCircuitBreaker feedCircuitBreaker;
     // TODO: Inject SourceService when available for source validation
     // private final SourceService sourceService;
 
@@ -38,7 +58,8 @@ public class FeedService {
      * Supports filtering by source, feed type, active status, topic, and priority range
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "feeds", key = "#filters.toString() + '_' + #pageable.toString()", unless = "#result.empty")
+    @Cacheable(value = FeedCache.QUERIES, key = "T(com.study.synopsi.service.FeedQueryKey).of(@resourceVersions, #filters, #pageable)",
+            unless = "#result.empty")
     public PagedResponseDto<FeedResponseDto> getFilteredFeeds(
             FeedFilterParams filters,
             Pageable pageable) {
@@ -72,7 +93,7 @@ public class FeedService {
      * Get feed by ID
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "feeds", key = "#id")
+    @Cacheable(value = FeedCache.BY_ID, key = "#id")
     public FeedResponseDto getFeedById(Long id) {
         log.debug("Getting feed by id: {}", id);
         Feed feed = feedRepository.findById(id)
@@ -80,6 +101,20 @@ public class FeedService {
         return feedMapper.toDto(feed);
     }
 
+    /**
+     * Validators for a feed from its update time plus the source and topic versions (names in the DTO)
+     * Empty when the feed does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersions.Validator> getFeedValidator(Long id) {
+        return feedRepository.findUpdatedAtById(id)
+                .map(updatedAt -> new ResourceVersions.Validator(
+                        resourceVersions.etag("feed", id, updatedAt,
+                                resourceVersions.current(ResourceVersions.SOURCES),
+                                resourceVersions.current(ResourceVersions.TOPICS)),
+                        updatedAt));
+    }
+
     /**
      * Get feeds by source ID
      */
@@ -102,13 +137,13 @@ public class FeedService {
 
     /**
      * Get feeds that need to be crawled
-     * Returns feeds where lastCrawled + crawlFrequencyMinutes <= now
+     * Returns active feeds whose nextCrawlAt has passed, highest priority first (no articleCount)
      */
     @Transactional(readOnly = true)
     public List<FeedResponseDto> getFeedsNeedingCrawl() {
         log.debug("Getting feeds needing crawl");
         List<Feed> feeds = feedRepository.findFeedsNeedingCrawl(LocalDateTime.now());
-        return feedMapper.toDtoList(feeds);
+        return feedMapper.toCrawlDtoList(feeds);
     }
 
     /**
@@ -140,7 +175,7 @@ public class FeedService {
      * Create new feed
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public FeedResponseDto createFeed(FeedRequestDto requestDto) {
         log.info("Creating new feed: {}", requestDto.getFeedUrl());
         
@@ -160,7 +195,10 @@ public class FeedService {
         
         // Save to database
         Feed savedFeed = feedRepository.save(feed);
+        syncSchedule(savedFeed);
+        feedCache.invalidateQueries();
         
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Successfully created feed with id: {}", savedFeed.getId());
         return feedMapper.toDto(savedFeed);
     }
@@ -169,7 +207,7 @@ public class FeedService {
      * Update existing feed (partial update)
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public FeedResponseDto updateFeed(Long id, FeedRequestDto requestDto) {
         log.info("Updating feed with id: {}", id);
         
@@ -186,10 +224,22 @@ public class FeedService {
         }
         
         // Update only mutable fields
+        Integer previousFrequency = existingFeed.getCrawlFrequencyMinutes();
+        String previousUrl = existingFeed.getFeedUrl();
         feedMapper.updateEntityFromDto(requestDto, existingFeed);
+        if (!existingFeed.getFeedUrl().equals(previousUrl)) {
+            existingFeed.clearValidators(); // Validators belong to the old document
+        }
+        if (!existingFeed.getCrawlFrequencyMinutes().equals(previousFrequency)) {
+            existingFeed.setCrawlIntervalMinutes(null); // Adapt again from the new frequency
+            existingFeed.scheduleNextCrawl();
+        }
         
         // Save and return
         Feed updatedFeed = feedRepository.save(existingFeed);
+        syncSchedule(updatedFeed);
+        feedCache.invalidate(id);
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Successfully updated feed with id: {}", id);
         return feedMapper.toDto(updatedFeed);
     }
@@ -198,7 +248,7 @@ public class FeedService {
      * Delete feed by ID
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public void deleteFeed(Long id) {
         log.info("Deleting feed with id: {}", id);
         
@@ -207,6 +257,9 @@ public class FeedService {
         }
         
         feedRepository.deleteById(id);
+        crawlScheduleService.cancel(id);
+        feedCache.invalidate(id);
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Successfully deleted feed with id: {}", id);
     }
 
@@ -214,7 +267,6 @@ public class FeedService {
      * Activate a feed
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
     public FeedResponseDto activateFeed(Long id) {
         log.info("Activating feed with id: {}", id);
         
@@ -223,8 +275,11 @@ public class FeedService {
         
         feed.setIsActive(true);
         feed.setFailureCount(0); // Reset failure count on activation
+        feedCircuitBreaker.onSuccess(feed); // A manual activation closes an open circuit
         
         Feed updatedFeed = feedRepository.save(feed);
+        syncSchedule(updatedFeed);
+        feedCache.invalidate(id);
         log.info("Successfully activated feed with id: {}", id);
         return feedMapper.toDto(updatedFeed);
     }
@@ -233,7 +288,6 @@ public class FeedService {
      * Deactivate a feed
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
     public FeedResponseDto deactivateFeed(Long id) {
         log.info("Deactivating feed with id: {}", id);
         
@@ -243,24 +297,34 @@ public class FeedService {
         feed.setIsActive(false);
         
         Feed updatedFeed = feedRepository.save(feed);
+        syncSchedule(updatedFeed);
+        feedCache.invalidate(id);
         log.info("Successfully deactivated feed with id: {}", id);
         return feedMapper.toDto(updatedFeed);
     }
 
     /**
      * Record successful crawl for a feed
-     * Called by worker after successful crawl
+     * Called by worker after successful crawl, with the token of the claim that leased the feed
+     */
+    @Transactional
+    public void recordSuccessfulCrawl(Long id, String leaseToken) {
+        recordSuccessfulCrawl(id, leaseToken, null);
+    }
+
+    /**
+     * Record successful crawl with the validators the worker saw (result may be null)
      */
     @Transactional
-    @CacheEvict(value = "feeds", key = "#id")
-    public void recordSuccessfulCrawl(Long id) {
+    public void recordSuccessfulCrawl(Long id, String leaseToken, CrawlSuccessDto result) {
         log.debug("Recording successful crawl for feed id: {}", id);
         
-        Feed feed = feedRepository.findById(id)
-                .orElseThrow(() -> new FeedNotFoundException(id));
+        Feed feed = findLeasedFeed(id, leaseToken);
         
-        feed.recordSuccessfulCrawl();
+        applySuccessfulCrawl(feed, result, since -> feedRepository.countArticlesByFeedIdCreatedAfter(id, since));
         feedRepository.save(feed);
+        syncSchedule(feed);
+        feedCache.invalidate(id);
         
         log.debug("Recorded successful crawl for feed id: {}", id);
     }
@@ -270,24 +334,103 @@ public class FeedService {
      * Called by worker after failed crawl
      */
     @Transactional
-    @CacheEvict(value = "feeds", key = "#id")
-    public void recordFailedCrawl(Long id, String errorMessage) {
+    public void recordFailedCrawl(Long id, String leaseToken, String errorMessage) {
         log.warn("Recording failed crawl for feed id: {} with error: {}", id, errorMessage);
         
-        Feed feed = feedRepository.findById(id)
-                .orElseThrow(() -> new FeedNotFoundException(id));
+        Feed feed = findLeasedFeed(id, leaseToken);
         
-        feed.recordFailedCrawl(errorMessage);
+        applyFailedCrawl(feed, errorMessage);
         feedRepository.save(feed);
+        syncSchedule(feed);
+        feedCache.invalidate(id);
         
         log.debug("Recorded failed crawl for feed id: {}. Failure count: {}", id, feed.getFailureCount());
     }
 
+    /**
+     * Record the crawl outcomes of many feeds at once
+     * Feeds are read (and locked) in one query, yields counted in one grouped query, and the new crawl state
+     * written in one JDBC batch; only the reported feeds leave the cache.
+     * Outcomes whose claim no longer holds the feed's lease are reported as LEASE_LOST and not written.
+     */
+    @Transactional
+    public CrawlOutcomeBatchResponseDto recordCrawlOutcomes(List<CrawlOutcomeDto> outcomes) {
+        log.debug("Recording {} crawl outcomes", outcomes.size());
+
+        Set<Long> ids = outcomes.stream().map(CrawlOutcomeDto::getFeedId).collect(Collectors.toSet());
+        // Read-only: changes are written by the batch below, not flushed entity by entity
+        Map<Long, Feed> feeds = feedRepository.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(Feed::getId, Function.identity()));
+        Map<Long, Integer> yields = new HashMap<>();
+        for (Object[] row : feedRepository.countNewArticlesByFeedIds(ids)) {
+            yields.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+
+        List<CrawlOutcomeBatchResponseDto.ItemResult> results = new ArrayList<>(outcomes.size());
+        // Keyed by id: Feed's generated hashCode walks its associations
+        Map<Long, Feed> changed = new LinkedHashMap<>();
+        Map<Long, String> leaseTokens = new HashMap<>();
+        for (CrawlOutcomeDto outcome : outcomes) {
+            Feed feed = feeds.get(outcome.getFeedId());
+            if (feed == null) {
+                results.add(CrawlOutcomeBatchResponseDto.ItemResult.builder()
+                        .feedId(outcome.getFeedId())
+                        .status(CrawlOutcomeBatchResponseDto.ItemStatus.NOT_FOUND)
+                        .build());
+                continue;
+            }
+            // A feed reported twice only has its first outcome applied: that one ends the lease
+            if (!feed.holdsLease(outcome.getLeaseToken())) {
+                results.add(CrawlOutcomeBatchResponseDto.ItemResult.builder()
+                        .feedId(feed.getId())
+                        .status(CrawlOutcomeBatchResponseDto.ItemStatus.LEASE_LOST)
+                        .build());
+                continue;
+            }
+            leaseTokens.put(feed.getId(), outcome.getLeaseToken());
+            if (Boolean.TRUE.equals(outcome.getSuccess())) {
+                CrawlSuccessDto result = CrawlSuccessDto.builder()
+                        .etag(outcome.getEtag())
+                        .lastModified(outcome.getLastModified())
+                        .contentHash(outcome.getContentHash())
+                        .notModified(outcome.getNotModified())
+                        .build();
+                applySuccessfulCrawl(feed, result, since -> yields.getOrDefault(feed.getId(), 0));
+            } else {
+                applyFailedCrawl(feed, outcome.getErrorMessage());
+            }
+            changed.put(feed.getId(), feed);
+            results.add(CrawlOutcomeBatchResponseDto.ItemResult.builder()
+                    .feedId(feed.getId())
+                    .status(CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED)
+                    .nextCrawlAt(feed.getNextCrawlAt())
+                    .crawlIntervalMinutes(feed.currentCrawlInterval())
+                    .failureCount(feed.getFailureCount())
+                    .build());
+        }
+
+        feedBatchRepository.updateCrawlState(new ArrayList<>(changed.values()), leaseTokens);
+        changed.values().forEach(this::syncSchedule);
+        feedCache.invalidate(List.copyOf(changed.keySet()));
+
+        Map<CrawlOutcomeBatchResponseDto.ItemStatus, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(CrawlOutcomeBatchResponseDto.ItemResult::getStatus, Collectors.counting()));
+        int updated = counts.getOrDefault(CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED, 0L).intValue();
+        int notFound = counts.getOrDefault(CrawlOutcomeBatchResponseDto.ItemStatus.NOT_FOUND, 0L).intValue();
+        int leaseLost = counts.getOrDefault(CrawlOutcomeBatchResponseDto.ItemStatus.LEASE_LOST, 0L).intValue();
+        log.info("Recorded {} crawl outcomes ({} unknown feeds, {} lost leases)", updated, notFound, leaseLost);
+        return CrawlOutcomeBatchResponseDto.builder()
+                .updated(updated)
+                .notFound(notFound)
+                .leaseLost(leaseLost)
+                .results(results)
+                .build();
+    }
+
     /**
      * Bulk activate feeds
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
     public void bulkActivateFeeds(List<Long> feedIds) {
         log.info("Bulk activating {} feeds", feedIds.size());
         
@@ -295,9 +438,12 @@ public class FeedService {
         feeds.forEach(feed -> {
             feed.setIsActive(true);
             feed.setFailureCount(0);
+            feedCircuitBreaker.onSuccess(feed);
         });
         
         feedRepository.saveAll(feeds);
+        feeds.forEach(this::syncSchedule);
+        feedCache.invalidate(feedIds);
         log.info("Successfully activated {} feeds", feeds.size());
     }
 
@@ -305,7 +451,6 @@ public class FeedService {
      * Bulk deactivate feeds
      */
     @Transactional
-    @CacheEvict(value = "feeds", allEntries = true)
     public void bulkDeactivateFeeds(List<Long> feedIds) {
         log.info("Bulk deactivating {} feeds", feedIds.size());
         
@@ -313,9 +458,63 @@ public class FeedService {
         feeds.forEach(feed -> feed.setIsActive(false));
         
         feedRepository.saveAll(feeds);
+        feeds.forEach(this::syncSchedule);
+        feedCache.invalidate(feedIds);
         log.info("Successfully deactivated {} feeds", feeds.size());
     }
 
+    /**
+     * Feed row for a crawl outcome, locked; the reporting claim must still hold its lease
+     */
+    private Feed findLeasedFeed(Long id, String leaseToken) {
+        Feed feed = feedRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new FeedNotFoundException(id));
+        if (!feed.holdsLease(leaseToken)) {
+            throw new CrawlLeaseLostException(id);
+        }
+        return feed;
+    }
+
+    /**
+     * Apply a successful crawl to the feed: validators, yield estimate and next crawl time.
+     * An unchanged feed (304, or the same body hash) skips article processing: it yielded nothing.
+     */
+    private void applySuccessfulCrawl(Feed feed, CrawlSuccessDto result, ToIntFunction<LocalDateTime> newArticlesSince) {
+        boolean unchanged = result != null && (Boolean.TRUE.equals(result.getNotModified())
+                || (result.getContentHash() != null && result.getContentHash().equals(feed.getContentHash())));
+        if (result != null) {
+            feed.updateValidators(result.getEtag(), result.getLastModified(), result.getContentHash());
+        }
+
+        LocalDateTime since = feed.getLastSuccessfulCrawl();
+        feed.recordSuccessfulCrawl();
+        feedCircuitBreaker.onSuccess(feed);
+        // The first crawl returns the feed's whole backlog, so only later crawls measure the arrival rate
+        if (since != null) {
+            int newArticles = unchanged ? 0 : newArticlesSince.applyAsInt(since);
+            crawlFrequencyPolicy.recordYield(feed, newArticles, since, feed.getLastCrawled());
+        }
+        feed.scheduleNextCrawl(crawlFrequencyPolicy.nextIntervalMinutes(feed));
+    }
+
+    // Below the breaker's threshold a failure only backs off; at it the circuit opens for a cool-down
+    private void applyFailedCrawl(Feed feed, String errorMessage) {
+        feed.recordFailedCrawl(errorMessage);
+        feed.scheduleNextCrawl(crawlFrequencyPolicy.nextIntervalMinutes(feed));
+        feedCircuitBreaker.onFailure(feed);
+    }
+
+    /**
+     * Keep the in-memory crawl schedule in step with the feed row
+     */
+    private void syncSchedule(Feed feed) {
+        if (Boolean.TRUE.equals(feed.getIsActive())) {
+            crawlScheduleService.schedule(feed.getId(), feed.getNextCrawlAt());
+        } else {
+            crawlScheduleService.cancel(feed.getId());
+        }
+    }
+
     /**
      * Validate feed request data
      */
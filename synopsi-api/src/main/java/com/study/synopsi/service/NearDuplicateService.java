@@ -0,0 +1,189 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.NearDuplicateConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.util.AfterCommit;
+import com.study.synopsi.util.SimHashIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Near-duplicate detection at ingestion.
+ * Keeps the SimHashes of recent articles in an in-memory banded index; an incoming article
+ * within maxDistance bits of an indexed one joins that article's cluster, whose canonical
+ * article is the first copy of the story that was ingested.
+ */
+@Service
+@Slf4j
+public class NearDuplicateService {
+
+    private final ArticleRepository articleRepository;
+    private final NearDuplicateConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Counter duplicates;
+
+    // Value is the canonical (cluster root) article id
+    private final SimHashIndex<Long> index;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NearDuplicateService(ArticleRepository articleRepository, NearDuplicateConfig config, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.index = new SimHashIndex<>(config.getMaxDistance(), config.getMaxEntries());
+        this.duplicates = Counter.builder("synopsi.dedup.duplicates")
+                .description("Ingested articles clustered under an existing canonical article")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("synopsi.dedup.index.size", this, NearDuplicateService::size)
+                .description("Articles held in the near-duplicate index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load recent articles so detection works across restarts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(config.getLookbackDays());
+        List<Object[]> rows = articleRepository.findSimHashesSince(
+                since, config.getMinWords(), PageRequest.of(0, config.getMaxEntries()));
+
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            // Rows come newest first; insert oldest first so eviction order matches ingestion order
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                Object[] row = rows.get(i);
+                Long canonicalId = row[2] != null ? (Long) row[2] : (Long) row[0];
+                index.add((Long) row[1], canonicalId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Near-duplicate index loaded with {} articles", rows.size());
+    }
+
+    /**
+     * Canonical article id of the cluster this article belongs to (empty if it is original).
+     * A match is confirmed against the database, so a canonical deleted elsewhere is never returned.
+     */
+    public Optional<Long> findCanonical(Article article) {
+        if (!isEligible(article)) {
+            return Optional.empty();
+        }
+        Optional<Long> canonicalId;
+        lock.readLock().lock();
+        try {
+            canonicalId = index.nearest(article.getSimHash()).map(SimHashIndex.Match::value);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (canonicalId.isPresent() && !articleRepository.existsById(canonicalId.get())) {
+            log.debug("Dropping deleted canonical article {} from the near-duplicate index", canonicalId.get());
+            withWriteLock(() -> index.removeValue(canonicalId.get()));
+            return Optional.empty();
+        }
+        return canonicalId;
+    }
+
+    /**
+     * Mark the article as a duplicate of the given canonical article
+     */
+    public void markDuplicate(Article article, Long canonicalId) {
+        article.setCanonicalArticleId(canonicalId);
+        article.setStatus(Article.ArticleStatus.DUPLICATE);
+        duplicates.increment();
+    }
+
+    /**
+     * Add a saved article to the index once its transaction commits
+     */
+    public void register(Article article) {
+        if (!isEligible(article) || article.getId() == null) {
+            return;
+        }
+        long simHash = article.getSimHash();
+        Long canonicalId = article.getCanonicalArticleId() != null ? article.getCanonicalArticleId() : article.getId();
+
+        AfterCommit.run(() -> withWriteLock(() -> index.add(simHash, canonicalId)));
+    }
+
+    /**
+     * Drop a deleted article from the index once its transaction commits.
+     * If it was a cluster's canonical, the cluster's entries move to successorId (or are dropped without one).
+     */
+    public void remove(Article article, Long successorId) {
+        if (article.getSimHash() == null || article.getId() == null) {
+            return;
+        }
+        long simHash = article.getSimHash();
+        Long articleId = article.getId();
+        Long canonicalId = article.getCanonicalArticleId() != null ? article.getCanonicalArticleId() : articleId;
+
+        AfterCommit.run(() -> withWriteLock(() -> {
+            index.remove(simHash, canonicalId);
+            if (canonicalId.equals(articleId)) {
+                if (successorId != null) {
+                    index.replaceValue(articleId, successorId);
+                } else {
+                    index.removeValue(articleId);
+                }
+            }
+        }));
+    }
+
+    public boolean isEligible(Article article) {
+        return config.isEnabled()
+                && article.getSimHash() != null
+                && article.getWordCount() != null
+                && article.getWordCount() >= config.getMinWords();
+    }
+
+    /**
+     * Scratch index for clustering articles within one ingestion batch
+     */
+    public <T> SimHashIndex<T> newBatchIndex(int capacity) {
+        return new SimHashIndex<>(config.getMaxDistance(), Math.max(1, capacity));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
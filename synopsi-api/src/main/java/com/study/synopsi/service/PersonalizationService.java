@@ -30,6 +30,7 @@ public class PersonalizationService {
     private final UserArticleFeedbackRepository feedbackRepository;
     private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final SummaryPrefetchService summaryPrefetchService;
 
     private final PersonalizationConfig config;
 
@@ -59,6 +60,7 @@ public class PersonalizationService {
                 .filter(dto -> dto.getRelevanceScore() >= config.getThresholds().getMinRelevanceScore())
                 .sorted((a, b) -> Double.compare(b.getRelevanceScore(), a.getRelevanceScore()))
                 .collect(Collectors.toList());
+        scoredArticles = collapseClusters(scoredArticles, articles);
 
         // Paginate results
         int start = (int) pageable.getOffset();
@@ -290,6 +292,10 @@ public class PersonalizationService {
             history.setAccessCount(1);
             readingHistoryRepository.save(history);
         }
+
+        // Feed engagement signals to the summary prefetch planner
+        Source source = article.getSource();
+        summaryPrefetchService.recordRead(article.getId(), source != null ? source.getId() : null);
     }
 
     /**
@@ -469,6 +475,26 @@ public class PersonalizationService {
                 .collect(Collectors.groupingBy(f -> f.getArticle().getId()));
     }
 
+    /**
+     * Keep only the best-scoring copy of each near-duplicate cluster (input is sorted best first)
+     */
+    private List<PersonalizedArticleDto> collapseClusters(List<PersonalizedArticleDto> scored, List<Article> articles) {
+        Map<Long, Long> clusterByArticle = new HashMap<>();
+        for (Article article : articles) {
+            if (article.getCanonicalArticleId() != null) {
+                clusterByArticle.put(article.getId(), article.getCanonicalArticleId());
+            }
+        }
+        if (clusterByArticle.isEmpty()) {
+            return scored;
+        }
+
+        Set<Long> seenClusters = new HashSet<>();
+        return scored.stream()
+                .filter(dto -> seenClusters.add(clusterByArticle.getOrDefault(dto.getArticleId(), dto.getArticleId())))
+                .collect(Collectors.toList());
+    }
+
     private boolean hasTopicOverlap(Article article, Set<Long> topicIds) {
         return article.getArticleTopics().stream()
                 .anyMatch(at -> topicIds.contains(at.getTopic().getId()));
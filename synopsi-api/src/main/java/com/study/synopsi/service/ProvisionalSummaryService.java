@@ -0,0 +1,125 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SummarizationConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.SummaryRepository;
+import com.study.synopsi.summarization.SummarizationEngine;
+import com.study.synopsi.util.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+
+/**
+ * Provisional summaries from the in-process engine.
+ * Produces an immediate default BRIEF summary for newly ingested articles so readers don't
+ * wait for the worker; the worker's result later replaces it in place (see SummaryService).
+ */
+@Service
+@Slf4j
+public class ProvisionalSummaryService {
+
+    private static final Summary.SummaryType PROVISIONAL_TYPE = Summary.SummaryType.BRIEF;
+    private static final Summary.SummaryLength PROVISIONAL_LENGTH = Summary.SummaryLength.MEDIUM;
+
+    private final SummarizationEngine summarizationEngine;
+    private final SummaryRepository summaryRepository;
+    private final ArticleRepository articleRepository;
+    private final TransactionOperations transactionOperations;
+    private final TaskExecutor summarizationExecutor;
+    private final SummarizationConfig config;
+    private final Timer latency;
+
+    public ProvisionalSummaryService(
+            SummarizationEngine summarizationEngine,
+            SummaryRepository summaryRepository,
+            ArticleRepository articleRepository,
+            TransactionOperations transactionOperations,
+            @Qualifier("summarizationExecutor") TaskExecutor summarizationExecutor,
+            SummarizationConfig config,
+            MeterRegistry meterRegistry) {
+        this.summarizationEngine = summarizationEngine;
+        this.summaryRepository = summaryRepository;
+        this.articleRepository = articleRepository;
+        this.transactionOperations = transactionOperations;
+        this.summarizationExecutor = summarizationExecutor;
+        this.config = config;
+        this.latency = Timer.builder("synopsi.summarization.provisional.latency")
+                .description("Time spent generating provisional extractive summaries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Schedule a provisional summary for an article.
+     * Runs after the surrounding transaction commits so the article row is visible to the executor thread.
+     */
+    public void submit(Article article) {
+        if (!config.isEnabled() || article == null || article.getId() == null) {
+            return;
+        }
+
+        // Capture what the task needs; the entity must not cross threads
+        Long articleId = article.getId();
+        String title = article.getTitle();
+        String content = article.getContent();
+        if (content == null || content.isBlank()) {
+            return;
+        }
+
+        Runnable task = () -> generate(articleId, title, content);
+        AfterCommit.run(() -> dispatch(articleId, task));
+    }
+
+    private void dispatch(Long articleId, Runnable task) {
+        try {
+            summarizationExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            // Executor saturated: the worker summary will still arrive, just later
+            log.warn("Skipping provisional summary for article {}: summarizer queue full", articleId);
+        }
+    }
+
+    /**
+     * Generate and store the provisional summary (executor thread)
+     */
+    void generate(Long articleId, String title, String content) {
+        try {
+            SummarizationEngine.SummarizationResult result = latency.record(
+                    () -> summarizationEngine.summarize(title, content, PROVISIONAL_LENGTH));
+            if (result == null || result.text().isBlank()) {
+                return;
+            }
+
+            transactionOperations.executeWithoutResult(status -> {
+                // The worker (or an earlier provisional run) got there first
+                if (summaryRepository.existsByArticleIdAndUserIsNullAndSummaryType(articleId, PROVISIONAL_TYPE)) {
+                    return;
+                }
+
+                Summary summary = new Summary();
+                summary.setArticle(articleRepository.getReferenceById(articleId));
+                summary.setSummaryText(result.text());
+                summary.setSummaryType(PROVISIONAL_TYPE);
+                summary.setSummaryLength(PROVISIONAL_LENGTH);
+                summary.setModelVersion(result.modelVersion());
+                summary.setTokenCount(result.tokenCount());
+                summary.setGeneratedAt(LocalDateTime.now());
+                summary.setStatus(Summary.SummaryStatus.COMPLETED);
+                summary.setProvisional(true);
+
+                Summary saved = summaryRepository.save(summary);
+                log.debug("Created provisional summary {} for article {}", saved.getId(), articleId);
+            });
+        } catch (Exception e) {
+            log.warn("Failed to create provisional summary for article {}", articleId, e);
+        }
+    }
+}
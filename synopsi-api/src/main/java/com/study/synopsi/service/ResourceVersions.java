@@ -0,0 +1,73 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.util.AfterCommit;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters for small, rarely changing collections (topics, sources) and ETag derivation,
+ * plus the feed-set version that tags cached feed query results (see FeedQueryKey).
+ * Mutations bump the counter after commit, so a conditional GET can answer 304 without reading rows.
+ * Counters live in memory; the boot epoch is part of every ETag so a restart invalidates them all.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String TOPICS = "topics";
+    public static final String SOURCES = "sources";
+    public static final String FEEDS = "feeds";
+
+    /**
+     * Validators of a single resource: a strong ETag and its Last-Modified time (may be null)
+     */
+    public record Validator(String etag, LocalDateTime lastModified) {
+
+        public long lastModifiedMillis() {
+            return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+        }
+    }
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Advance a collection's version once the current transaction commits (immediately without one)
+     */
+    public void bump(String collection) {
+        AfterCommit.run(() -> counter(collection).incrementAndGet());
+    }
+
+    public long current(String collection) {
+        return counter(collection).get();
+    }
+
+    /**
+     * Strong ETag (quoted) over the given version parts
+     */
+    public String etag(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|").add(Long.toString(epoch));
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * ETag of a collection version (the request URL tells representations apart)
+     */
+    public String collectionEtag(String collection) {
+        return etag(collection, current(collection));
+    }
+
+    private AtomicLong counter(String collection) {
+        return versions.computeIfAbsent(collection, key -> new AtomicLong());
+    }
+}
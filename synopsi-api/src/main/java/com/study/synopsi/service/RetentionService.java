@@ -0,0 +1,181 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.RetentionConfig;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.repository.ReadingHistoryRepository;
+import com.study.synopsi.repository.SummaryJobRepository;
+import com.study.synopsi.repository.SummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chunked, throttled data retention.
+ * Each table is purged in keyset-ordered chunks: ids are selected by primary key and deleted
+ * in their own short transaction, with a pause between chunks, so locks are held briefly and
+ * the job can run while normal traffic continues.
+ */
+@Service
+@Slf4j
+public class RetentionService {
+
+    private final SummaryJobRepository summaryJobRepository;
+    private final SummaryJobMetrics summaryJobMetrics;
+    private final SummaryRepository summaryRepository;
+    private final ReadingHistoryRepository readingHistoryRepository;
+    private final TransactionOperations transactionOperations;
+    private final RetentionConfig config;
+    private final MeterRegistry meterRegistry;
+
+    // Prevents overlapping runs (e.g. a manual trigger while the nightly run is still going)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RetentionService(
+            SummaryJobRepository summaryJobRepository,
+            SummaryJobMetrics summaryJobMetrics,
+            SummaryRepository summaryRepository,
+            ReadingHistoryRepository readingHistoryRepository,
+            TransactionOperations transactionOperations,
+            RetentionConfig config,
+            MeterRegistry meterRegistry) {
+        this.summaryJobRepository = summaryJobRepository;
+        this.summaryJobMetrics = summaryJobMetrics;
+        this.summaryRepository = summaryRepository;
+        this.readingHistoryRepository = readingHistoryRepository;
+        this.transactionOperations = transactionOperations;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Apply every enabled retention policy (runs daily at 2 AM)
+     * @return one result per policy that ran
+     */
+    @Scheduled(cron = "${synopsi.retention.cron:0 0 2 * * *}")
+    public List<RetentionResult> runRetention() {
+        List<RetentionResult> results = new ArrayList<>();
+        if (!config.isEnabled() || !running.compareAndSet(false, true)) {
+            return results;
+        }
+
+        try {
+            RetentionConfig.Policy jobs = config.getSummaryJobs();
+            if (jobs.isEnabled()) {
+                results.add(purge("summary_jobs", jobs,
+                        (cutoff, afterId, page) -> summaryJobRepository.findExpiredCompletedJobIds(cutoff, afterId, page),
+                        this::deleteCompletedJobs));
+            }
+
+            RetentionConfig.Policy summaries = config.getFailedSummaries();
+            if (summaries.isEnabled()) {
+                results.add(purge("summaries", summaries,
+                        (cutoff, afterId, page) -> summaryRepository.findExpiredSummaryIds(
+                                cutoff, Summary.SummaryStatus.FAILED, afterId, page),
+                        summaryRepository::deleteAllByIdIn));
+            }
+
+            RetentionConfig.Policy history = config.getReadingHistory();
+            if (history.isEnabled()) {
+                results.add(purge("reading_history", history,
+                        readingHistoryRepository::findExpiredIds,
+                        readingHistoryRepository::deleteAllByIdIn));
+            }
+        } finally {
+            running.set(false);
+        }
+        return results;
+    }
+
+    /**
+     * Delete expired rows for one policy, chunk by chunk
+     */
+    RetentionResult purge(String table, RetentionConfig.Policy policy, ChunkFinder finder, ChunkDeleter deleter) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(policy.getRetentionDays());
+        Pageable chunk = PageRequest.of(0, config.getChunkSize());
+        Counter deletedCounter = Counter.builder("synopsi.retention.deleted")
+                .description("Rows removed by retention policies")
+                .tag("table", table)
+                .register(meterRegistry);
+
+        long startNanos = System.nanoTime();
+        long afterId = 0L;
+        long deleted = 0;
+        int chunks = 0;
+
+        while (chunks < config.getMaxChunksPerRun()) {
+            long keyset = afterId;
+            ChunkOutcome outcome = transactionOperations.execute(status -> {
+                List<Long> ids = finder.find(cutoff, keyset, chunk);
+                return ids.isEmpty() ? null
+                        : new ChunkOutcome(ids.get(ids.size() - 1), deleter.delete(ids), ids.size() < chunk.getPageSize());
+            });
+            if (outcome == null) {
+                break;
+            }
+
+            afterId = outcome.lastId();
+            deleted += outcome.removed();
+            chunks++;
+            deletedCounter.increment(outcome.removed());
+            log.debug("Retention {}: chunk {} removed {} rows (through id {})", table, chunks, outcome.removed(), afterId);
+
+            // A short chunk means nothing is left; don't pause for nothing
+            if (outcome.lastChunk() || !pause()) {
+                break;
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        if (deleted > 0 || chunks >= config.getMaxChunksPerRun()) {
+            log.info("Retention {}: removed {} rows older than {} days in {} chunks ({} ms){}",
+                    table, deleted, policy.getRetentionDays(), chunks, elapsedMillis,
+                    chunks >= config.getMaxChunksPerRun() ? " - chunk cap reached, continuing next run" : "");
+        }
+        return new RetentionResult(table, deleted, chunks, elapsedMillis);
+    }
+
+    private int deleteCompletedJobs(Collection<Long> ids) {
+        int removed = summaryJobRepository.deleteAllByIdIn(ids);
+        summaryJobMetrics.recordRemoved(SummaryJob.JobStatus.COMPLETED, removed);
+        return removed;
+    }
+
+    private boolean pause() {
+        if (config.getPauseMillis() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(config.getPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkFinder {
+        List<Long> find(LocalDateTime cutoff, Long afterId, Pageable chunk);
+    }
+
+    @FunctionalInterface
+    interface ChunkDeleter {
+        int delete(Collection<Long> ids);
+    }
+
+    private record ChunkOutcome(long lastId, int removed, boolean lastChunk) {}
+
+    public record RetentionResult(String table, long deleted, int chunks, long elapsedMillis) {}
+}
@@ -0,0 +1,126 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.repository.SourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Resolves the article source-name filter to feed ids in memory, so listings filter on the
+ * indexed feed_id column instead of joining to sources with LOWER(name) LIKE.
+ * The directory is cached in the "sources" cache and evicted by SourceService and FeedService mutations.
+ */
+@Component
+@RequiredArgsConstructor
+public class SourceNameResolver {
+
+    public static final String CACHE_NAME = "sources";
+
+    private final SourceRepository sourceRepository;
+    private final FeedRepository feedRepository;
+
+    /**
+     * Snapshot of all source names and their feed ids (two small queries, cached)
+     */
+    @Cacheable(value = CACHE_NAME, key = "'directory'")
+    @Transactional(readOnly = true)
+    public SourceDirectory directory() {
+        Map<Long, List<Long>> feedIdsBySource = new HashMap<>();
+        for (Object[] row : feedRepository.findIdAndSourceId()) {
+            feedIdsBySource.computeIfAbsent((Long) row[1], id -> new ArrayList<>()).add((Long) row[0]);
+        }
+        List<SourceEntry> sources = new ArrayList<>();
+        for (Object[] row : sourceRepository.findIdAndName()) {
+            Long sourceId = (Long) row[0];
+            sources.add(new SourceEntry(sourceId, (String) row[1],
+                    List.copyOf(feedIdsBySource.getOrDefault(sourceId, List.of()))));
+        }
+        return new SourceDirectory(sources);
+    }
+
+    public record SourceEntry(Long id, String name, List<Long> feedIds) {}
+
+    /**
+     * Immutable name index: exact names are a map lookup, prefixes a sorted range,
+     * and anything else a scan over the (few) names
+     */
+    public static final class SourceDirectory {
+
+        private final NavigableMap<String, List<SourceEntry>> byLowerName = new TreeMap<>();
+
+        public SourceDirectory(List<SourceEntry> sources) {
+            for (SourceEntry source : sources) {
+                byLowerName.computeIfAbsent(normalize(source.name()), name -> new ArrayList<>()).add(source);
+            }
+        }
+
+        /**
+         * Feed ids of the sources matching the filter (exact name, else name prefix, else substring)
+         * An empty list means no source matches
+         */
+        public List<Long> resolveFeedIds(String sourceName) {
+            List<Long> feedIds = new ArrayList<>();
+            for (SourceEntry source : match(normalize(sourceName))) {
+                feedIds.addAll(source.feedIds());
+            }
+            return feedIds;
+        }
+
+        /**
+         * Source names starting with the prefix (case-insensitive), alphabetically
+         */
+        public List<String> suggest(String prefix, int limit) {
+            List<String> names = new ArrayList<>();
+            for (List<SourceEntry> entries : prefixRange(normalize(prefix)).values()) {
+                for (SourceEntry source : entries) {
+                    if (names.size() == limit) {
+                        return names;
+                    }
+                    names.add(source.name());
+                }
+            }
+            return names;
+        }
+
+        // Helper methods
+
+        private List<SourceEntry> match(String name) {
+            List<SourceEntry> exact = byLowerName.get(name);
+            if (exact != null) {
+                return exact;
+            }
+            List<SourceEntry> matches = new ArrayList<>();
+            prefixRange(name).values().forEach(matches::addAll);
+            if (matches.isEmpty()) {
+                byLowerName.forEach((candidate, entries) -> {
+                    if (candidate.contains(name)) {
+                        matches.addAll(entries);
+                    }
+                });
+            }
+            return matches;
+        }
+
+        private NavigableMap<String, List<SourceEntry>> prefixRange(String prefix) {
+            if (prefix.isEmpty()) {
+                return Collections.unmodifiableNavigableMap(byLowerName);
+            }
+            return byLowerName.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+
+        private static String normalize(String name) {
+            return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.study.synopsi.model.Source;
 import com.study.synopsi.repository.SourceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,11 +21,14 @@ public class SourceService {
 
     private final SourceRepository sourceRepository;
     private final SourceMapper sourceMapper;
+    private final SourceNameResolver sourceNameResolver;
+    private final ResourceVersions resourceVersions;
 
     /**
      * Create a new source
      */
     @Transactional
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public SourceResponseDto createSource(SourceRequestDto dto) {
         log.debug("Creating new source: {}", dto.getName());
 
@@ -42,10 +46,19 @@ public class SourceService {
         Source source = sourceMapper.toEntity(dto);
         Source savedSource = sourceRepository.save(source);
 
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Created source with id: {}", savedSource.getId());
         return sourceMapper.toDto(savedSource);
     }
 
+    /**
+     * ETag for source reads, derived from the sources version (no repository access)
+     * Source mutations and feed create/update/delete (feedCount) bump the version
+     */
+    public String getSourcesETag() {
+        return resourceVersions.collectionEtag(ResourceVersions.SOURCES);
+    }
+
     /**
      * Get source by ID
      */
@@ -89,6 +102,13 @@ public class SourceService {
         return sourceMapper.toDtoList(sources);
     }
 
+    /**
+     * Source names starting with the prefix, for typeahead (served from the cached name index)
+     */
+    public List<String> suggestSourceNames(String prefix, int limit) {
+        return sourceNameResolver.directory().suggest(prefix, limit);
+    }
+
     /**
      * Get all active sources
      */
@@ -123,6 +143,7 @@ public class SourceService {
      * Update an existing source
      */
     @Transactional
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public SourceResponseDto updateSource(Long id, SourceRequestDto dto) {
         log.debug("Updating source with id: {}", id);
 
@@ -150,6 +171,7 @@ public class SourceService {
         sourceMapper.updateEntityFromDto(dto, existingSource);
         Source updatedSource = sourceRepository.save(existingSource);
 
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Updated source with id: {}", id);
         return sourceMapper.toDto(updatedSource);
     }
@@ -158,6 +180,7 @@ public class SourceService {
      * Activate a source
      */
     @Transactional
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public SourceResponseDto activateSource(Long id) {
         log.debug("Activating source with id: {}", id);
         Source source = sourceRepository.findById(id)
@@ -166,6 +189,7 @@ public class SourceService {
         source.setIsActive(true);
         Source updatedSource = sourceRepository.save(source);
         
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Activated source with id: {}", id);
         return sourceMapper.toDto(updatedSource);
     }
@@ -174,6 +198,7 @@ public class SourceService {
      * Deactivate a source
      */
     @Transactional
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public SourceResponseDto deactivateSource(Long id) {
         log.debug("Deactivating source with id: {}", id);
         Source source = sourceRepository.findById(id)
@@ -182,6 +207,7 @@ public class SourceService {
         source.setIsActive(false);
         Source updatedSource = sourceRepository.save(source);
         
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Deactivated source with id: {}", id);
         return sourceMapper.toDto(updatedSource);
     }
@@ -190,6 +216,7 @@ public class SourceService {
      * Delete a source
      */
     @Transactional
+    @CacheEvict(value = SourceNameResolver.CACHE_NAME, allEntries = true)
     public void deleteSource(Long id) {
         log.debug("Deleting source with id: {}", id);
         
@@ -198,6 +225,7 @@ public class SourceService {
         }
         
         sourceRepository.deleteById(id);
+        resourceVersions.bump(ResourceVersions.SOURCES);
         log.info("Deleted source with id: {}", id);
     }
 
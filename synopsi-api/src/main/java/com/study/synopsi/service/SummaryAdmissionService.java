@@ -0,0 +1,132 @@
+package com.study.synopsi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.synopsi.config.SummaryAdmissionConfig;
+import com.study.synopsi.exception.TooManyRequestsException;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.SummaryJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Admission control for summary generation.
+ * Interactive requests are limited by per-user token buckets and rejected outright
+ * when the job queue is above the high watermark; default jobs for low-priority feeds
+ * are deferred instead, and released again once the queue drains below the low watermark.
+ */
+@Service
+@Slf4j
+public class SummaryAdmissionService {
+
+    // Bucket key used for requests that don't carry a user id
+    private static final long ANONYMOUS_KEY = 0L;
+
+    private final SummaryJobMetrics summaryJobMetrics;
+    private final SummaryAdmissionConfig config;
+
+    private final Cache<Long, TokenBucket> buckets;
+
+    public SummaryAdmissionService(SummaryJobMetrics summaryJobMetrics, SummaryAdmissionConfig config) {
+        this.summaryJobMetrics = summaryJobMetrics;
+        this.config = config;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(config.getMaxTrackedUsers())
+                .expireAfterAccess(config.getBucketIdleMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Admit an interactive summary request (explicit request or regeneration).
+     * Throws TooManyRequestsException when the user is over their rate or the queue is saturated.
+     */
+    public void admit(Long userId) {
+        long depth = currentQueueDepth();
+        if (depth >= config.getQueueHighWatermark()) {
+            log.warn("Rejecting summary request from user {}: queue depth {} >= {}",
+                    userId, depth, config.getQueueHighWatermark());
+            throw TooManyRequestsException.queueSaturated(depth, config.getRetryAfterSeconds());
+        }
+
+        TokenBucket bucket = buckets.get(userId != null ? userId : ANONYMOUS_KEY,
+                key -> new TokenBucket(config.getUserBurst(), config.getUserRefillPerMinute()));
+
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            log.debug("Rate limited summary request from user {} (retry after {}s)", userId, retryAfter);
+            throw TooManyRequestsException.userRateLimited(userId, retryAfter);
+        }
+    }
+
+    /**
+     * Whether the default summary job for an article from this feed should be deferred.
+     * Only low-priority feeds are deferred, and only while the queue is saturated.
+     */
+    public boolean shouldDeferDefaultJob(Feed feed) {
+        int priority = feed != null && feed.getPriority() != null ? feed.getPriority() : 5;
+        if (priority > config.getLowPriorityFeedMax()) {
+            return false;
+        }
+        return currentQueueDepth() >= config.getQueueHighWatermark();
+    }
+
+    /**
+     * Number of deferred default jobs that may be released now (0 while the queue is above the low watermark)
+     */
+    public int releasableCapacity() {
+        long headroom = config.getQueueLowWatermark() - currentQueueDepth();
+        if (headroom <= 0) {
+            return 0;
+        }
+        return (int) Math.min(headroom, config.getReleaseBatchSize());
+    }
+
+    /**
+     * Current queue depth, read from the live job counters
+     */
+    public long currentQueueDepth() {
+        return summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED);
+    }
+
+    /**
+     * Lock-free token bucket. State is swapped atomically with CAS, so concurrent
+     * requests for the same user never block each other.
+     */
+    static final class TokenBucket {
+
+        private record State(double tokens, long refilledAtNanos) {}
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private final AtomicReference<State> state;
+
+        TokenBucket(int capacity, double refillPerMinute) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        /**
+         * Try to take one token.
+         * @return 0 if admitted, otherwise the nanoseconds until a token becomes available
+         */
+        long tryAcquire(long nowNanos) {
+            while (true) {
+                State current = state.get();
+                double elapsed = Math.max(0, nowNanos - current.refilledAtNanos());
+                double available = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+
+                if (available < 1.0) {
+                    return tokensPerNano > 0 ? (long) Math.ceil((1.0 - available) / tokensPerNano) : Long.MAX_VALUE;
+                }
+                if (state.compareAndSet(current, new State(available - 1.0, nowNanos))) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.repository.SummaryJobRepository;
+import com.study.synopsi.util.AfterCommit;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live summary job counters.
+ * Per-status counts are updated in memory on every job state transition (after the transaction
+ * commits) and periodically reconciled against a single GROUP BY query, so reading them is free.
+ * Queue wait, processing time, turnaround and attempts are published as Micrometer meters.
+ */
+@Component
+@Slf4j
+public class SummaryJobMetrics {
+
+    private final SummaryJobRepository summaryJobRepository;
+
+    private final Map<SummaryJob.JobStatus, AtomicLong> counts = new EnumMap<>(SummaryJob.JobStatus.class);
+    private final AtomicReference<LocalDateTime> oldestQueuedAt = new AtomicReference<>();
+    private final AtomicBoolean reconciled = new AtomicBoolean(false);
+
+    private final Timer queueWait;
+    private final Timer processingTime;
+    private final Timer turnaround;
+    private final DistributionSummary attempts;
+
+    public SummaryJobMetrics(SummaryJobRepository summaryJobRepository, MeterRegistry meterRegistry) {
+        this.summaryJobRepository = summaryJobRepository;
+
+        for (SummaryJob.JobStatus status : SummaryJob.JobStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            counts.put(status, count);
+            Gauge.builder("synopsi.summary.jobs", count, AtomicLong::get)
+                    .description("Summary jobs by status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("synopsi.summary.jobs.oldest.queued.age", oldestQueuedAt, SummaryJobMetrics::ageSeconds)
+                .description("Age in seconds of the oldest queued job (as of the last reconcile)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.queueWait = Timer.builder("synopsi.summary.job.queue.wait")
+                .description("Time from submission until a worker picked the job up")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.processingTime = Timer.builder("synopsi.summary.job.processing")
+                .description("Time a worker spent on a job")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.turnaround = Timer.builder("synopsi.summary.job.turnaround")
+                .description("Time from submission until the job completed or failed")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.attempts = DistributionSummary.builder("synopsi.summary.job.attempts")
+                .description("Attempts used by finished jobs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a job state transition (from is null for a newly created job).
+     * Applied after commit when a transaction is active, so rolled-back work is never counted.
+     */
+    public void recordTransition(SummaryJob.JobStatus from, SummaryJob.JobStatus to) {
+        if (from == to) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            if (from != null) {
+                counts.get(from).updateAndGet(value -> Math.max(0, value - 1));
+            }
+            if (to != null) {
+                counts.get(to).incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Record jobs created in bulk (JDBC batch ingestion)
+     */
+    public void recordQueued(int created) {
+        if (created > 0) {
+            AfterCommit.run(() -> counts.get(SummaryJob.JobStatus.QUEUED).addAndGet(created));
+        }
+    }
+
+    /**
+     * Record a job reaching a terminal state (timings and attempts)
+     */
+    public void recordFinished(SummaryJob job) {
+        LocalDateTime submittedAt = job.getSubmittedAt();
+        LocalDateTime startedAt = job.getStartedAt();
+        LocalDateTime completedAt = job.getCompletedAt() != null ? job.getCompletedAt() : LocalDateTime.now();
+
+        if (submittedAt != null && startedAt != null) {
+            queueWait.record(positive(Duration.between(submittedAt, startedAt)));
+        }
+        if (startedAt != null) {
+            processingTime.record(positive(Duration.between(startedAt, completedAt)));
+        }
+        if (submittedAt != null) {
+            turnaround.record(positive(Duration.between(submittedAt, completedAt)));
+        }
+        attempts.record(Math.max(1, job.getAttempts() != null ? job.getAttempts() : 0));
+    }
+
+    /**
+     * Record jobs removed outside the normal lifecycle (retention deletes)
+     */
+    public void recordRemoved(SummaryJob.JobStatus status, int removed) {
+        if (removed > 0) {
+            AfterCommit.run(() -> counts.get(status).updateAndGet(value -> Math.max(0, value - removed)));
+        }
+    }
+
+    /**
+     * Current number of jobs in a status
+     */
+    public long count(SummaryJob.JobStatus status) {
+        ensureReconciled();
+        return counts.get(status).get();
+    }
+
+    /**
+     * Re-read all counts with a single GROUP BY query (runs every minute by default)
+     */
+    @Scheduled(fixedDelayString = "${synopsi.summary.jobs.reconcile-interval-ms:60000}", initialDelay = 60_000)
+    public void reconcile() {
+        List<Object[]> rows = summaryJobRepository.summarizeByStatus();
+
+        Map<SummaryJob.JobStatus, Long> fresh = new EnumMap<>(SummaryJob.JobStatus.class);
+        LocalDateTime oldestQueued = null;
+        for (Object[] row : rows) {
+            SummaryJob.JobStatus status = (SummaryJob.JobStatus) row[0];
+            fresh.put(status, ((Number) row[1]).longValue());
+            if (status == SummaryJob.JobStatus.QUEUED) {
+                oldestQueued = (LocalDateTime) row[2];
+            }
+        }
+
+        counts.forEach((status, count) -> {
+            long expected = fresh.getOrDefault(status, 0L);
+            long drift = count.getAndSet(expected) - expected;
+            if (drift != 0 && reconciled.get()) {
+                log.debug("Reconciled {} job count (drift {})", status, drift);
+            }
+        });
+        oldestQueuedAt.set(oldestQueued);
+        reconciled.set(true);
+    }
+
+    // Helper methods
+
+    private void ensureReconciled() {
+        if (!reconciled.get()) {
+            synchronized (this) {
+                if (!reconciled.get()) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    private static double ageSeconds(AtomicReference<LocalDateTime> queuedAt) {
+        LocalDateTime oldest = queuedAt.get();
+        return oldest == null ? 0.0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds());
+    }
+
+    private Duration positive(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+}
@@ -0,0 +1,86 @@
+package com.study.synopsi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.synopsi.model.Summary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hit-rate accounting for prefetched summaries.
+ * A hit is the first time a prefetched summary is actually served to a client.
+ */
+@Component
+public class SummaryPrefetchMetrics {
+
+    private static final int MAX_TRACKED_SERVED = 100_000;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter enqueued;
+    private final Counter completed;
+    private final Counter hits;
+
+    // Prefetched summary ids already counted as hits (so repeat reads don't inflate the rate)
+    private final Cache<Long, Boolean> servedSummaryIds = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_SERVED)
+            .build();
+
+    public SummaryPrefetchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.enqueued = Counter.builder("synopsi.summary.prefetch.enqueued")
+                .description("Summary jobs enqueued speculatively by the prefetch planner")
+                .register(meterRegistry);
+        this.completed = Counter.builder("synopsi.summary.prefetch.completed")
+                .description("Prefetched summaries generated by the worker")
+                .register(meterRegistry);
+        this.hits = Counter.builder("synopsi.summary.prefetch.hits")
+                .description("Prefetched summaries served to a client at least once")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("synopsi.summary.prefetch.hit.ratio", this, SummaryPrefetchMetrics::hitRate)
+                .description("Share of prefetched summaries that were served")
+                .register(meterRegistry);
+    }
+
+    public void recordEnqueued() {
+        enqueued.increment();
+    }
+
+    public void recordCompleted() {
+        completed.increment();
+    }
+
+    /**
+     * Record that a summary was served; only counts the first serve of a prefetched summary
+     */
+    public void recordServed(Summary summary) {
+        if (summary == null || !Boolean.TRUE.equals(summary.getPrefetched()) || summary.getId() == null) {
+            return;
+        }
+        if (servedSummaryIds.asMap().putIfAbsent(summary.getId(), Boolean.TRUE) == null) {
+            hits.increment();
+        }
+    }
+
+    public double hitRate() {
+        double produced = completed.count();
+        return produced > 0 ? hits.count() / produced : 0.0;
+    }
+
+    public PrefetchStatistics getStatistics() {
+        return new PrefetchStatistics(
+                (long) enqueued.count(),
+                (long) completed.count(),
+                (long) hits.count(),
+                hitRate()
+        );
+    }
+
+    public record PrefetchStatistics(long enqueued, long completed, long hits, double hitRate) {}
+}
@@ -0,0 +1,218 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SummaryPrefetchConfig;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.SummaryJobRepository;
+import com.study.synopsi.repository.SummaryRepository;
+import com.study.synopsi.repository.UserPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Predictive summary prefetching.
+ * Scores recent articles by topic interest density, trending reads and source read rate,
+ * and enqueues the most likely-needed summary variants at low priority while the worker is idle.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryPrefetchService {
+
+    private final ArticleRepository articleRepository;
+    private final SummaryRepository summaryRepository;
+    private final SummaryJobRepository summaryJobRepository;
+    private final UserPreferenceRepository userPreferenceRepository;
+    private final SummaryService summaryService;
+    private final SummaryAdmissionService summaryAdmissionService;
+    private final SummaryPrefetchConfig config;
+
+    // Decaying read counters (trending signal), updated on every reading interaction
+    private final Map<Long, DoubleAdder> articleReads = new ConcurrentHashMap<>();
+    private final Map<Long, DoubleAdder> sourceReads = new ConcurrentHashMap<>();
+
+    /**
+     * Record a read so trending and per-source read rates stay current
+     */
+    public void recordRead(Long articleId, Long sourceId) {
+        if (articleId != null) {
+            articleReads.computeIfAbsent(articleId, id -> new DoubleAdder()).add(1.0);
+        }
+        if (sourceId != null) {
+            sourceReads.computeIfAbsent(sourceId, id -> new DoubleAdder()).add(1.0);
+        }
+    }
+
+    /**
+     * Plan and enqueue prefetch jobs (runs every 5 minutes by default).
+     * Not transactional: each enqueue commits on its own, so one rejected candidate
+     * doesn't roll back the rest of the run.
+     * @return number of jobs enqueued
+     */
+    @Scheduled(fixedDelayString = "${synopsi.summary.prefetch.interval-ms:300000}", initialDelay = 120_000)
+    public int planPrefetch() {
+        if (!config.isEnabled()) {
+            return 0;
+        }
+
+        try {
+            long queueDepth = summaryAdmissionService.currentQueueDepth();
+            long idleSlots = config.getIdleQueueDepth() - queueDepth;
+            if (idleSlots <= 0) {
+                log.debug("Skipping prefetch: queue depth {} above idle threshold {}", queueDepth, config.getIdleQueueDepth());
+                return 0;
+            }
+            int budget = (int) Math.min(config.getBudgetPerRun(), idleSlots);
+
+            List<PrefetchCandidate> candidates = rankCandidates();
+            int enqueued = 0;
+            for (PrefetchCandidate candidate : candidates) {
+                if (enqueued >= budget) {
+                    break;
+                }
+                try {
+                    summaryService.requestPrefetchSummary(candidate.articleId(), candidate.summaryType());
+                    enqueued++;
+                } catch (RuntimeException e) {
+                    // Article deleted or variant requested since ranking; the next run re-ranks
+                    log.debug("Skipping prefetch of {} for article {}: {}",
+                            candidate.summaryType(), candidate.articleId(), e.getMessage());
+                }
+            }
+
+            if (enqueued > 0) {
+                log.info("Prefetch planner enqueued {} summary jobs (budget {}, {} candidates)",
+                        enqueued, budget, candidates.size());
+            }
+            return enqueued;
+        } finally {
+            decayCounters();
+        }
+    }
+
+    /**
+     * Score every missing (article, variant) pair and return them best first
+     */
+    List<PrefetchCandidate> rankCandidates() {
+        LocalDateTime since = LocalDateTime.now().minusHours(config.getLookbackHours());
+        List<Object[]> rows = articleRepository.findPrefetchCandidates(since, PageRequest.of(0, config.getCandidateLimit()));
+        if (rows.isEmpty() || config.getVariants().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Long> sourceByArticle = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            sourceByArticle.put((Long) row[0], (Long) row[1]);
+        }
+        Set<Long> articleIds = sourceByArticle.keySet();
+
+        Map<Long, List<Long>> topicsByArticle = groupPairs(articleRepository.findTopicIdsByArticleIds(articleIds));
+        Map<Long, Set<Summary.SummaryType>> covered = new HashMap<>();
+        collectTypes(summaryRepository.findDefaultSummaryTypesByArticleIds(articleIds), covered);
+        collectTypes(summaryJobRepository.findActiveDefaultJobTypesByArticleIds(articleIds), covered);
+
+        Map<Long, Double> topicDensity = normalize(toCounts(userPreferenceRepository.countHighInterestUsersPerTopic()));
+        Map<Long, Double> trending = normalize(snapshot(articleReads));
+        Map<Long, Double> sourceRate = normalize(snapshot(sourceReads));
+
+        List<PrefetchCandidate> candidates = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : sourceByArticle.entrySet()) {
+            Long articleId = entry.getKey();
+
+            double topicScore = topicsByArticle.getOrDefault(articleId, Collections.emptyList()).stream()
+                    .mapToDouble(topicId -> topicDensity.getOrDefault(topicId, 0.0))
+                    .max()
+                    .orElse(0.0);
+            double score = topicScore * config.getTopicInterestWeight()
+                    + trending.getOrDefault(articleId, 0.0) * config.getTrendingWeight()
+                    + sourceRate.getOrDefault(entry.getValue(), 0.0) * config.getSourceReadWeight();
+
+            if (score < config.getMinScore()) {
+                continue;
+            }
+
+            Set<Summary.SummaryType> existing = covered.getOrDefault(articleId, Collections.emptySet());
+            List<Summary.SummaryType> variants = config.getVariants();
+            for (int i = 0; i < variants.size(); i++) {
+                if (!existing.contains(variants.get(i))) {
+                    // Earlier variants in the configured list win ties
+                    candidates.add(new PrefetchCandidate(articleId, variants.get(i), score, i));
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(PrefetchCandidate::score).reversed()
+                .thenComparingInt(PrefetchCandidate::variantRank));
+        return candidates;
+    }
+
+    // Helper methods
+
+    private void decayCounters() {
+        decay(articleReads);
+        decay(sourceReads);
+    }
+
+    private void decay(Map<Long, DoubleAdder> counters) {
+        counters.entrySet().removeIf(entry -> {
+            double decayed = entry.getValue().sumThenReset() * config.getTrendingDecay();
+            if (decayed < 0.01) {
+                return true;
+            }
+            entry.getValue().add(decayed);
+            return false;
+        });
+    }
+
+    private Map<Long, Double> snapshot(Map<Long, DoubleAdder> counters) {
+        Map<Long, Double> values = new HashMap<>();
+        counters.forEach((id, adder) -> values.put(id, adder.sum()));
+        return values;
+    }
+
+    private Map<Long, Double> toCounts(List<Object[]> rows) {
+        Map<Long, Double> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).doubleValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Scale values into [0, 1] relative to the maximum
+     */
+    private Map<Long, Double> normalize(Map<Long, Double> values) {
+        double max = values.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+        if (max <= 0) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Double> normalized = new HashMap<>();
+        values.forEach((id, value) -> normalized.put(id, value / max));
+        return normalized;
+    }
+
+    private Map<Long, List<Long>> groupPairs(List<Object[]> rows) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return grouped;
+    }
+
+    private void collectTypes(List<Object[]> rows, Map<Long, Set<Summary.SummaryType>> target) {
+        for (Object[] row : rows) {
+            target.computeIfAbsent((Long) row[0], id -> EnumSet.noneOf(Summary.SummaryType.class))
+                    .add((Summary.SummaryType) row[1]);
+        }
+    }
+
+    record PrefetchCandidate(Long articleId, Summary.SummaryType summaryType, double score, int variantRank) {}
+}
@@ -14,6 +14,7 @@ import com.study.synopsi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -33,14 +34,18 @@ public class SummaryService {
     private final SummaryJobRepository summaryJobRepository;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final SummaryAdmissionService summaryAdmissionService;
+    private final SummaryPrefetchMetrics summaryPrefetchMetrics;
+    private final SummaryJobMetrics summaryJobMetrics;
 
     // Configuration constants
-    private static final int JOB_CLEANUP_DAYS = 7;
     private static final int STALE_JOB_TIMEOUT_HOURS = 2;
+    static final int DEFAULT_JOB_PRIORITY = 5;
+    private static final int PREFETCH_JOB_PRIORITY = 2; // Below every demand-driven job
 
     /**
      * Request a new summary for an article
-     * Creates a job and submits to worker (currently stubbed)
+     * Interactive entry point: subject to per-user rate limits and queue back-pressure
      */
     @Transactional
     public SummaryJob requestSummary(
@@ -49,6 +54,50 @@ public class SummaryService {
             Summary.SummaryType summaryType,
             Summary.SummaryLength summaryLength) {
 
+        // Admission control (throws 429 when over rate or queue saturated)
+        summaryAdmissionService.admit(userId);
+
+        return createJob(articleId, userId, summaryType, summaryLength);
+    }
+
+    /**
+     * Request the default (non-personalized) summary for a newly ingested article
+     * Bypasses per-user rate limits; callers decide whether to defer via SummaryAdmissionService
+     */
+    @Transactional
+    public SummaryJob requestDefaultSummary(Long articleId) {
+        return createJob(articleId, null, Summary.SummaryType.BRIEF, Summary.SummaryLength.MEDIUM, false);
+    }
+
+    /**
+     * Speculatively request a default summary variant predicted to be needed soon
+     * Enqueued at the lowest priority so it only consumes idle worker capacity
+     */
+    @Transactional
+    public SummaryJob requestPrefetchSummary(Long articleId, Summary.SummaryType summaryType) {
+        SummaryJob job = createJob(articleId, null, summaryType, Summary.SummaryLength.MEDIUM, true);
+        summaryPrefetchMetrics.recordEnqueued();
+        return job;
+    }
+
+    private SummaryJob createJob(
+            Long articleId,
+            Long userId,
+            Summary.SummaryType summaryType,
+            Summary.SummaryLength summaryLength) {
+        return createJob(articleId, userId, summaryType, summaryLength, false);
+    }
+
+    /**
+     * Create a job and submit to worker (currently stubbed)
+     */
+    private SummaryJob createJob(
+            Long articleId,
+            Long userId,
+            Summary.SummaryType summaryType,
+            Summary.SummaryLength summaryLength,
+            boolean prefetched) {
+
         // Validate article exists
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new ArticleNotFoundException(articleId));
@@ -73,9 +122,11 @@ public class SummaryService {
                 SummaryJob.JobStatus.PROCESSING
         );
 
+        // Default jobs only collide with a job for the same variant (e.g. a queued prefetch of another type)
         boolean jobExists = userId != null
                 ? summaryJobRepository.existsByArticleIdAndUserIdAndStatusIn(articleId, userId, activeStatuses)
-                : summaryJobRepository.existsByArticleIdAndUserIsNullAndStatusIn(articleId, activeStatuses);
+                : summaryJobRepository.existsByArticleIdAndUserIsNullAndSummaryTypeAndStatusIn(
+                        articleId, summaryType, activeStatuses);
 
         if (jobExists) {
             log.warn("Active job already exists for article {} and user {}", articleId, userId);
@@ -89,15 +140,20 @@ public class SummaryService {
         job.setSummaryType(summaryType);
         job.setSummaryLength(summaryLength);
         job.setStatus(SummaryJob.JobStatus.QUEUED);
-        job.setPriority(userId != null ? 7 : 5); // User-specific summaries get higher priority
+        job.setPriority(prefetched ? PREFETCH_JOB_PRIORITY
+                : userId != null ? 7 : DEFAULT_JOB_PRIORITY); // User-specific summaries get higher priority
+        job.setPrefetched(prefetched);
         job.setSubmittedAt(LocalDateTime.now());
 
         SummaryJob savedJob = summaryJobRepository.save(job);
+        summaryJobMetrics.recordTransition(null, SummaryJob.JobStatus.QUEUED);
         log.info("Created summary job {} for article {}", savedJob.getId(), articleId);
 
-        // Update article status
-        article.setStatus(Article.ArticleStatus.PROCESSING);
-        articleRepository.save(article);
+        // Update article status (prefetched variants don't change the article lifecycle)
+        if (!prefetched) {
+            article.setStatus(Article.ArticleStatus.PROCESSING);
+            articleRepository.save(article);
+        }
 
         // Submit to worker (stubbed for now)
         submitToWorker(savedJob);
@@ -126,9 +182,7 @@ public class SummaryService {
         }
 
         // Fall back to default summary
-        return summaryRepository.findByArticleIdAndUserIsNullAndSummaryTypeAndStatus(
-                articleId, summaryType, Summary.SummaryStatus.COMPLETED
-        );
+        return getDefaultSummary(articleId, summaryType);
     }
 
     /**
@@ -136,9 +190,11 @@ public class SummaryService {
      */
     @Transactional(readOnly = true)
     public Optional<Summary> getDefaultSummary(Long articleId, Summary.SummaryType summaryType) {
-        return summaryRepository.findByArticleIdAndUserIsNullAndSummaryTypeAndStatus(
+        Optional<Summary> summary = summaryRepository.findByArticleIdAndUserIsNullAndSummaryTypeAndStatus(
                 articleId, summaryType, Summary.SummaryStatus.COMPLETED
         );
+        summary.ifPresent(summaryPrefetchMetrics::recordServed);
+        return summary;
     }
 
     /**
@@ -225,6 +281,25 @@ public class SummaryService {
                 job.getSummaryLength());
     }
 
+    /**
+     * Handle callback from worker when it picks a job up
+     * Moves the job from QUEUED to PROCESSING and records its start time (queue wait and processing metrics);
+     * repeated or late callbacks for a job that is no longer QUEUED are ignored
+     */
+    @Transactional
+    public void handleWorkerStarted(Long jobId) {
+        SummaryJob job = getJobById(jobId);
+        if (job.getStatus() != SummaryJob.JobStatus.QUEUED) {
+            log.debug("Ignoring start callback for job {} in status {}", jobId, job.getStatus());
+            return;
+        }
+
+        job.markAsStarted();
+        summaryJobRepository.save(job);
+        summaryJobMetrics.recordTransition(SummaryJob.JobStatus.QUEUED, SummaryJob.JobStatus.PROCESSING);
+        log.info("Worker started job {}", jobId);
+    }
+
     /**
      * Handle callback from worker when summary is complete
      * This will be called by worker webhook/callback
@@ -232,19 +307,26 @@ public class SummaryService {
     @Transactional
     public void handleWorkerCallback(Long jobId, String summaryText, String modelVersion, Integer tokenCount) {
         SummaryJob job = getJobById(jobId);
+        SummaryJob.JobStatus previousStatus = job.getStatus();
         
         try {
-            // Create summary entity
-            Summary summary = new Summary();
+            // Default jobs supersede the provisional (extractive) summary in place, so readers
+            // never see two default summaries of the same type; otherwise create a new entity
+            Summary summary = job.isDefaultSummaryJob()
+                    ? summaryRepository.findFirstByArticleIdAndUserIsNullAndSummaryTypeAndProvisionalTrue(
+                            job.getArticle().getId(), job.getSummaryType()).orElseGet(Summary::new)
+                    : new Summary();
             summary.setArticle(job.getArticle());
             summary.setUser(job.getUser());
             summary.setSummaryText(summaryText);
             summary.setSummaryType(job.getSummaryType());
             summary.setSummaryLength(job.getSummaryLength());
+            summary.setProvisional(false);
             summary.setModelVersion(modelVersion);
             summary.setGeneratedAt(LocalDateTime.now());
             summary.setTokenCount(tokenCount);
             summary.setStatus(Summary.SummaryStatus.COMPLETED);
+            summary.setPrefetched(job.getPrefetched());
 
             Summary savedSummary = summaryRepository.save(summary);
             log.info("Created summary {} from job {}", savedSummary.getId(), jobId);
@@ -253,17 +335,26 @@ public class SummaryService {
             job.markAsCompleted();
             summaryJobRepository.save(job);
 
+            if (Boolean.TRUE.equals(job.getPrefetched())) {
+                summaryPrefetchMetrics.recordCompleted();
+            }
+
             // Update article status if this was the default summary
-            if (job.isDefaultSummaryJob()) {
+            if (job.isDefaultSummaryJob() && !Boolean.TRUE.equals(job.getPrefetched())) {
                 Article article = job.getArticle();
                 article.setStatus(Article.ArticleStatus.SUMMARIZED);
                 articleRepository.save(article);
             }
 
+            summaryJobMetrics.recordTransition(previousStatus, SummaryJob.JobStatus.COMPLETED);
+            summaryJobMetrics.recordFinished(job);
+
         } catch (Exception e) {
             log.error("Failed to process worker callback for job {}", jobId, e);
             job.markAsFailed("Failed to save summary: " + e.getMessage());
             summaryJobRepository.save(job);
+            summaryJobMetrics.recordTransition(previousStatus, SummaryJob.JobStatus.FAILED);
+            summaryJobMetrics.recordFinished(job);
         }
     }
 
@@ -273,6 +364,7 @@ public class SummaryService {
     @Transactional
     public void handleWorkerFailure(Long jobId, String errorMessage) {
         SummaryJob job = getJobById(jobId);
+        SummaryJob.JobStatus previousStatus = job.getStatus();
         job.incrementAttempts();
 
         if (job.canRetry()) {
@@ -280,6 +372,7 @@ public class SummaryService {
             job.setStatus(SummaryJob.JobStatus.QUEUED);
             job.setErrorMessage(errorMessage + " (will retry)");
             summaryJobRepository.save(job);
+            summaryJobMetrics.recordTransition(previousStatus, SummaryJob.JobStatus.QUEUED);
             
             // Resubmit to worker
             submitToWorker(job);
@@ -287,9 +380,11 @@ public class SummaryService {
             log.error("Job {} failed permanently after {} attempts", jobId, job.getAttempts());
             job.markAsFailed(errorMessage);
             summaryJobRepository.save(job);
+            summaryJobMetrics.recordTransition(previousStatus, SummaryJob.JobStatus.FAILED);
+            summaryJobMetrics.recordFinished(job);
 
             // Update article status
-            if (job.isDefaultSummaryJob()) {
+            if (job.isDefaultSummaryJob() && !Boolean.TRUE.equals(job.getPrefetched())) {
                 Article article = job.getArticle();
                 article.setStatus(Article.ArticleStatus.FAILED);
                 articleRepository.save(article);
@@ -327,6 +422,7 @@ public class SummaryService {
         job.setStatus(SummaryJob.JobStatus.QUEUED);
         job.setErrorMessage(null);
         SummaryJob savedJob = summaryJobRepository.save(job);
+        summaryJobMetrics.recordTransition(SummaryJob.JobStatus.FAILED, SummaryJob.JobStatus.QUEUED);
         
         submitToWorker(savedJob);
         log.info("Retrying failed job {}", jobId);
@@ -335,14 +431,25 @@ public class SummaryService {
     }
 
     /**
-     * Scheduled cleanup of old completed jobs (runs daily at 2 AM)
+     * Release default jobs that were deferred while the queue was saturated (runs every minute)
+     * Highest-priority feeds and oldest articles are released first
      */
-    @Scheduled(cron = "0 0 2 * * *")
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
     @Transactional
-    public void cleanupOldJobs() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(JOB_CLEANUP_DAYS);
-        int deletedCount = summaryJobRepository.deleteOldCompletedJobs(cutoffDate);
-        log.info("Cleaned up {} completed jobs older than {} days", deletedCount, JOB_CLEANUP_DAYS);
+    public void releaseDeferredJobs() {
+        int capacity = summaryAdmissionService.releasableCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        List<Long> articleIds = articleRepository.findDeferredArticleIds(PageRequest.of(0, capacity));
+        for (Long articleId : articleIds) {
+            requestDefaultSummary(articleId);
+        }
+
+        if (!articleIds.isEmpty()) {
+            log.info("Released {} deferred default summary jobs", articleIds.size());
+        }
     }
 
     /**
@@ -362,17 +469,24 @@ public class SummaryService {
 
     /**
      * Get job statistics
+     * Served from live in-memory counters (see SummaryJobMetrics), no queries
      */
-    @Transactional(readOnly = true)
     public JobStatistics getJobStatistics() {
         JobStatistics stats = new JobStatistics();
-        stats.setQueuedCount(summaryJobRepository.countByStatus(SummaryJob.JobStatus.QUEUED));
-        stats.setProcessingCount(summaryJobRepository.countByStatus(SummaryJob.JobStatus.PROCESSING));
-        stats.setCompletedCount(summaryJobRepository.countByStatus(SummaryJob.JobStatus.COMPLETED));
-        stats.setFailedCount(summaryJobRepository.countByStatus(SummaryJob.JobStatus.FAILED));
+        stats.setQueuedCount(summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED));
+        stats.setProcessingCount(summaryJobMetrics.count(SummaryJob.JobStatus.PROCESSING));
+        stats.setCompletedCount(summaryJobMetrics.count(SummaryJob.JobStatus.COMPLETED));
+        stats.setFailedCount(summaryJobMetrics.count(SummaryJob.JobStatus.FAILED));
         return stats;
     }
 
+    /**
+     * Get prefetch hit-rate statistics
+     */
+    public SummaryPrefetchMetrics.PrefetchStatistics getPrefetchStatistics() {
+        return summaryPrefetchMetrics.getStatistics();
+    }
+
     // Inner class for statistics
     public static class JobStatistics {
         private long queuedCount;
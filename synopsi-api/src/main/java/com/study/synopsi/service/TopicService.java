@@ -23,6 +23,7 @@ public class TopicService {
 
     private final TopicRepository topicRepository;
     private final TopicMapper topicMapper;
+    private final ResourceVersions resourceVersions;
 
     private static final int MAX_HIERARCHY_DEPTH = 4;
 
@@ -56,10 +57,18 @@ public class TopicService {
         Topic topic = topicMapper.toEntity(dto);
         Topic savedTopic = topicRepository.save(topic);
 
+        resourceVersions.bump(ResourceVersions.TOPICS);
         log.info("Created topic with id: {}", savedTopic.getId());
         return topicMapper.toDto(savedTopic);
     }
 
+    /**
+     * ETag for topic reads, derived from the topics version (no repository access)
+     */
+    public String getTopicsETag() {
+        return resourceVersions.collectionEtag(ResourceVersions.TOPICS);
+    }
+
     /**
      * Get topic by ID
      */
@@ -199,6 +208,7 @@ public class TopicService {
         topicMapper.updateEntityFromDto(dto, existingTopic);
         Topic updatedTopic = topicRepository.save(existingTopic);
 
+        resourceVersions.bump(ResourceVersions.TOPICS);
         log.info("Updated topic with id: {}", id);
         return topicMapper.toDto(updatedTopic);
     }
@@ -222,6 +232,7 @@ public class TopicService {
         }
         
         topicRepository.deleteById(id);
+        resourceVersions.bump(ResourceVersions.TOPICS);
         log.info("Deleted topic with id: {}", id);
     }
 
@@ -1,5 +1,6 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.config.JwtTokenCache;
 import com.study.synopsi.dto.*;
 import com.study.synopsi.model.User;
 import com.study.synopsi.model.UserPreference;
@@ -27,6 +28,7 @@ public class UserService {
     private final UserPreferenceRepository userPreferenceRepository;
     private final ReadingHistoryRepository readingHistoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtTokenCache jwtTokenCache;
 
     /**
      * Create a new user
@@ -176,6 +178,7 @@ public class UserService {
         // Update password
         user.setPassword(passwordEncoder.encode(passwordChangeDto.getNewPassword()));
         userRepository.save(user);
+        jwtTokenCache.invalidateUser(userId);
         
         log.info("Password changed successfully for user: {}", userId);
     }
@@ -192,6 +195,7 @@ public class UserService {
         
         user.setEnabled(false);
         userRepository.save(user);
+        jwtTokenCache.invalidateUser(userId);
         
         log.info("User soft deleted: {}", userId);
     }
@@ -213,6 +217,7 @@ public class UserService {
     public void disableUser(Long userId) {
         log.info("Disabling user: {}", userId);
         userRepository.setEnabled(userId, false);
+        jwtTokenCache.invalidateUser(userId);
         log.info("User disabled: {}", userId);
     }
 
@@ -223,6 +228,7 @@ public class UserService {
     public void lockUser(Long userId) {
         log.info("Locking user account: {}", userId);
         userRepository.setAccountLocked(userId, true);
+        jwtTokenCache.invalidateUser(userId);
         log.info("User account locked: {}", userId);
     }
 
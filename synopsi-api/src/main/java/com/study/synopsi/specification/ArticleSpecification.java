@@ -1,5 +1,6 @@
 package com.study.synopsi.specification;
 
+import com.study.synopsi.dto.ArticleCursor;
 import com.study.synopsi.dto.filter.ArticleFilterParams;
 import com.study.synopsi.model.Article;
 import com.study.synopsi.model.Article.ArticleStatus;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -103,9 +105,16 @@ public class ArticleSpecification {
         };
     }
 
+    /**
+     * Restrict to a set of article ids (e.g. search index matches)
+     */
+    public static Specification<Article> hasIdIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
     /**
      * Full-text search across title, content, and description
-     * Case-insensitive LIKE search
+     * Case-insensitive LIKE search (fallback while the search index is unavailable)
      */
     public static Specification<Article> searchByTerm(String searchTerm) {
         return (root, query, criteriaBuilder) -> {
@@ -135,21 +144,76 @@ public class ArticleSpecification {
         };
     }
 
+    /**
+     * Keyset predicate: articles strictly after the cursor in (publicationDate DESC, id DESC) order
+     */
+    public static Specification<Article> after(ArticleCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(root.get("publicationDate"), cursor.publicationDate()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("publicationDate"), cursor.publicationDate()),
+                            criteriaBuilder.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+
+    /**
+     * Filter by feed ids (a source name resolved in memory); an empty collection matches nothing
+     */
+    public static Specification<Article> hasFeedIdIn(Collection<Long> feedIds) {
+        return (root, query, criteriaBuilder) -> {
+            if (feedIds.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            return root.get("feed").get("id").in(feedIds);
+        };
+    }
+
     /**
      * Build complete specification from filter parameters
      * Combines all active filters with AND logic
      */
     public static Specification<Article> buildSpecification(ArticleFilterParams params) {
+        return buildSpecification(params, null);
+    }
+
+    /**
+     * Build complete specification, filtering the source by pre-resolved feed ids when given
+     */
+    public static Specification<Article> buildSpecification(ArticleFilterParams params, Collection<Long> sourceFeedIds) {
         if (params == null) {
             return (root, query, criteriaBuilder) -> criteriaBuilder.conjunction(); // No filters
         }
 
+        return buildFilterSpecification(params, sourceFeedIds)
+                .and(searchByTerm(params.getSearchTerm()));
+    }
+
+    /**
+     * Build specification from every filter except the search term
+     * (used when the search term is resolved by the search index)
+     */
+    public static Specification<Article> buildFilterSpecification(ArticleFilterParams params) {
+        return buildFilterSpecification(params, null);
+    }
+
+    /**
+     * Build specification from every filter except the search term
+     * sourceFeedIds replaces the source name join when the caller resolved it (null: LIKE on the name)
+     */
+    public static Specification<Article> buildFilterSpecification(ArticleFilterParams params, Collection<Long> sourceFeedIds) {
+        if (params == null) {
+            return (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
+        }
+
         return hasStatus(params.getStatus())
                 .and(hasFeedId(params.getFeedId()))
-                .and(hasSourceName(params.getSource()))
+                .and(sourceFeedIds != null ? hasFeedIdIn(sourceFeedIds) : hasSourceName(params.getSource()))
                 .and(publishedAfter(params.getStartDate()))
                 .and(publishedBefore(params.getEndDate()))
-                .and(hasLanguage(params.getLanguage()))
-                .and(searchByTerm(params.getSearchTerm()));
+                .and(hasLanguage(params.getLanguage()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+package com.study.synopsi.summarization;
+
+import com.study.synopsi.model.Summary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pure-Java extractive summarizer.
+ * Sentences are scored by TF-IDF (each sentence treated as a document), overlap with the title
+ * and a lead bias, then the best ones are emitted in their original order up to a word budget.
+ * Work is bounded by MAX_SENTENCES so latency stays in the low milliseconds for any article.
+ */
+@Component
+public class ExtractiveSummarizationEngine implements SummarizationEngine {
+
+    public static final String MODEL_VERSION = "extractive-tfidf-v1";
+
+    private static final int MAX_SENTENCES = 200;     // Only the first N sentences are scored
+    private static final int MIN_SENTENCE_WORDS = 4;  // Fragments shorter than this are ignored
+    private static final double TITLE_WEIGHT = 0.5;
+    private static final double LEAD_WEIGHT = 0.3;
+
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "can", "could", "did", "do",
+            "does", "for", "from", "had", "has", "have", "he", "her", "his", "how", "i", "if", "in", "into",
+            "is", "it", "its", "may", "more", "most", "not", "of", "on", "one", "or", "our", "out", "over",
+            "said", "says", "she", "so", "some", "than", "that", "the", "their", "them", "then", "there",
+            "these", "they", "this", "those", "to", "up", "was", "we", "were", "what", "when", "where",
+            "which", "who", "will", "with", "would", "you", "your"
+    ));
+
+    @Override
+    public String modelVersion() {
+        return MODEL_VERSION;
+    }
+
+    @Override
+    public SummarizationResult summarize(String title, String content, Summary.SummaryLength length) {
+        if (content == null || content.isBlank()) {
+            return null;
+        }
+
+        List<Sentence> sentences = splitSentences(content);
+        if (sentences.isEmpty()) {
+            return null;
+        }
+
+        int wordBudget = wordBudget(length);
+        List<Sentence> selected = sentences.size() == 1 ? sentences : selectSentences(sentences, title, wordBudget);
+
+        StringBuilder text = new StringBuilder();
+        int words = 0;
+        for (Sentence sentence : selected) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(sentence.text());
+            words += sentence.terms().length + sentence.stopWords();
+        }
+        return new SummarizationResult(text.toString(), words, MODEL_VERSION);
+    }
+
+    // Scoring
+
+    private List<Sentence> selectSentences(List<Sentence> sentences, String title, int wordBudget) {
+        int n = sentences.size();
+
+        // Document frequency of each term across sentences
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (Sentence sentence : sentences) {
+            for (String term : new HashSet<>(Arrays.asList(sentence.terms()))) {
+                documentFrequency.merge(term, 1, Integer::sum);
+            }
+        }
+
+        Set<String> titleTerms = title != null ? new HashSet<>(Arrays.asList(tokenize(title).terms)) : Set.of();
+
+        double[] scores = new double[n];
+        double maxScore = 0;
+        for (int i = 0; i < n; i++) {
+            Sentence sentence = sentences.get(i);
+            Map<String, Integer> termFrequency = new HashMap<>();
+            for (String term : sentence.terms()) {
+                termFrequency.merge(term, 1, Integer::sum);
+            }
+
+            double tfidf = 0;
+            int titleHits = 0;
+            for (Map.Entry<String, Integer> entry : termFrequency.entrySet()) {
+                double idf = Math.log((double) n / documentFrequency.get(entry.getKey())) + 1.0;
+                tfidf += entry.getValue() * idf;
+                if (titleTerms.contains(entry.getKey())) {
+                    titleHits++;
+                }
+            }
+            // Length-normalize so long sentences don't win by size alone
+            scores[i] = sentence.terms().length > 0 ? tfidf / Math.sqrt(sentence.terms().length) : 0;
+            scores[i] += titleTerms.isEmpty() ? 0 : TITLE_WEIGHT * scores[i] * titleHits / titleTerms.size();
+            maxScore = Math.max(maxScore, scores[i]);
+        }
+
+        // Lead bias: news articles front-load the important facts
+        for (int i = 0; i < n; i++) {
+            scores[i] = (maxScore > 0 ? scores[i] / maxScore : 0) + LEAD_WEIGHT / (1 + i);
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        boolean[] chosen = new boolean[n];
+        int words = 0;
+        for (Integer index : order) {
+            Sentence sentence = sentences.get(index);
+            int sentenceWords = sentence.terms().length + sentence.stopWords();
+            if (words > 0 && words + sentenceWords > wordBudget) {
+                continue;
+            }
+            chosen[index] = true;
+            words += sentenceWords;
+            if (words >= wordBudget) {
+                break;
+            }
+        }
+
+        List<Sentence> selected = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (chosen[i]) {
+                selected.add(sentences.get(i));
+            }
+        }
+        return selected;
+    }
+
+    private int wordBudget(Summary.SummaryLength length) {
+        if (length == null) {
+            return 120;
+        }
+        return switch (length) {
+            case SHORT -> 60;
+            case MEDIUM -> 120;
+            case LONG -> 250;
+        };
+    }
+
+    // Text processing
+
+    /**
+     * Split into sentences in a single pass: a sentence ends at . ! ? followed by whitespace,
+     * or at a blank line (paragraph break)
+     */
+    private List<Sentence> splitSentences(String content) {
+        List<Sentence> sentences = new ArrayList<>();
+        int length = content.length();
+        int start = 0;
+
+        for (int i = 0; i < length && sentences.size() < MAX_SENTENCES; i++) {
+            char c = content.charAt(i);
+            boolean terminal = (c == '.' || c == '!' || c == '?')
+                    && (i + 1 == length || Character.isWhitespace(content.charAt(i + 1)));
+            boolean paragraph = c == '\n' && i + 1 < length && content.charAt(i + 1) == '\n';
+
+            if (terminal || paragraph) {
+                addSentence(sentences, content, start, i + 1);
+                start = i + 1;
+            }
+        }
+        if (start < length && sentences.size() < MAX_SENTENCES) {
+            addSentence(sentences, content, start, length);
+        }
+        return sentences;
+    }
+
+    private void addSentence(List<Sentence> sentences, String content, int start, int end) {
+        String text = content.substring(start, end).strip();
+        if (text.isEmpty()) {
+            return;
+        }
+        Tokens tokens = tokenize(text);
+        if (tokens.terms.length + tokens.stopWords >= MIN_SENTENCE_WORDS) {
+            sentences.add(new Sentence(tokens.text, tokens.terms, tokens.stopWords));
+        }
+    }
+
+    /**
+     * Lower-cased alphanumeric terms with stop words removed (stop words are only counted).
+     * The same pass copies the text with each whitespace run collapsed to one space.
+     */
+    private Tokens tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        int stopWords = 0;
+        StringBuilder word = new StringBuilder();
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isWhitespace(c)) {
+                space = true;
+            } else {
+                if (space && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                space = false;
+                normalized.append(c);
+            }
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                String term = word.toString();
+                if (STOP_WORDS.contains(term) || term.length() < 2) {
+                    stopWords++;
+                } else {
+                    terms.add(term);
+                }
+                word.setLength(0);
+            }
+        }
+        return new Tokens(normalized.toString(), terms.toArray(new String[0]), stopWords);
+    }
+
+    private record Tokens(String text, String[] terms, int stopWords) {}
+
+    private record Sentence(String text, String[] terms, int stopWords) {}
+}
@@ -0,0 +1,30 @@
+package com.study.synopsi.summarization;
+
+import com.study.synopsi.model.Summary;
+
+/**
+ * Pluggable summarization engine running inside the API process.
+ * Implementations must be thread-safe and fast enough to run on the request path's side executor.
+ */
+public interface SummarizationEngine {
+
+    /**
+     * Model version recorded on summaries produced by this engine (e.g. "extractive-tfidf-v1")
+     */
+    String modelVersion();
+
+    /**
+     * Summarize an article
+     *
+     * @param title   article title (used as a relevance hint, may be null)
+     * @param content full article text
+     * @param length  requested summary length
+     * @return the summary, or null if the content is too short to summarize
+     */
+    SummarizationResult summarize(String title, String content, Summary.SummaryLength length);
+
+    /**
+     * Engine output
+     */
+    record SummarizationResult(String text, int tokenCount, String modelVersion) {}
+}
@@ -0,0 +1,309 @@
+package com.study.synopsi.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass article content analysis.
+ * One scan over the characters (HTML tags skipped, common entities decoded) yields word count,
+ * read time, an exact-content fingerprint, a 64-bit SimHash over word bigrams, a stop-word
+ * based language guess and a plain-text excerpt. Words are hashed incrementally, so no
+ * substrings or token arrays are allocated.
+ */
+public final class ContentAnalyzer {
+
+    public static final int WORDS_PER_MINUTE = 200;
+    public static final int EXCERPT_LENGTH = 300;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MAX_STOP_WORD_LENGTH = 5;
+
+    // Stop words per language, stored as sorted FNV-1a hashes so lookups don't allocate
+    private static final String[] LANGUAGES = {"en", "es", "fr", "de", "it", "pt"};
+    private static final long[][] STOP_WORD_HASHES = stopWordHashes(Map.of(
+            "en", List.of("the", "and", "of", "to", "in", "is", "that", "it", "for", "was", "on", "are", "with", "as", "this", "be", "at", "by", "have", "from"),
+            "es", List.of("el", "la", "de", "que", "y", "en", "los", "se", "del", "las", "por", "un", "una", "con", "para", "es", "al", "lo", "como", "su"),
+            "fr", List.of("le", "la", "les", "de", "des", "et", "est", "un", "une", "du", "que", "qui", "dans", "pour", "pas", "sur", "au", "avec", "il", "ce"),
+            "de", List.of("der", "die", "das", "und", "ist", "nicht", "ein", "eine", "zu", "den", "mit", "von", "sich", "des", "auf", "auch", "dem", "im", "es", "wie"),
+            "it", List.of("il", "di", "che", "e", "la", "per", "un", "una", "non", "sono", "del", "della", "le", "gli", "con", "si", "da", "al", "nel", "anche"),
+            "pt", List.of("o", "de", "que", "e", "do", "da", "em", "um", "uma", "para", "com", "os", "no", "na", "se", "por", "mais", "as", "dos", "ao")
+    ));
+
+    private ContentAnalyzer() {
+    }
+
+    /**
+     * Analyze content in one pass (null or blank content yields empty features)
+     */
+    public static ContentFeatures analyze(CharSequence content) {
+        Scanner scanner = new Scanner();
+        if (content != null) {
+            int length = content.length();
+            for (int i = 0; i < length; i++) {
+                char c = content.charAt(i);
+                if (c == '&' && !scanner.inTag) {
+                    // Decode the entity in place and continue after it
+                    int end = scanner.entityEnd(content, i);
+                    if (end > i) {
+                        scanner.acceptText(decodeEntity(content, i + 1, end));
+                        i = end;
+                        continue;
+                    }
+                }
+                if (c == '<' && !scanner.inTag && !opensTag(content, i + 1)) {
+                    scanner.acceptText(c); // A bare '<' ("a < b", "<3") is text, not markup
+                    continue;
+                }
+                scanner.accept(c);
+            }
+        }
+        return scanner.finish();
+    }
+
+    /**
+     * Count words without analyzing anything else (no allocation)
+     */
+    public static int countWords(CharSequence content) {
+        if (content == null) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < content.length(); i++) {
+            boolean whitespace = Character.isWhitespace(content.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+
+    public static int readTimeMinutes(int wordCount) {
+        return Math.max(1, (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+
+    /**
+     * Derived content features, persisted on Article
+     */
+    public record ContentFeatures(
+            int wordCount,
+            int readTimeMinutes,
+            long fingerprint,       // Hash of the normalized word sequence (exact duplicates)
+            long simHash,           // 64-bit SimHash over word bigrams (near duplicates)
+            String language,        // Best stop-word match, null when there is no evidence
+            double languageConfidence,
+            String excerpt          // Plain-text lead, at most EXCERPT_LENGTH chars
+    ) {}
+
+    // Scanner state
+
+    private static final class Scanner {
+        private final int[] simHashVotes = new int[64];
+        private final int[] stopWordHits = new int[LANGUAGES.length];
+        private final StringBuilder excerpt = new StringBuilder(EXCERPT_LENGTH + 1);
+
+        private boolean inTag;
+        private boolean excerptFull;
+        private boolean pendingSpace;
+
+        private int wordCount;
+        private int wordLength;
+        private long wordHash = FNV_OFFSET;
+        private long previousWordHash;
+        private boolean hasPrevious;
+        private long fingerprint = FNV_OFFSET;
+        private int features;
+
+        void accept(char c) {
+            if (inTag) {
+                inTag = c != '>';
+                return;
+            }
+            if (c == '<') {
+                inTag = true;
+                endWord(); // Tags split words; the excerpt keeps the source whitespace around them
+                return;
+            }
+            acceptText(c);
+        }
+
+        /**
+         * Accept a character known to be text (decoded entities never open a tag)
+         */
+        void acceptText(char c) {
+            if (Character.isLetterOrDigit(c)) {
+                char lower = Character.toLowerCase(c);
+                wordHash = (wordHash ^ lower) * FNV_PRIME;
+                wordLength++;
+            } else {
+                endWord();
+            }
+            appendExcerpt(c);
+        }
+
+        private void appendExcerpt(char c) {
+            if (excerptFull) {
+                return;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = excerpt.length() > 0;
+                return;
+            }
+            if (pendingSpace) {
+                excerpt.append(' ');
+                pendingSpace = false;
+            }
+            excerpt.append(c);
+            excerptFull = excerpt.length() > EXCERPT_LENGTH;
+        }
+
+        private void endWord() {
+            if (wordLength == 0) {
+                return;
+            }
+            wordCount++;
+            fingerprint = (fingerprint ^ wordHash) * FNV_PRIME;
+
+            if (wordLength <= MAX_STOP_WORD_LENGTH) {
+                for (int lang = 0; lang < LANGUAGES.length; lang++) {
+                    if (Arrays.binarySearch(STOP_WORD_HASHES[lang], wordHash) >= 0) {
+                        stopWordHits[lang]++;
+                    }
+                }
+            }
+
+            // Bigram shingles make the SimHash sensitive to word order
+            if (hasPrevious) {
+                vote(mix(previousWordHash * 31 + wordHash));
+            }
+            previousWordHash = wordHash;
+            hasPrevious = true;
+
+            wordHash = FNV_OFFSET;
+            wordLength = 0;
+        }
+
+        private void vote(long featureHash) {
+            features++;
+            for (int bit = 0; bit < 64; bit++) {
+                simHashVotes[bit] += ((featureHash >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+        }
+
+        /**
+         * Index of the ';' closing an entity starting at start, or -1
+         */
+        int entityEnd(CharSequence content, int start) {
+            int limit = Math.min(content.length(), start + 10);
+            for (int i = start + 1; i < limit; i++) {
+                char c = content.charAt(i);
+                if (c == ';') {
+                    return i > start + 1 ? i : -1;
+                }
+                if (!Character.isLetterOrDigit(c) && c != '#') {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        ContentFeatures finish() {
+            endWord();
+            if (features == 0 && hasPrevious) {
+                vote(mix(previousWordHash)); // Single-word content
+            }
+
+            long simHash = 0;
+            for (int bit = 0; bit < 64; bit++) {
+                if (simHashVotes[bit] > 0) {
+                    simHash |= 1L << bit;
+                }
+            }
+
+            int best = -1;
+            int totalHits = 0;
+            for (int lang = 0; lang < LANGUAGES.length; lang++) {
+                totalHits += stopWordHits[lang];
+                if (stopWordHits[lang] > 0 && (best < 0 || stopWordHits[lang] > stopWordHits[best])) {
+                    best = lang;
+                }
+            }
+            // Share of stop-word hits won by the best language, damped for very short texts
+            double confidence = best < 0 ? 0.0
+                    : (double) stopWordHits[best] / totalHits * Math.min(1.0, stopWordHits[best] / 5.0);
+
+            return new ContentFeatures(
+                    wordCount,
+                    readTimeMinutes(wordCount),
+                    wordCount > 0 ? mix(fingerprint) : 0L,
+                    simHash,
+                    best < 0 ? null : LANGUAGES[best],
+                    confidence,
+                    trimExcerpt());
+        }
+
+        private String trimExcerpt() {
+            if (excerpt.length() <= EXCERPT_LENGTH) {
+                return excerpt.isEmpty() ? null : excerpt.toString();
+            }
+            // Cut at the last word boundary and mark the truncation
+            int cut = excerpt.lastIndexOf(" ", EXCERPT_LENGTH - 1);
+            return excerpt.substring(0, cut > 0 ? cut : EXCERPT_LENGTH - 1) + "…";
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Whether the character after a '<' starts markup (element, end tag, comment/doctype or processing instruction)
+     */
+    private static boolean opensTag(CharSequence content, int next) {
+        if (next >= content.length()) {
+            return false;
+        }
+        char c = content.charAt(next);
+        return Character.isLetter(c) || c == '/' || c == '!' || c == '?';
+    }
+
+    private static char decodeEntity(CharSequence content, int start, int end) {
+        String name = content.subSequence(start, end).toString();
+        return switch (name) {
+            case "amp" -> '&';
+            case "lt" -> '<';
+            case "gt" -> '>';
+            case "quot" -> '"';
+            case "apos", "#39" -> '\'';
+            default -> ' ';
+        };
+    }
+
+    /**
+     * Final avalanche step (from SplitMix64) so similar inputs spread over all bits
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[][] stopWordHashes(Map<String, List<String>> stopWords) {
+        long[][] hashes = new long[LANGUAGES.length][];
+        for (int lang = 0; lang < LANGUAGES.length; lang++) {
+            List<String> words = stopWords.get(LANGUAGES[lang]);
+            hashes[lang] = new long[words.size()];
+            for (int i = 0; i < words.size(); i++) {
+                long hash = FNV_OFFSET;
+                for (char c : words.get(i).toCharArray()) {
+                    hash = (hash ^ c) * FNV_PRIME;
+                }
+                hashes[lang][i] = hash;
+            }
+            Arrays.sort(hashes[lang]);
+        }
+        return hashes;
+    }
+}
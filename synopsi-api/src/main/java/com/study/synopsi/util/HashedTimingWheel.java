@@ -0,0 +1,92 @@
+package com.study.synopsi.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel: keys with a deadline are hashed into one of wheelSize slots by deadline tick.
+ * Scheduling and cancelling are O(1); advancing visits only the slots of the ticks that elapsed and
+ * emits the keys that are due. Deadlines further out than one revolution share a slot with nearer
+ * ones and stay put until a later pass finds them due. Each key is held at most once. Not thread-safe.
+ */
+public final class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final List<Map<K, Long>> slots;
+    private final Map<K, Integer> slotOf = new HashMap<>();
+    private long lastTick; // Ticks up to here are fully processed (the current tick is revisited)
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new HashMap<>());
+        }
+        this.lastTick = Math.floorDiv(startMillis, tickMillis) - 1;
+    }
+
+    /**
+     * Schedule a key (replacing its previous deadline). Past deadlines are emitted on the next advance.
+     */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(Math.floorDiv(deadlineMillis, tickMillis), lastTick + 1);
+        int slot = (int) Math.floorMod(tick, (long) slots.size());
+        slots.get(slot).put(key, deadlineMillis);
+        slotOf.put(key, slot);
+    }
+
+    public boolean cancel(K key) {
+        Integer slot = slotOf.remove(key);
+        return slot != null && slots.get(slot).remove(key) != null;
+    }
+
+    public boolean contains(K key) {
+        return slotOf.containsKey(key);
+    }
+
+    /**
+     * Move the wheel to nowMillis and remove the keys due by then, earliest deadline first
+     */
+    public List<K> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        if (nowTick <= lastTick) {
+            return List.of();
+        }
+        // A gap of a full revolution or more visits every slot once
+        long ticks = Math.min(nowTick - lastTick, slots.size());
+        List<Map.Entry<K, Long>> due = new ArrayList<>();
+        for (long tick = nowTick - ticks + 1; tick <= nowTick; tick++) {
+            Iterator<Map.Entry<K, Long>> entries = slots.get((int) Math.floorMod(tick, (long) slots.size()))
+                    .entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<K, Long> entry = entries.next();
+                if (entry.getValue() <= nowMillis) {
+                    due.add(Map.entry(entry.getKey(), entry.getValue()));
+                    slotOf.remove(entry.getKey());
+                    entries.remove();
+                }
+            }
+        }
+        // Keys later in the current tick are not due yet; revisit its slot on the next advance
+        lastTick = nowTick - 1;
+        due.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        return due.stream().map(Map.Entry::getKey).toList();
+    }
+
+    public int size() {
+        return slotOf.size();
+    }
+
+    public void clear() {
+        slots.forEach(Map::clear);
+        slotOf.clear();
+    }
+}
@@ -0,0 +1,171 @@
+package com.study.synopsi.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Banded lookup tables for 64-bit SimHashes.
+ * The hash is split into maxDistance + 1 bands; by the pigeonhole principle two hashes within
+ * Hamming distance maxDistance agree exactly on at least one band, so a lookup only compares
+ * against the entries sharing a band value instead of scanning everything.
+ * Holds at most capacity entries (oldest evicted first). Not thread-safe.
+ */
+public final class SimHashIndex<T> {
+
+    private final int maxDistance;
+    private final int capacity;
+    private final int[] shifts;
+    private final long[] masks;
+    private final List<Map<Long, List<Entry<T>>>> tables;
+    private final ArrayDeque<Entry<T>> insertionOrder = new ArrayDeque<>();
+
+    public SimHashIndex(int maxDistance, int capacity) {
+        if (maxDistance < 0 || maxDistance > 63) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and 63");
+        }
+        this.maxDistance = maxDistance;
+        this.capacity = capacity;
+
+        int bands = maxDistance + 1;
+        this.shifts = new int[bands];
+        this.masks = new long[bands];
+        this.tables = new ArrayList<>(bands);
+        int width = 64 / bands;
+        for (int band = 0; band < bands; band++) {
+            // The last band takes the remaining bits
+            int bits = band == bands - 1 ? 64 - width * band : width;
+            shifts[band] = width * band;
+            masks[band] = bits == 64 ? -1L : (1L << bits) - 1;
+            tables.add(new HashMap<>());
+        }
+    }
+
+    public void add(long simHash, T value) {
+        Entry<T> entry = new Entry<>(simHash, value);
+        link(entry);
+        insertionOrder.addLast(entry);
+        if (insertionOrder.size() > capacity) {
+            evict(insertionOrder.removeFirst());
+        }
+    }
+
+    /**
+     * Remove one entry with this hash and value
+     */
+    public boolean remove(long simHash, T value) {
+        Entry<T> entry = new Entry<>(simHash, value);
+        if (!insertionOrder.remove(entry)) {
+            return false;
+        }
+        evict(entry);
+        return true;
+    }
+
+    /**
+     * Remove every entry holding this value (linear in the index size)
+     */
+    public int removeValue(T value) {
+        int removed = 0;
+        Iterator<Entry<T>> entries = insertionOrder.iterator();
+        while (entries.hasNext()) {
+            Entry<T> entry = entries.next();
+            if (Objects.equals(entry.value(), value)) {
+                entries.remove();
+                evict(entry);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Point every entry holding from at to instead, keeping hashes and eviction order (linear in the index size)
+     */
+    public int replaceValue(T from, T to) {
+        int replaced = 0;
+        ArrayDeque<Entry<T>> order = new ArrayDeque<>(insertionOrder.size());
+        for (Entry<T> entry : insertionOrder) {
+            if (Objects.equals(entry.value(), from)) {
+                Entry<T> moved = new Entry<>(entry.simHash(), to);
+                evict(entry);
+                link(moved);
+                order.addLast(moved);
+                replaced++;
+            } else {
+                order.addLast(entry);
+            }
+        }
+        insertionOrder.clear();
+        insertionOrder.addAll(order);
+        return replaced;
+    }
+
+    /**
+     * Closest stored hash within maxDistance, if any
+     */
+    public Optional<Match<T>> nearest(long simHash) {
+        Entry<T> best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int band = 0; band < shifts.length; band++) {
+            List<Entry<T>> bucket = tables.get(band).get(bandKey(simHash, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (Entry<T> entry : bucket) {
+                int distance = Long.bitCount(entry.simHash() ^ simHash);
+                if (distance < bestDistance && distance <= maxDistance) {
+                    best = entry;
+                    bestDistance = distance;
+                }
+            }
+            if (bestDistance == 0) {
+                break;
+            }
+        }
+        return best == null ? Optional.empty() : Optional.of(new Match<>(best.value(), bestDistance));
+    }
+
+    public int size() {
+        return insertionOrder.size();
+    }
+
+    public void clear() {
+        tables.forEach(Map::clear);
+        insertionOrder.clear();
+    }
+
+    public record Match<T>(T value, int distance) {}
+
+    // Helper methods
+
+    private long bandKey(long simHash, int band) {
+        return (simHash >>> shifts[band]) & masks[band];
+    }
+
+    private void link(Entry<T> entry) {
+        for (int band = 0; band < shifts.length; band++) {
+            tables.get(band).computeIfAbsent(bandKey(entry.simHash(), band), key -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    private void evict(Entry<T> entry) {
+        for (int band = 0; band < shifts.length; band++) {
+            long key = bandKey(entry.simHash(), band);
+            List<Entry<T>> bucket = tables.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    tables.get(band).remove(key);
+                }
+            }
+        }
+    }
+
+    private record Entry<T>(long simHash, T value) {}
+}
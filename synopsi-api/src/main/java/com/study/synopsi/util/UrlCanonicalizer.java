@@ -0,0 +1,115 @@
+package com.study.synopsi.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Canonical form of article URLs, used to recognise the same article behind different links.
+ * Lower-cases scheme and host, drops "www.", default ports, fragments and tracking parameters
+ * (utm_*, click ids), and sorts the remaining query parameters.
+ */
+public final class UrlCanonicalizer {
+
+    public static final int HASH_LENGTH = 64; // Hex-encoded SHA-256
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "mc_cid", "mc_eid", "igshid", "_ga", "ref_src"
+    );
+
+    private UrlCanonicalizer() {
+    }
+
+    /**
+     * Canonical form of a URL (input returned trimmed if it cannot be parsed)
+     */
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null || uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+
+        StringBuilder canonical = new StringBuilder(trimmed.length());
+        canonical.append(scheme).append("://").append(host);
+
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("http".equals(scheme) && port == 80)
+                || ("https".equals(scheme) && port == 443);
+        if (!defaultPort) {
+            canonical.append(':').append(port);
+        }
+
+        String path = uri.getRawPath();
+        canonical.append(path == null || path.isEmpty() ? "/" : path);
+
+        String query = canonicalQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            canonical.append('?').append(query);
+        }
+        // Fragment intentionally dropped
+        return canonical.toString();
+    }
+
+    /**
+     * Fixed-width identity key for a URL: hex SHA-256 of its canonical form
+     */
+    public static String hash(String url) {
+        String canonical = canonicalize(url);
+        if (canonical == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        List<String> kept = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int eq = param.indexOf('=');
+            String name = (eq >= 0 ? param.substring(0, eq) : param).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            kept.add(param);
+        }
+        kept.sort(null);
+        return String.join("&", kept);
+    }
+}
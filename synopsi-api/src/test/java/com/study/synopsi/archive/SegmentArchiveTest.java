@@ -0,0 +1,91 @@
+package com.study.synopsi.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<SegmentArchive.Entry> entries(long fromId, int count) {
+        List<SegmentArchive.Entry> entries = new ArrayList<>();
+        for (long id = fromId; id < fromId + count; id++) {
+            entries.add(new SegmentArchive.Entry(id, "Article " + id + " – " + "lorem ipsum dolor ".repeat(40)));
+        }
+        return entries;
+    }
+
+    // Content that barely compresses, so segments fill up quickly
+    private static List<SegmentArchive.Entry> randomEntries(long fromId, int count) {
+        List<SegmentArchive.Entry> entries = new ArrayList<>();
+        for (long id = fromId; id < fromId + count; id++) {
+            Random random = new Random(id);
+            StringBuilder content = new StringBuilder("Article " + id + " ");
+            for (int i = 0; i < 40; i++) {
+                content.append(Long.toHexString(random.nextLong())).append(' ');
+            }
+            entries.add(new SegmentArchive.Entry(id, content.toString()));
+        }
+        return entries;
+    }
+
+    @Test
+    @DisplayName("append should pack entries into blocks that read back by location")
+    void append_ShouldRoundTripThroughBlocks() throws Exception {
+        SegmentArchive archive = new SegmentArchive(directory, 4 * 1024, 1024 * 1024);
+        List<SegmentArchive.Entry> entries = entries(1, 50);
+
+        List<SegmentArchive.Location> locations = archive.append(entries);
+
+        assertThat(locations).hasSize(50);
+        assertThat(locations.stream().map(SegmentArchive.Location::offset).distinct().count())
+                .as("several entries share each block").isBetween(2L, 49L);
+        for (int i = 0; i < entries.size(); i++) {
+            assertThat(archive.read(locations.get(i))).contains(entries.get(i).content());
+        }
+        // Compressed well below the raw size
+        assertThat(Files.size(directory.resolve("segment-000001.seg")))
+                .isLessThan(entries.stream().mapToLong(e -> e.content().length()).sum() / 4);
+    }
+
+    @Test
+    @DisplayName("append should roll over to a new segment and keep earlier mappings readable")
+    void append_ShouldRollSegments() throws Exception {
+        SegmentArchive archive = new SegmentArchive(directory, 1024, 2 * 1024);
+        List<SegmentArchive.Location> first = archive.append(randomEntries(1, 20));
+        assertThat(archive.read(first.get(0))).isPresent(); // Maps the segment at its current length
+
+        List<SegmentArchive.Location> second = archive.append(randomEntries(21, 20));
+
+        assertThat(second.get(second.size() - 1).segment()).isGreaterThan(1);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+        assertThat(archive.read(first.get(19))).hasValueSatisfying(content -> assertThat(content).startsWith("Article 20 "));
+        assertThat(archive.read(second.get(0))).hasValueSatisfying(content -> assertThat(content).startsWith("Article 21 "));
+
+        // A fresh instance (e.g. after a restart) reads the same files
+        SegmentArchive reopened = new SegmentArchive(directory, 1024, 2 * 1024);
+        assertThat(reopened.read(second.get(19))).hasValueSatisfying(content -> assertThat(content).startsWith("Article 40 "));
+    }
+
+    @Test
+    @DisplayName("read should return empty for an id that is not in the block")
+    void read_WhenIdNotInBlock_ShouldReturnEmpty() throws Exception {
+        SegmentArchive archive = new SegmentArchive(directory, 4 * 1024, 1024 * 1024);
+        SegmentArchive.Location location = archive.append(entries(1, 1)).get(0);
+
+        assertThat(archive.read(new SegmentArchive.Location(99L, location.segment(), location.offset()))).isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package com.study.synopsi.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenCache Unit Tests")
+class JwtTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256-signing";
+
+    private JwtUtil jwtUtil;
+    private JwtCacheConfig config;
+    private JwtTokenCache cache;
+    private List<String> loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(SECRET, 60_000L);
+        config = new JwtCacheConfig();
+        cache = new JwtTokenCache(jwtUtil, config, new SimpleMeterRegistry());
+        loads = new ArrayList<>();
+        loader = username -> {
+            loads.add(username);
+            return User.withUsername(username).password("x").authorities("ROLE_USER").build();
+        };
+    }
+
+    @Test
+    @DisplayName("resolve should verify and load a token once and serve repeats from the cache")
+    void resolve_ShouldLoadOnce() {
+        String token = jwtUtil.generateToken("alice", 1L);
+
+        UserDetails first = cache.resolve(token, loader);
+        UserDetails second = cache.resolve(token, loader);
+
+        assertThat(first.getUsername()).isEqualTo("alice");
+        assertThat(second).isSameAs(first);
+        assertThat(loads).containsExactly("alice");
+    }
+
+    @Test
+    @DisplayName("resolve should reject forged and expired tokens without caching them")
+    void resolve_ShouldRejectInvalidTokens() {
+        String forged = jwtUtil("another-secret-key-that-is-long-enough-for-hmac-sha-256", 60_000L)
+                .generateToken("alice", 1L);
+        String expired = jwtUtil(SECRET, -1_000L).generateToken("alice", 1L);
+
+        assertThatThrownBy(() -> cache.resolve(forged, loader)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> cache.resolve(expired, loader)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(loads).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("resolve should not cache a token whose user cannot be loaded")
+    void resolve_ShouldNotCacheLoadFailures() {
+        String token = jwtUtil.generateToken("ghost", 9L);
+        Function<String, UserDetails> missing = username -> {
+            throw new UsernameNotFoundException(username);
+        };
+
+        assertThatThrownBy(() -> cache.resolve(token, missing)).isInstanceOf(UsernameNotFoundException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidateUser should drop only that user's tokens")
+    void invalidateUser_ShouldDropUserTokens() {
+        String bobToken = jwtUtil.generateToken("bob", 2L);
+        cache.resolve(jwtUtil.generateToken("alice", 1L), loader);
+        cache.resolve(bobToken, loader);
+
+        cache.invalidateUser(1L);
+
+        assertThat(cache.size()).isEqualTo(1);
+        cache.resolve(bobToken, loader);
+        assertThat(loads).containsExactly("alice", "bob");
+    }
+
+    @Test
+    @DisplayName("resolve should load the user on every request when the cache is disabled")
+    void resolve_WhenDisabled_ShouldAlwaysLoad() {
+        config.setEnabled(false);
+        String token = jwtUtil.generateToken("alice", 1L);
+
+        cache.resolve(token, loader);
+        cache.resolve(token, loader);
+
+        assertThat(loads).containsExactly("alice", "alice");
+        assertThat(cache.size()).isZero();
+    }
+
+    private static JwtUtil jwtUtil(String secret, long expiration) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", secret);
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        util.init();
+        return util;
+    }
+}
@@ -3,14 +3,22 @@ package com.study.synopsi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.synopsi.config.JwtAuthenticationFilter;
 import com.study.synopsi.config.JwtUtil;
+import com.study.synopsi.config.ResponseCacheConfig;
+import com.study.synopsi.dto.ArticleBatchRequestDto;
+import com.study.synopsi.dto.ArticleBatchResponseDto;
 import com.study.synopsi.dto.ArticleRequestDto;
+import com.study.synopsi.dto.ArticleListItemDto;
 import com.study.synopsi.dto.ArticleResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
 import com.study.synopsi.dto.filter.ArticleFilterParams;
 import com.study.synopsi.exception.GlobalExceptionHandler;
+import com.study.synopsi.service.ArticleExportService;
+import com.study.synopsi.service.ArticleIngestionService;
 import com.study.synopsi.service.ArticleService;
 import com.study.synopsi.service.AuthService;
+import com.study.synopsi.service.ResourceVersions;
 import com.study.synopsi.exception.ArticleNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -18,16 +26,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -35,7 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ArticleController.class)
 @AutoConfigureMockMvc(addFilters = false)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, JsonResponseCache.class, ResponseCacheConfig.class, SimpleMeterRegistry.class})
 public class ArticleControllerTest {
 
     @Autowired
@@ -44,6 +66,12 @@ public class ArticleControllerTest {
     @MockBean
     private ArticleService articleService;
 
+    @MockBean
+    private ArticleIngestionService articleIngestionService;
+
+    @MockBean
+    private ArticleExportService articleExportService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -61,16 +89,16 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_thenReturnListOfArticles() throws Exception {
         // Given: Create article DTO
-        ArticleResponseDto article = ArticleResponseDto.builder()
+        ArticleListItemDto article = ArticleListItemDto.builder()
                 .id(1L)
                 .title("Test Title")
-                .summary("Test Summary")
+                .description("Test Summary")
                 .build();
 
-        List<ArticleResponseDto> articles = Collections.singletonList(article);
+        List<ArticleListItemDto> articles = Collections.singletonList(article);
 
         // Create paginated response
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(articles);
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
@@ -82,7 +110,7 @@ public class ArticleControllerTest {
         pagedResponse.setNumberOfElements(1);
 
         // When: Mock the service to return paginated response
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // Then: Verify the response structure
@@ -92,7 +120,7 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content[0].id").value(1L))
                 .andExpect(jsonPath("$.content[0].title").value("Test Title"))
-                .andExpect(jsonPath("$.content[0].summary").value("Test Summary"))
+                .andExpect(jsonPath("$.content[0].description").value("Test Summary"))
                 .andExpect(jsonPath("$.pageNumber").value(0))
                 .andExpect(jsonPath("$.pageSize").value(20))
                 .andExpect(jsonPath("$.totalElements").value(1))
@@ -104,16 +132,16 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withFilters_thenReturnFilteredArticles() throws Exception {
         // Given: Create article DTO
-        ArticleResponseDto article = ArticleResponseDto.builder()
+        ArticleListItemDto article = ArticleListItemDto.builder()
                 .id(1L)
                 .title("Filtered Title")
-                .summary("Filtered Summary")
+                .description("Filtered Summary")
                 .build();
 
-        List<ArticleResponseDto> articles = Collections.singletonList(article);
+        List<ArticleListItemDto> articles = Collections.singletonList(article);
 
         // Create paginated response
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(articles);
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(10);
@@ -125,7 +153,7 @@ public class ArticleControllerTest {
         pagedResponse.setNumberOfElements(1);
 
         // When: Mock the service
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // Then: Test with query parameters
@@ -177,7 +205,8 @@ public class ArticleControllerTest {
                 .build();
 
         // When
-        when(articleService.createArticle(any(ArticleRequestDto.class))).thenReturn(createdArticle);
+        when(articleService.upsertArticle(any(ArticleRequestDto.class)))
+                .thenReturn(new ArticleService.UpsertResult(createdArticle, true));
 
         // Then
         mockMvc.perform(post("/api/v1/articles")
@@ -189,6 +218,70 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$.summary").value("New Summary"));
     }
 
+    @Test
+    void whenCreateArticle_withAlreadyIngestedUrl_thenReturn200WithExisting() throws Exception {
+        // Given
+        ArticleRequestDto requestDto = ArticleRequestDto.builder()
+                .title("New Title")
+                .originalUrl("https://example.com/story?utm_source=rss")
+                .content("Content")
+                .feedId(1L)
+                .build();
+        ArticleResponseDto existing = ArticleResponseDto.builder().id(9L).title("Stored Title").build();
+        when(articleService.upsertArticle(any(ArticleRequestDto.class)))
+                .thenReturn(new ArticleService.UpsertResult(existing, false));
+
+        // Then
+        mockMvc.perform(post("/api/v1/articles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(9L));
+    }
+
+    @Test
+    void whenCreateArticlesBatch_thenReturnPerItemResults() throws Exception {
+        // Given
+        ArticleRequestDto requestDto = ArticleRequestDto.builder()
+                .title("New Title")
+                .originalUrl("https://example.com/new")
+                .content("Content")
+                .feedId(1L)
+                .build();
+        ArticleBatchRequestDto batch = ArticleBatchRequestDto.builder()
+                .articles(List.of(requestDto, requestDto))
+                .build();
+
+        ArticleBatchResponseDto response = ArticleBatchResponseDto.builder()
+                .created(1)
+                .duplicates(1)
+                .results(List.of(
+                        ArticleBatchResponseDto.ItemResult.builder().index(0)
+                                .status(ArticleBatchResponseDto.ItemStatus.CREATED).articleId(5L).build(),
+                        ArticleBatchResponseDto.ItemResult.builder().index(1)
+                                .status(ArticleBatchResponseDto.ItemStatus.DUPLICATE).build()))
+                .build();
+        when(articleIngestionService.createArticles(any())).thenReturn(response);
+
+        // Then
+        mockMvc.perform(post("/api/v1/articles/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.results[0].articleId").value(5L))
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"));
+    }
+
+    @Test
+    void whenCreateArticlesBatch_withEmptyBatch_thenReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/articles/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"articles\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
     // ============================================
 // ERROR HANDLING TESTS
 // ============================================
@@ -209,6 +302,28 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    void whenGetArticleById_withMatchingETag_thenReturn304WithoutLoading() throws Exception {
+        // Given
+        ResourceVersions.Validator validator =
+                new ResourceVersions.Validator("\"v1\"", LocalDateTime.of(2025, 10, 1, 12, 0));
+        when(articleService.getArticleValidator(1L)).thenReturn(Optional.of(validator));
+        when(articleService.getArticleById(1L)).thenReturn(ArticleResponseDto.builder().id(1L).build());
+
+        // When/Then: a fresh fetch carries the validators, a revalidation is answered with 304
+        mockMvc.perform(get("/api/v1/articles/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        mockMvc.perform(get("/api/v1/articles/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(articleService, times(1)).getArticleById(1L);
+    }
+
 // ============================================
 // VALIDATION TESTS
 // ============================================
@@ -320,20 +435,20 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withDateRangeFilter_thenReturnFilteredArticles() throws Exception {
         // Given
-        ArticleResponseDto article = ArticleResponseDto.builder()
+        ArticleListItemDto article = ArticleListItemDto.builder()
                 .id(1L)
                 .title("Recent Article")
                 .publicationDate(LocalDateTime.of(2025, 10, 15, 10, 0))
                 .build();
 
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.singletonList(article));
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
         pagedResponse.setTotalElements(1L);
         pagedResponse.setTotalPages(1);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -348,20 +463,20 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withSearchTerm_thenReturnMatchingArticles() throws Exception {
         // Given
-        ArticleResponseDto article = ArticleResponseDto.builder()
+        ArticleListItemDto article = ArticleListItemDto.builder()
                 .id(1L)
                 .title("Climate Change Impact")
-                .content("Article about climate")
+                .description("Article about climate")
                 .build();
 
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.singletonList(article));
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
         pagedResponse.setTotalElements(1L);
         pagedResponse.setTotalPages(1);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -375,20 +490,20 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withLanguageFilter_thenReturnFilteredArticles() throws Exception {
         // Given
-        ArticleResponseDto article = ArticleResponseDto.builder()
+        ArticleListItemDto article = ArticleListItemDto.builder()
                 .id(1L)
                 .title("English Article")
                 .language("en")
                 .build();
 
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.singletonList(article));
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
         pagedResponse.setTotalElements(1L);
         pagedResponse.setTotalPages(1);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -402,7 +517,7 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withMultipleFilters_thenReturnFilteredArticles() throws Exception {
         // Given
-        ArticleResponseDto article = ArticleResponseDto.builder()
+        ArticleListItemDto article = ArticleListItemDto.builder()
                 .id(1L)
                 .title("BBC Climate Article")
                 .sourceName("BBC")
@@ -410,14 +525,14 @@ public class ArticleControllerTest {
                 .language("en")
                 .build();
 
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.singletonList(article));
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
         pagedResponse.setTotalElements(1L);
         pagedResponse.setTotalPages(1);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then: Combine status, source, language, and searchTerm
@@ -432,6 +547,92 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$.content[0].status").value("SUMMARIZED"));
     }
 
+    @Test
+    void whenGetAllArticles_withContentField_thenRequestContent() throws Exception {
+        // Given
+        ArticleListItemDto article = ArticleListItemDto.builder()
+                .id(1L)
+                .title("Full Article")
+                .content("Full text")
+                .build();
+
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
+        pagedResponse.setContent(Collections.singletonList(article));
+
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), eq(true)))
+                .thenReturn(pagedResponse);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/articles")
+                        .param("fields", "content")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").value("Full text"));
+
+        verify(articleService).getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), eq(true));
+    }
+
+    @Test
+    void whenGetAllArticles_withCursor_thenReturnSlice() throws Exception {
+        // Given
+        PagedResponseDto<ArticleListItemDto> slice = new PagedResponseDto<>();
+        slice.setContent(Collections.singletonList(ArticleListItemDto.builder().id(1L).build()));
+        slice.setNextCursor("next-token");
+
+        when(articleService.getArticlesByCursor(any(), eq(""), eq(5), eq(false))).thenReturn(slice);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/articles")
+                        .param("cursor", "")
+                        .param("size", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.approximateTotal").doesNotExist());
+
+        verify(articleService, never()).getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean());
+    }
+
+    @Test
+    void whenExportArticles_withGzip_thenStreamCompressedNdjson() throws Exception {
+        // Given
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(2);
+            out.write("{\"type\":\"article\",\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(articleExportService).export(isNull(), eq(false), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/articles/export")
+                        .param("summaries", "false")
+                        .param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertEquals("{\"type\":\"article\",\"id\":1}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void whenGetAllArticles_withoutContentField_thenOmitContent() throws Exception {
+        // Given
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
+        pagedResponse.setContent(Collections.singletonList(ArticleListItemDto.builder().id(1L).build()));
+
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), eq(false)))
+                .thenReturn(pagedResponse);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/articles")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].content").doesNotExist());
+    }
+
 // ============================================
 // PAGINATION TESTS
 // ============================================
@@ -439,7 +640,7 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withEmptyResults_thenReturnEmptyPage() throws Exception {
         // Given
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.emptyList());
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
@@ -450,7 +651,7 @@ public class ArticleControllerTest {
         pagedResponse.setEmpty(true);
         pagedResponse.setNumberOfElements(0);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -465,14 +666,14 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withCustomPageSize_thenReturnRequestedSize() throws Exception {
         // Given
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.emptyList());
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(5);
         pagedResponse.setTotalElements(0L);
         pagedResponse.setTotalPages(0);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -490,14 +691,14 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withAscendingSort_thenReturnSortedArticles() throws Exception {
         // Given
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.emptyList());
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
         pagedResponse.setTotalElements(0L);
         pagedResponse.setTotalPages(0);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -510,14 +711,14 @@ public class ArticleControllerTest {
     @Test
     void whenGetAllArticles_withTitleSort_thenReturnSortedArticles() throws Exception {
         // Given
-        PagedResponseDto<ArticleResponseDto> pagedResponse = new PagedResponseDto<>();
+        PagedResponseDto<ArticleListItemDto> pagedResponse = new PagedResponseDto<>();
         pagedResponse.setContent(Collections.emptyList());
         pagedResponse.setPageNumber(0);
         pagedResponse.setPageSize(20);
         pagedResponse.setTotalElements(0L);
         pagedResponse.setTotalPages(0);
 
-        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class)))
+        when(articleService.getFilteredArticles(any(ArticleFilterParams.class), any(Pageable.class), anyBoolean()))
                 .thenReturn(pagedResponse);
 
         // When/Then
@@ -3,16 +3,24 @@ package com.study.synopsi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.synopsi.config.JwtAuthenticationFilter;
 import com.study.synopsi.config.JwtUtil;
+import com.study.synopsi.dto.CrawlOutcomeBatchRequestDto;
+import com.study.synopsi.dto.CrawlOutcomeBatchResponseDto;
+import com.study.synopsi.dto.CrawlOutcomeDto;
+import com.study.synopsi.dto.CrawlSuccessDto;
+import com.study.synopsi.dto.FeedClaimDto;
 import com.study.synopsi.dto.FeedRequestDto;
 import com.study.synopsi.dto.FeedResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
 import com.study.synopsi.dto.filter.FeedFilterParams;
+import com.study.synopsi.exception.CrawlLeaseLostException;
 import com.study.synopsi.exception.FeedNotFoundException;
 import com.study.synopsi.exception.GlobalExceptionHandler;
 import com.study.synopsi.exception.InvalidFeedException;
 import com.study.synopsi.model.Feed;
 import com.study.synopsi.service.AuthService;
+import com.study.synopsi.service.CrawlLeaseService;
 import com.study.synopsi.service.FeedService;
+import com.study.synopsi.service.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +31,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.test.web.servlet.MockMvc;
@@ -30,6 +39,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,6 +64,9 @@ class FeedControllerTest {
     @MockBean
     private FeedService feedService;
 
+    @MockBean
+    private CrawlLeaseService crawlLeaseService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -207,6 +220,21 @@ class FeedControllerTest {
 
             verify(feedService).getFeedById(999L);
         }
+
+        @Test
+        @DisplayName("Should return 304 when If-Modified-Since is not older than the feed")
+        void shouldReturn304WhenFeedNotModified() throws Exception {
+            // Given
+            when(feedService.getFeedValidator(1L)).thenReturn(Optional.of(
+                    new ResourceVersions.Validator("\"f1\"", LocalDateTime.of(2025, 10, 1, 12, 0))));
+
+            // When/Then
+            mockMvc.perform(get("/api/v1/feeds/1")
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, "Thu, 01 Jan 2099 00:00:00 GMT"))
+                    .andExpect(status().isNotModified());
+
+            verify(feedService, never()).getFeedById(anyLong());
+        }
     }
 
     @Nested
@@ -575,15 +603,36 @@ class FeedControllerTest {
         @DisplayName("Should record successful crawl")
         void shouldRecordSuccessfulCrawl() throws Exception {
             // Given
-            doNothing().when(feedService).recordSuccessfulCrawl(1L);
+            doNothing().when(feedService).recordSuccessfulCrawl(1L, "lease-1", null);
 
             // When/Then
             mockMvc.perform(post("/api/v1/feeds/1/crawl/success")
+                            .param("leaseToken", "lease-1")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk());
 
-            verify(feedService).recordSuccessfulCrawl(1L);
+            verify(feedService).recordSuccessfulCrawl(1L, "lease-1", null);
+        }
+
+        @Test
+        @DisplayName("Should pass crawl validators to the service")
+        void shouldRecordSuccessfulCrawlWithValidators() throws Exception {
+            // Given
+            CrawlSuccessDto result = CrawlSuccessDto.builder()
+                    .etag("\"v2\"")
+                    .lastModified("Wed, 01 Oct 2025 12:00:00 GMT")
+                    .notModified(true)
+                    .build();
+
+            // When/Then
+            mockMvc.perform(post("/api/v1/feeds/1/crawl/success")
+                            .param("leaseToken", "lease-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(result)))
+                    .andExpect(status().isOk());
+
+            verify(feedService).recordSuccessfulCrawl(1L, "lease-1", result);
         }
 
         @Test
@@ -593,30 +642,55 @@ class FeedControllerTest {
             String errorMessage = "Connection timeout";
             FeedController.CrawlFailureRequest request =
                     new FeedController.CrawlFailureRequest(errorMessage);
-            doNothing().when(feedService).recordFailedCrawl(1L, errorMessage);
+            doNothing().when(feedService).recordFailedCrawl(1L, "lease-1", errorMessage);
 
             // When/Then
             mockMvc.perform(post("/api/v1/feeds/1/crawl/failure")
+                            .param("leaseToken", "lease-1")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andDo(print())
                     .andExpect(status().isOk());
 
-            verify(feedService).recordFailedCrawl(1L, errorMessage);
+            verify(feedService).recordFailedCrawl(1L, "lease-1", errorMessage);
         }
 
         @Test
         @DisplayName("Should return 404 when recording crawl for non-existent feed")
         void shouldReturn404WhenRecordingCrawlForNonExistentFeed() throws Exception {
             // Given
-            doThrow(new FeedNotFoundException(999L)).when(feedService).recordSuccessfulCrawl(999L);
+            doThrow(new FeedNotFoundException(999L)).when(feedService).recordSuccessfulCrawl(999L, "lease-1", null);
 
             // When/Then
             mockMvc.perform(post("/api/v1/feeds/999/crawl/success")
+                            .param("leaseToken", "lease-1")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isNotFound());
 
-            verify(feedService).recordSuccessfulCrawl(999L);
+            verify(feedService).recordSuccessfulCrawl(999L, "lease-1", null);
+        }
+
+        @Test
+        @DisplayName("Should return 409 when the claim no longer holds the lease")
+        void shouldReturn409WhenLeaseLost() throws Exception {
+            // Given
+            doThrow(new CrawlLeaseLostException(1L)).when(feedService).recordSuccessfulCrawl(1L, "lease-0", null);
+
+            // When/Then
+            mockMvc.perform(post("/api/v1/feeds/1/crawl/success")
+                            .param("leaseToken", "lease-0")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Should reject a crawl outcome without a lease token")
+        void shouldRejectCrawlOutcomeWithoutLeaseToken() throws Exception {
+            mockMvc.perform(post("/api/v1/feeds/1/crawl/success")
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest());
+
+            verify(feedService, never()).recordSuccessfulCrawl(anyLong(), any(), any());
         }
 
         @Test
@@ -626,15 +700,99 @@ class FeedControllerTest {
             String errorMessage = "Feed parse error: Invalid XML";
             FeedController.CrawlFailureRequest request =
                     new FeedController.CrawlFailureRequest(errorMessage);
-            doNothing().when(feedService).recordFailedCrawl(1L, errorMessage);
+            doNothing().when(feedService).recordFailedCrawl(1L, "lease-1", errorMessage);
 
             // When/Then
             mockMvc.perform(post("/api/v1/feeds/1/crawl/failure")
+                            .param("leaseToken", "lease-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+
+            verify(feedService).recordFailedCrawl(1L, "lease-1", errorMessage);
+        }
+
+        @Test
+        @DisplayName("Should claim due feeds as compact descriptors")
+        void shouldClaimDueFeeds() throws Exception {
+            // Given
+            FeedClaimDto claim = FeedClaimDto.builder()
+                    .id(1L)
+                    .feedUrl("https://example.com/rss")
+                    .feedType(Feed.FeedType.RSS)
+                    .sourceId(1L)
+                    .sourceName("Test Source")
+                    .priority(5)
+                    .leaseToken("lease-1")
+                    .leaseExpiresAt(LocalDateTime.now().plusMinutes(15))
+                    .build();
+            when(crawlLeaseService.claim(20)).thenReturn(List.of(claim));
+
+            // When/Then
+            mockMvc.perform(post("/api/v1/feeds/crawl/claim").param("max", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].feedUrl").value("https://example.com/rss"))
+                    .andExpect(jsonPath("$[0].sourceName").value("Test Source"))
+                    .andExpect(jsonPath("$[0].leaseToken").value("lease-1"))
+                    .andExpect(jsonPath("$[0].leaseExpiresAt").exists());
+
+            verify(crawlLeaseService).claim(20);
+        }
+
+        @Test
+        @DisplayName("Should record a batch of crawl outcomes")
+        void shouldRecordCrawlOutcomes() throws Exception {
+            // Given
+            CrawlOutcomeBatchRequestDto request = CrawlOutcomeBatchRequestDto.builder()
+                    .outcomes(List.of(
+                            CrawlOutcomeDto.builder().feedId(1L).leaseToken("lease-1").success(true).build(),
+                            CrawlOutcomeDto.builder().feedId(2L).leaseToken("lease-1").success(false).errorMessage("Timeout").build()))
+                    .build();
+            CrawlOutcomeBatchResponseDto response = CrawlOutcomeBatchResponseDto.builder()
+                    .updated(2)
+                    .results(List.of(
+                            CrawlOutcomeBatchResponseDto.ItemResult.builder().feedId(1L)
+                                    .status(CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED).build(),
+                            CrawlOutcomeBatchResponseDto.ItemResult.builder().feedId(2L)
+                                    .status(CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED).failureCount(1).build()))
+                    .build();
+            when(feedService.recordCrawlOutcomes(request.getOutcomes())).thenReturn(response);
+
+            // When/Then
+            mockMvc.perform(post("/api/v1/feeds/crawl/outcomes")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated").value(2))
+                    .andExpect(jsonPath("$.results[1].failureCount").value(1));
+        }
+
+        @Test
+        @DisplayName("Should reject crawl outcomes without a feed id")
+        void shouldRejectCrawlOutcomesWithoutFeedId() throws Exception {
+            mockMvc.perform(post("/api/v1/feeds/crawl/outcomes")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"outcomes\": [{\"success\": true}]}"))
+                    .andExpect(status().isBadRequest());
+
+            verify(feedService, never()).recordCrawlOutcomes(any());
+        }
+
+        @Test
+        @DisplayName("Should release leased feeds")
+        void shouldReleaseLeasedFeeds() throws Exception {
+            // Given
+            when(crawlLeaseService.release("lease-1", List.of(1L, 2L))).thenReturn(2);
+
+            // When/Then
+            mockMvc.perform(post("/api/v1/feeds/crawl/release")
+                            .param("leaseToken", "lease-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[1, 2]"))
                     .andExpect(status().isOk());
 
-            verify(feedService).recordFailedCrawl(1L, errorMessage);
+            verify(crawlLeaseService).release("lease-1", List.of(1L, 2L));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.study.synopsi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.synopsi.config.ResponseCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonResponseCacheTest {
+
+    private ResponseCacheConfig config;
+    private JsonResponseCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        config = new ResponseCacheConfig();
+        config.setGzipMinBytes(256);
+        cache = new JsonResponseCache(new ObjectMapper(), config, new SimpleMeterRegistry());
+    }
+
+    private Supplier<Object> loader(Object value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private static ServletWebRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/topics");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return new ServletWebRequest(request);
+    }
+
+    @Test
+    @DisplayName("ok should serialize once per resource version and serve the cached bytes afterwards")
+    void ok_ShouldServeCachedBytesPerVersion() {
+        Supplier<Object> topics = loader(List.of(Map.of("name", "Technology")));
+
+        ResponseEntity<byte[]> first = cache.ok("topics:all", "\"v1\"", topics, request(null));
+        ResponseEntity<byte[]> second = cache.ok("topics:all", "\"v1\"", topics, request(null));
+        cache.ok("topics:all", "\"v2\"", topics, request(null));
+        cache.ok("topics:root", "\"v2\"", topics, request(null));
+
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).isEqualTo("[{\"name\":\"Technology\"}]");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(first.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        assertThat(loads).hasValue(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ok should not cache unversioned bodies or when disabled")
+    void ok_WithoutVersion_ShouldNotCache() {
+        Supplier<Object> article = loader(Map.of("id", 1));
+
+        cache.ok("article:1", null, article, request(null));
+        cache.ok("article:1", null, article, request(null));
+        config.setEnabled(false);
+        cache.ok("article:1", "\"v1\"", article, request(null));
+
+        assertThat(loads).hasValue(3);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("ok should serve the pre-gzipped copy of large bodies to clients that accept gzip")
+    void ok_WithLargeBody_ShouldServeGzipWhenAccepted() throws Exception {
+        Supplier<Object> article = loader(Map.of("content", "word ".repeat(500)));
+
+        ResponseEntity<byte[]> plain = cache.ok("article:1", "\"v1\"", article, request(null));
+        ResponseEntity<byte[]> gzipped = cache.ok("article:1", "\"v1\"", article, request("gzip, deflate"));
+
+        assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getBody().length).isLessThan(plain.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+        }
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -3,6 +3,7 @@ package com.study.synopsi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.synopsi.config.JwtAuthenticationFilter;
 import com.study.synopsi.config.JwtUtil;
+import com.study.synopsi.config.ResponseCacheConfig;
 import com.study.synopsi.dto.SourceRequestDto;
 import com.study.synopsi.dto.SourceResponseDto;
 import com.study.synopsi.exception.GlobalExceptionHandler;
@@ -10,6 +11,7 @@ import com.study.synopsi.exception.SourceNotFoundException;
 import com.study.synopsi.model.Source;
 import com.study.synopsi.service.AuthService;
 import com.study.synopsi.service.SourceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,7 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = SourceController.class,
         properties = "spring.main.allow-bean-definition-overriding=true")
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, JsonResponseCache.class, ResponseCacheConfig.class, SimpleMeterRegistry.class})
 @DisplayName("SourceController Integration Tests")
 @AutoConfigureMockMvc(addFilters = false)
 class SourceControllerTest {
@@ -179,6 +182,24 @@ class SourceControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/sources/suggest")
+    class SuggestSourceNamesTests {
+
+        @Test
+        @DisplayName("Should return matching source names and clamp the limit")
+        void shouldReturnSuggestions() throws Exception {
+            when(sourceService.suggestSourceNames("tech", 50)).thenReturn(List.of("TechCrunch"));
+
+            mockMvc.perform(get("/api/v1/sources/suggest")
+                            .param("prefix", "tech")
+                            .param("limit", "500"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0]").value("TechCrunch"));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/sources/{id}")
     class GetSourceByIdTests {
@@ -279,6 +300,25 @@ class SourceControllerTest {
             verify(sourceService).getAllSources();
         }
 
+        @Test
+        @DisplayName("Should return 304 when the sources version still matches")
+        void shouldReturn304WhenSourcesVersionMatches() throws Exception {
+            when(sourceService.getSourcesETag()).thenReturn("\"s1\"");
+            when(sourceService.getAllSources()).thenReturn(List.of(responseDto));
+
+            mockMvc.perform(get("/api/v1/sources"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"s1\""));
+            mockMvc.perform(get("/api/v1/sources").header(HttpHeaders.IF_NONE_MATCH, "\"s1\""))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/v1/sources").header(HttpHeaders.IF_NONE_MATCH, "\"s0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("TechCrunch"));
+
+            // The stale client gets the body pre-serialized for version s1, without another service call
+            verify(sourceService, times(1)).getAllSources();
+        }
+
         @Test
         @DisplayName("Should get active sources when active=true")
         void shouldGetActiveSourcesWhenActiveTrue() throws Exception {
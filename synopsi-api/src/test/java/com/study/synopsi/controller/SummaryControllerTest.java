@@ -3,6 +3,7 @@ package com.study.synopsi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.synopsi.config.JwtAuthenticationFilter;
 import com.study.synopsi.config.JwtUtil;
+import com.study.synopsi.exception.TooManyRequestsException;
 import com.study.synopsi.model.Summary;
 import com.study.synopsi.model.SummaryJob;
 import com.study.synopsi.service.AuthService;
@@ -26,6 +27,7 @@ import java.util.Optional;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -73,6 +75,18 @@ public class SummaryControllerTest {
                 .andExpect(jsonPath("$.id").value(1L));
     }
 
+    @Test
+    void requestSummary_whenRateLimited_shouldReturnTooManyRequests() throws Exception {
+        when(summaryService.requestSummary(anyLong(), any(), any(Summary.SummaryType.class), any(Summary.SummaryLength.class)))
+                .thenThrow(TooManyRequestsException.userRateLimited(1L, 12));
+
+        mockMvc.perform(post("/api/v1/summaries/request")
+                        .param("articleId", "1")
+                        .param("userId", "1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+    }
+
     @Test
     void getSummary_shouldReturnSummaryWhenFound() throws Exception {
         Summary summary = new Summary();
@@ -214,6 +228,17 @@ public class SummaryControllerTest {
                 .andExpect(content().string("true"));
     }
 
+    @Test
+    void handleWorkerStarted_shouldReturnOk() throws Exception {
+        doNothing().when(summaryService).handleWorkerStarted(anyLong());
+
+        mockMvc.perform(post("/api/v1/summaries/callback/started")
+                        .param("jobId", "1"))
+                .andExpect(status().isOk());
+
+        verify(summaryService).handleWorkerStarted(1L);
+    }
+
     @Test
     void handleWorkerCallback_shouldReturnOk() throws Exception {
         doNothing().when(summaryService).handleWorkerCallback(anyLong(), any(), any(), any());
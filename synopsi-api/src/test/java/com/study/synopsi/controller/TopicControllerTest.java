@@ -3,6 +3,7 @@ package com.study.synopsi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.synopsi.config.JwtAuthenticationFilter;
 import com.study.synopsi.config.JwtUtil;
+import com.study.synopsi.config.ResponseCacheConfig;
 import com.study.synopsi.dto.TopicRequestDto;
 import com.study.synopsi.dto.TopicResponseDto;
 import com.study.synopsi.exception.GlobalExceptionHandler;
@@ -10,6 +11,7 @@ import com.study.synopsi.exception.InvalidTopicHierarchyException;
 import com.study.synopsi.exception.TopicNotFoundException;
 import com.study.synopsi.service.AuthService;
 import com.study.synopsi.service.TopicService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,7 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = TopicController.class,
         properties = "spring.main.allow-bean-definition-overriding=true")
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, JsonResponseCache.class, ResponseCacheConfig.class, SimpleMeterRegistry.class})
 @DisplayName("TopicController Integration Tests")
 @AutoConfigureMockMvc(addFilters = false)
 class TopicControllerTest {
@@ -355,6 +358,18 @@ class TopicControllerTest {
             verify(topicService).getRootTopics();
             verify(topicService, never()).getAllTopics();
         }
+
+        @Test
+        @DisplayName("Should return 304 when the topics version still matches")
+        void shouldReturn304WhenTopicsVersionMatches() throws Exception {
+            when(topicService.getTopicsETag()).thenReturn("\"t1\"");
+
+            mockMvc.perform(get("/api/v1/topics").header(HttpHeaders.IF_NONE_MATCH, "\"t1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"t1\""));
+
+            verify(topicService, never()).getAllTopics();
+        }
     }
 
     @Nested
@@ -0,0 +1,121 @@
+package com.study.synopsi.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static Map<String, Integer> terms(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TextAnalyzer.analyze(text, term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private static List<Long> ids(InvertedIndex index, String query) {
+        return index.search(TextAnalyzer.terms(query), 10).stream().map(InvertedIndex.Hit::articleId).toList();
+    }
+
+    @Test
+    @DisplayName("search should require every term and rank denser matches first")
+    void search_ShouldMatchAllTermsAndRankByBm25() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, terms("Climate summit opens as leaders debate emissions targets"));
+        index.add(2L, terms("Climate change: climate scientists warn climate targets slipping"));
+        index.add(3L, terms("Football results from the weekend"));
+
+        assertThat(ids(index, "climate targets")).containsExactly(2L, 1L);
+        assertThat(ids(index, "climate football")).isEmpty();
+        assertThat(ids(index, "Elections")).isEmpty();
+        // Stemming: "warned" and "warns" both match "warn"
+        assertThat(ids(index, "warned")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("add should replace a re-indexed article and remove should hide it")
+    void addAndRemove_ShouldKeepIndexCurrent() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, terms("old headline about markets"));
+        index.add(1L, terms("new headline about elections"));
+
+        assertThat(ids(index, "markets")).isEmpty();
+        assertThat(ids(index, "elections")).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(ids(index, "elections")).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.deletedRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("compact should drop tombstones without changing results")
+    void compact_ShouldPreserveResults() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.add(id, terms("story number " + id + (id % 2 == 0 ? " about energy" : " about sport")));
+        }
+        index.remove(2L);
+        index.remove(3L);
+
+        InvertedIndex compacted = index.compact();
+
+        assertThat(compacted.deletedRatio()).isZero();
+        assertThat(compacted.size()).isEqualTo(8);
+        assertThat(ids(compacted, "energy")).containsExactlyInAnyOrderElementsOf(ids(index, "energy"));
+        assertThat(ids(compacted, "energy")).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("write and read should round-trip the index")
+    void snapshot_ShouldRoundTrip() throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        index.add(5L, terms("Central bank raises interest rates"));
+        index.add(6L, terms("Interest in electric cars grows"));
+        index.remove(6L);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.write(new DataOutputStream(bytes));
+        InvertedIndex restored = InvertedIndex.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.size()).isEqualTo(1);
+        assertThat(ids(restored, "interest")).containsExactly(5L);
+        assertThat(restored.maxArticleId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("search latency should depend on matches, not on total content size")
+    void search_ShouldStayFastOnLargeIndex() {
+        InvertedIndex index = new InvertedIndex();
+        Random random = new Random(7);
+        String[] vocabulary = new String[5_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "term" + i;
+        }
+        for (long id = 1; id <= 20_000; id++) {
+            Map<String, Integer> doc = new HashMap<>();
+            for (int w = 0; w < 200; w++) {
+                doc.merge(vocabulary[random.nextInt(vocabulary.length)], 1, Integer::sum);
+            }
+            index.add(id, doc);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            index.search(List.of(vocabulary[random.nextInt(vocabulary.length)]), 1_000);
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / 100;
+
+        assertThat(millis).isLessThan(50.0);
+    }
+}
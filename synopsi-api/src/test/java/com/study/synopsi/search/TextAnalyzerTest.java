@@ -0,0 +1,27 @@
+package com.study.synopsi.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAnalyzerTest {
+
+    @Test
+    @DisplayName("terms should lower-case, drop stop words and stem inflections")
+    void terms_ShouldNormalizeText() {
+        assertThat(TextAnalyzer.terms("The Elections, and the COUNTIES voting!"))
+                .containsExactly("election", "county", "vot");
+        assertThat(TextAnalyzer.terms("a I")).isEmpty();
+        assertThat(TextAnalyzer.terms(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("stem should map inflected forms to the same term")
+    void stem_ShouldConflateInflections() {
+        assertThat(TextAnalyzer.stem("warned")).isEqualTo(TextAnalyzer.stem("warns"));
+        assertThat(TextAnalyzer.stem("classes")).isEqualTo("class");
+        assertThat(TextAnalyzer.stem("bus")).isEqualTo("bus");
+        assertThat(TextAnalyzer.stem("sing")).isEqualTo("sing");
+    }
+}
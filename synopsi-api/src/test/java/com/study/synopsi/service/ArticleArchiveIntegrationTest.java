@@ -0,0 +1,144 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SearchConfig;
+import com.study.synopsi.dto.ArticleRequestDto;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.Source;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.repository.SourceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("Article archive tier Integration Tests")
+class ArticleArchiveIntegrationTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("synopsi.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private ArticleArchiveService articleArchiveService;
+
+    @Autowired
+    private ArticleIngestionService articleIngestionService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private ArticleSearchService articleSearchService;
+
+    @Autowired
+    private SearchConfig searchConfig;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("archiveColdArticles should drop old content from the table and keep it readable by id")
+    void archiveColdArticles_ShouldKeepContentReadable() {
+        Source source = new Source();
+        source.setName("Archive Source");
+        source.setBaseUrl("https://archive.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed feed = new Feed();
+        feed.setSource(source);
+        feed.setFeedUrl("https://archive.example.com/rss");
+        feed = feedRepository.save(feed);
+
+        Long oldId = articleIngestionService.createArticles(List.of(
+                ArticleRequestDto.builder().title("Old").originalUrl("https://archive.example.com/old")
+                        .content("An old story nobody reads anymore.").feedId(feed.getId())
+                        .publicationDate(LocalDateTime.now().minusDays(90)).build(),
+                ArticleRequestDto.builder().title("New").originalUrl("https://archive.example.com/new")
+                        .content("Today's story.").feedId(feed.getId())
+                        .publicationDate(LocalDateTime.now()).build()))
+                .getResults().get(0).getArticleId();
+        articleRepository.findAll().forEach(article -> article.setStatus(Article.ArticleStatus.SUMMARIZED));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(articleArchiveService.archiveColdArticles()).isEqualTo(1);
+        entityManager.clear();
+
+        Article stored = articleRepository.findById(oldId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(Article.ArticleStatus.ARCHIVED);
+        assertThat(stored.getContent()).isNull();
+        assertThat(articleService.getArticleById(oldId).getContent()).isEqualTo("An old story nobody reads anymore.");
+
+        // Already archived articles are not picked up again
+        assertThat(articleArchiveService.archiveColdArticles()).isZero();
+    }
+
+    @Test
+    @DisplayName("a search index rebuilt after archiving should still find archived articles by body text")
+    void archivedArticle_ShouldStayFindableAfterRebuild() {
+        Source source = new Source();
+        source.setName("Archive Search Source");
+        source.setBaseUrl("https://archive-search.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed feed = new Feed();
+        feed.setSource(source);
+        feed.setFeedUrl("https://archive-search.example.com/rss");
+        feed = feedRepository.save(feed);
+
+        Long oldId = articleIngestionService.createArticles(List.of(
+                ArticleRequestDto.builder().title("Expedition notes").originalUrl("https://archive-search.example.com/old")
+                        .description("Field notes from the mountains.")
+                        .content("Glaciologists surveyed the retreating icefield near the pass.").feedId(feed.getId())
+                        .publicationDate(LocalDateTime.now().minusDays(90)).build()))
+                .getResults().get(0).getArticleId();
+        Article article = articleRepository.findById(oldId).orElseThrow();
+        article.setStatus(Article.ArticleStatus.SUMMARIZED);
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(articleArchiveService.archiveColdArticles()).isEqualTo(1);
+        entityManager.clear();
+
+        // Rebuild from the database only (no snapshot), as after a lost or mismatched snapshot
+        String snapshotPath = searchConfig.getSnapshotPath();
+        searchConfig.setSnapshotPath(null);
+        try {
+            articleSearchService.warmUp();
+        } finally {
+            searchConfig.setSnapshotPath(snapshotPath);
+        }
+
+        assertThat(articleRepository.findById(oldId).orElseThrow().getContent()).isNull();
+        assertThat(articleSearchService.search("icefield")).contains(oldId);
+    }
+}
@@ -0,0 +1,105 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.archive.SegmentArchive;
+import com.study.synopsi.config.ArchiveConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.repository.ArticleBatchRepository;
+import com.study.synopsi.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleArchiveServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleBatchRepository articleBatchRepository;
+
+    @TempDir
+    Path directory;
+
+    private ArchiveConfig config;
+    private ArticleArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        config = new ArchiveConfig();
+        config.setDirectory(directory.toString());
+        config.setChunkSize(2);
+        archiveService = new ArticleArchiveService(articleRepository, articleBatchRepository,
+                TransactionOperations.withoutTransaction(), config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("archiveColdArticles should write content to segments before marking the rows archived")
+    void archiveColdArticles_ShouldMoveContentInChunks() {
+        when(articleRepository.findArchivableContent(any(), any(), eq(0L), any()))
+                .thenReturn(List.of(new Object[]{1L, "First body"}, new Object[]{2L, "Second body"}));
+        when(articleRepository.findArchivableContent(any(), any(), eq(2L), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, "Fifth body"}));
+
+        long archived = archiveService.archiveColdArticles();
+
+        assertThat(archived).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SegmentArchive.Location>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleBatchRepository, times(2)).markArchived(captor.capture());
+        SegmentArchive.Location fifth = captor.getAllValues().get(1).get(0);
+        assertThat(fifth.articleId()).isEqualTo(5L);
+        assertThat(archiveService.readContent(5L, fifth.segment(), fifth.offset())).contains("Fifth body");
+        // The short second chunk ends the run
+        verify(articleRepository, times(2)).findArchivableContent(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("archiveColdArticles should do nothing when disabled")
+    void archiveColdArticles_WhenDisabled_ShouldSkip() {
+        config.setEnabled(false);
+
+        assertThat(archiveService.archiveColdArticles()).isZero();
+        verifyNoInteractions(articleRepository, articleBatchRepository);
+    }
+
+    @Test
+    @DisplayName("resolveContent should prefer hot content and read archived articles from their segment")
+    void resolveContent_ShouldFallBackToArchive() {
+        when(articleRepository.findArchivableContent(any(), any(), anyLong(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, "Archived body"}));
+        archiveService.archiveColdArticles();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SegmentArchive.Location>> captor = ArgumentCaptor.forClass(List.class);
+        verify(articleBatchRepository).markArchived(captor.capture());
+        SegmentArchive.Location location = captor.getValue().get(0);
+
+        Article archived = new Article();
+        archived.setId(7L);
+        archived.setStatus(Article.ArticleStatus.ARCHIVED);
+        archived.setArchiveSegment(location.segment());
+        archived.setArchiveOffset(location.offset());
+        Article hot = new Article();
+        hot.setContent("Hot body");
+
+        assertThat(archiveService.resolveContent(archived)).isEqualTo("Archived body");
+        assertThat(archiveService.resolveContent(hot)).isEqualTo("Hot body");
+        assertThat(archiveService.readContent(7L, null, null)).isEmpty();
+    }
+}
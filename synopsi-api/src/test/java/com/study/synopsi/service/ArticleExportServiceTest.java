@@ -0,0 +1,111 @@
+package com.study.synopsi.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.synopsi.config.ExportConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.Source;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+
+    @Mock
+    private ArticleExportRepository articleExportRepository;
+
+    @Mock
+    private ArticleArchiveService articleArchiveService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private ArticleExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ExportConfig config = new ExportConfig();
+        config.setClearInterval(2);
+        exportService = new ArticleExportService(articleExportRepository, articleArchiveService, config, objectMapper);
+    }
+
+    private Article article(long id) {
+        Source source = new Source();
+        source.setName("Wire");
+        Feed feed = new Feed();
+        feed.setId(3L);
+        feed.setSource(source);
+
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle("Article " + id);
+        article.setContent("Body " + id);
+        article.setPublicationDate(LocalDateTime.of(2025, 10, 1, 12, 0));
+        article.setFeed(feed);
+        return article;
+    }
+
+    @Test
+    @DisplayName("export should write one NDJSON line per article and summary and clear the context periodically")
+    void export_ShouldWriteNdjsonLines() throws Exception {
+        Summary summary = new Summary();
+        summary.setId(9L);
+        summary.setArticle(article(1L));
+        summary.setSummaryText("Short version");
+
+        when(articleArchiveService.resolveContent(any(Article.class))).thenAnswer(inv -> ((Article) inv.getArgument(0)).getContent());
+        when(articleExportRepository.streamArticles(isNull(), anyInt()))
+                .thenReturn(Stream.of(article(1L), article(2L), article(3L)));
+        when(articleExportRepository.streamDefaultSummaries(isNull(), anyInt())).thenReturn(Stream.of(summary));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long lines = exportService.export(null, true, out);
+
+        List<String> written = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).isEqualTo(4);
+        assertThat(written).hasSize(4);
+
+        JsonNode first = objectMapper.readTree(written.get(0));
+        assertThat(first.get("type").asText()).isEqualTo("article");
+        assertThat(first.get("content").asText()).isEqualTo("Body 1");
+        assertThat(first.get("sourceName").asText()).isEqualTo("Wire");
+        assertThat(first.get("publicationDate").asText()).isEqualTo("2025-10-01T12:00:00");
+
+        JsonNode last = objectMapper.readTree(written.get(3));
+        assertThat(last.get("type").asText()).isEqualTo("summary");
+        assertThat(last.get("articleId").asLong()).isEqualTo(1L);
+
+        // Cleared after the 2nd article only; the counter restarts for summaries
+        verify(articleExportRepository, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("export should skip the summary query when summaries are not requested")
+    void export_WithoutSummaries_ShouldOnlyStreamArticles() throws Exception {
+        LocalDateTime since = LocalDateTime.of(2025, 10, 1, 0, 0);
+        when(articleExportRepository.streamArticles(eq(since), anyInt())).thenReturn(Stream.of(article(1L)));
+
+        long lines = exportService.export(since, false, new ByteArrayOutputStream());
+
+        assertThat(lines).isEqualTo(1);
+        verify(articleExportRepository, never()).streamDefaultSummaries(any(), anyInt());
+    }
+}
@@ -0,0 +1,225 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.NearDuplicateConfig;
+import com.study.synopsi.dto.ArticleBatchResponseDto;
+import com.study.synopsi.dto.ArticleBatchResponseDto.ItemStatus;
+import com.study.synopsi.dto.ArticleRequestDto;
+import com.study.synopsi.mapper.ArticleMapper;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.repository.ArticleBatchRepository;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.util.UrlCanonicalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleIngestionServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleBatchRepository articleBatchRepository;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private ArticleMapper articleMapper;
+
+    @Mock
+    private SummaryAdmissionService summaryAdmissionService;
+
+    @Mock
+    private SummaryJobMetrics summaryJobMetrics;
+
+    @Mock
+    private ProvisionalSummaryService provisionalSummaryService;
+
+    @Mock
+    private NearDuplicateService nearDuplicateService;
+
+    @Mock
+    private ArticleSearchService articleSearchService;
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private ArticleIngestionService ingestionService;
+    private Feed feed;
+
+    @BeforeEach
+    void setUp() {
+        ingestionService = new ArticleIngestionService(articleRepository, articleBatchRepository, feedRepository,
+                articleMapper, Validation.buildDefaultValidatorFactory().getValidator(),
+                summaryAdmissionService, summaryJobMetrics, provisionalSummaryService, nearDuplicateService,
+                articleSearchService, transactionTemplate);
+
+        feed = new Feed();
+        feed.setId(1L);
+        feed.setPriority(5);
+    }
+
+    private ArticleRequestDto request(String url, Long feedId) {
+        return ArticleRequestDto.builder()
+                .title("Title")
+                .originalUrl(url)
+                .content("Content")
+                .feedId(feedId)
+                .build();
+    }
+
+    private Article entity(ArticleRequestDto request) {
+        Article article = new Article();
+        article.setOriginalUrl(request.getOriginalUrl());
+        article.setFeed(feed);
+        return article;
+    }
+
+    @Test
+    @DisplayName("createArticles should insert new articles and jobs in batches and report duplicates and failures")
+    void createArticles_ShouldReportPerItemResults() {
+        ArticleRequestDto fresh = request("https://example.com/a", 1L);
+        ArticleRequestDto stored = request("https://example.com/stored", 1L);
+        ArticleRequestDto repeated = request("https://example.com/a?utm_medium=feed", 1L);
+        ArticleRequestDto unknownFeed = request("https://example.com/b", 99L);
+        ArticleRequestDto invalid = request("not-a-url", 1L);
+
+        when(feedRepository.findAllById(any())).thenReturn(List.of(feed));
+        List<Object[]> storedRows = new ArrayList<>();
+        storedRows.add(new Object[]{UrlCanonicalizer.hash("https://example.com/stored"), 7L});
+        when(articleRepository.findIdsByUrlHashes(anyCollection())).thenReturn(storedRows);
+        when(articleMapper.toEntityWithFeed(fresh, feed)).thenReturn(entity(fresh));
+        doAnswer(inv -> {
+            List<Article> articles = inv.getArgument(0);
+            articles.get(0).setId(42L);
+            return null;
+        }).when(articleBatchRepository).insertArticles(anyList());
+
+        ArticleBatchResponseDto response = ingestionService.createArticles(
+                List.of(fresh, stored, repeated, unknownFeed, invalid));
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(ArticleBatchResponseDto.ItemResult::getStatus)
+                .containsExactly(ItemStatus.CREATED, ItemStatus.DUPLICATE, ItemStatus.DUPLICATE,
+                        ItemStatus.FAILED, ItemStatus.FAILED);
+        assertThat(response.getResults()).extracting(ArticleBatchResponseDto.ItemResult::getArticleId)
+                .containsExactly(42L, 7L, 42L, null, null);
+        assertThat(response.getResults().get(4).getError()).contains("originalUrl");
+
+        verify(articleBatchRepository).insertDefaultSummaryJobs(List.of(42L), SummaryService.DEFAULT_JOB_PRIORITY);
+        verify(summaryJobMetrics).recordQueued(1);
+        verify(provisionalSummaryService).submit(any(Article.class));
+    }
+
+    @Test
+    @DisplayName("createArticles should retry a batch that raced a concurrent insert and report the URL as a duplicate")
+    void createArticles_WhenConcurrentInsertWins_ShouldRetryAndReportDuplicate() {
+        ArticleRequestDto racing = request("https://example.com/race", 1L);
+        String hash = UrlCanonicalizer.hash("https://example.com/race");
+        List<Object[]> storedRows = new ArrayList<>();
+        storedRows.add(new Object[]{hash, 8L});
+
+        when(feedRepository.findAllById(any())).thenReturn(List.of(feed));
+        when(articleRepository.findIdsByUrlHashes(anyCollection())).thenReturn(List.of()).thenReturn(storedRows);
+        when(articleMapper.toEntityWithFeed(racing, feed)).thenReturn(entity(racing));
+        doThrow(new DuplicateKeyException("Unique index violation: IDX_ARTICLE_URL_HASH"))
+                .doNothing()
+                .when(articleBatchRepository).insertArticles(anyList());
+
+        ArticleBatchResponseDto response = ingestionService.createArticles(List.of(racing));
+
+        assertThat(response.getDuplicates()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getArticleId()).isEqualTo(8L);
+        verify(articleBatchRepository).insertArticles(List.of());
+        verify(articleBatchRepository).insertDefaultSummaryJobs(eq(List.of()), anyInt());
+    }
+
+    @Test
+    @DisplayName("createArticles should leave deferred articles PENDING without a summary job")
+    void createArticles_WhenDeferred_ShouldSkipJobs() {
+        ArticleRequestDto fresh = request("https://example.com/a", 1L);
+        Article article = entity(fresh);
+
+        when(feedRepository.findAllById(any())).thenReturn(List.of(feed));
+        when(articleRepository.findIdsByUrlHashes(anyCollection())).thenReturn(List.of());
+        when(articleMapper.toEntityWithFeed(fresh, feed)).thenReturn(article);
+        when(summaryAdmissionService.shouldDeferDefaultJob(feed)).thenReturn(true);
+
+        ingestionService.createArticles(List.of(fresh));
+
+        assertThat(article.getStatus()).isEqualTo(Article.ArticleStatus.PENDING);
+        verify(articleBatchRepository).insertDefaultSummaryJobs(eq(List.of()), anyInt());
+        verify(summaryJobMetrics).recordQueued(0);
+    }
+
+    @Test
+    @DisplayName("createArticles should cluster near-duplicates within a batch and skip their summary jobs")
+    void createArticles_WhenBatchContainsNearDuplicates_ShouldClusterThem() {
+        NearDuplicateService dedup = new NearDuplicateService(articleRepository, new NearDuplicateConfig(), new SimpleMeterRegistry());
+        ingestionService = new ArticleIngestionService(articleRepository, articleBatchRepository, feedRepository,
+                articleMapper, Validation.buildDefaultValidatorFactory().getValidator(),
+                summaryAdmissionService, summaryJobMetrics, provisionalSummaryService, dedup, articleSearchService,
+                transactionTemplate);
+
+        ArticleRequestDto original = request("https://wire.example.com/story", 1L);
+        ArticleRequestDto rewrite = request("https://paper.example.com/story", 1L);
+        Article originalArticle = entity(original);
+        Article rewriteArticle = entity(rewrite);
+        for (Article article : List.of(originalArticle, rewriteArticle)) {
+            article.setWordCount(400);
+            article.setSimHash(0x0F0F_0F0F_0F0F_0F0FL);
+        }
+        rewriteArticle.setSimHash(0x0F0F_0F0F_0F0F_0F0FL ^ 0b101L); // 2 bits apart
+
+        when(feedRepository.findAllById(any())).thenReturn(List.of(feed));
+        when(articleRepository.findIdsByUrlHashes(anyCollection())).thenReturn(List.of());
+        when(articleMapper.toEntityWithFeed(original, feed)).thenReturn(originalArticle);
+        when(articleMapper.toEntityWithFeed(rewrite, feed)).thenReturn(rewriteArticle);
+        AtomicLong ids = new AtomicLong(10);
+        doAnswer(inv -> {
+            List<Article> articles = inv.getArgument(0);
+            articles.forEach(article -> article.setId(ids.incrementAndGet()));
+            return null;
+        }).when(articleBatchRepository).insertArticles(anyList());
+
+        ArticleBatchResponseDto response = ingestionService.createArticles(List.of(original, rewrite));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(rewriteArticle.getStatus()).isEqualTo(Article.ArticleStatus.DUPLICATE);
+        assertThat(rewriteArticle.getCanonicalArticleId()).isEqualTo(11L);
+        verify(articleBatchRepository).insertArticles(List.of(originalArticle));
+        verify(articleBatchRepository).insertArticles(List.of(rewriteArticle));
+        verify(articleBatchRepository).insertDefaultSummaryJobs(List.of(11L), SummaryService.DEFAULT_JOB_PRIORITY);
+        verify(provisionalSummaryService, never()).submit(rewriteArticle);
+
+        // Both are indexed afterwards; a later rewrite joins the same cluster
+        Article later = new Article();
+        later.setWordCount(400);
+        later.setSimHash(0x0F0F_0F0F_0F0F_0F0FL ^ (1L << 40));
+        when(articleRepository.existsById(11L)).thenReturn(true);
+        assertThat(dedup.findCanonical(later)).contains(11L);
+    }
+}
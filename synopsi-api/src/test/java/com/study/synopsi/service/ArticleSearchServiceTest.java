@@ -0,0 +1,155 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SearchConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleArchiveService articleArchiveService;
+
+    @TempDir
+    Path tempDir;
+
+    private SearchConfig config;
+    private ArticleSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        config = new SearchConfig();
+        config.setSnapshotPath(tempDir.resolve("index.bin").toString());
+        lenient().when(articleArchiveService.resolveContent(any()))
+                .thenAnswer(invocation -> invocation.<Article>getArgument(0).getContent());
+        searchService = new ArticleSearchService(articleRepository, articleArchiveService, config, new SimpleMeterRegistry());
+    }
+
+    private Article article(long id, String title, String content) {
+        Article article = new Article();
+        article.setId(id);
+        article.setTitle(title);
+        article.setContent(content);
+        return article;
+    }
+
+    @Test
+    @DisplayName("warmUp should build the index from the database and search should rank title matches first")
+    void warmUp_ShouldIndexArticlesFromDatabase() {
+        when(articleRepository.findForIndexing(any(), eq(0L), any()))
+                .thenReturn(List.of(
+                        article(1L, "Markets rally", "Stocks rose as inflation eased."),
+                        article(2L, "Inflation report", "Prices rose again this month.")));
+
+        assertThat(searchService.isReady()).isFalse();
+        searchService.warmUp();
+
+        assertThat(searchService.isReady()).isTrue();
+        assertThat(searchService.search("inflation")).containsExactly(2L, 1L);
+        assertThat(searchService.search("the and")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("index and remove should apply immediately outside a transaction")
+    void indexAndRemove_ShouldUpdateIndex() {
+        searchService.index(article(3L, "Storm warning", "Heavy rain expected"));
+        assertThat(searchService.search("storm")).containsExactly(3L);
+
+        searchService.index(article(3L, "Heatwave warning", "Heavy rain expected"));
+        assertThat(searchService.search("storm")).isEmpty();
+
+        searchService.remove(3L);
+        assertThat(searchService.search("heatwave")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rank and matchAll should flag matches cut off by their limits")
+    void matches_ShouldFlagTruncation() {
+        config.setMaxHits(2);
+        config.setMaxFilteredHits(3);
+        for (long id = 1; id <= 3; id++) {
+            searchService.index(article(id, "Election update " + id, "Results are in."));
+        }
+
+        assertThat(searchService.rank("election").ids()).hasSize(2);
+        assertThat(searchService.rank("election").truncated()).isTrue();
+        assertThat(searchService.matchAll("election").ids()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(searchService.matchAll("election").truncated()).isFalse();
+        assertThat(searchService.matchAll("the").ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("warmUp should restore a snapshot and only re-index articles changed since it was taken")
+    void warmUp_ShouldRestoreSnapshot() {
+        when(articleRepository.findForIndexing(any(), anyLong(), any())).thenReturn(List.of());
+        searchService.warmUp();
+        searchService.index(article(4L, "Election results", "Counting continues"));
+        searchService.snapshot();
+        assertThat(Files.exists(tempDir.resolve("index.bin"))).isTrue();
+
+        ArticleSearchService restarted = new ArticleSearchService(articleRepository, articleArchiveService, config, new SimpleMeterRegistry());
+        when(articleRepository.findMaxId()).thenReturn(4L);
+        when(articleRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(4L));
+        restarted.warmUp();
+
+        assertThat(restarted.search("election")).containsExactly(4L);
+        verify(articleRepository, atLeastOnce()).findForIndexing(
+                argThat(since -> since.isAfter(LocalDateTime.now().minusHours(1))), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("warmUp should prune restored articles deleted after the snapshot was taken")
+    void warmUp_WhenArticleDeletedSinceSnapshot_ShouldPruneIt() {
+        when(articleRepository.findForIndexing(any(), anyLong(), any())).thenReturn(List.of());
+        searchService.warmUp();
+        searchService.index(article(5L, "Election results", "Counting continues"));
+        searchService.index(article(6L, "Election recount", "Counting resumes"));
+        searchService.snapshot();
+
+        // Article 5 was deleted before an unclean shutdown, so the snapshot still holds it
+        ArticleSearchService restarted = new ArticleSearchService(articleRepository, articleArchiveService, config, new SimpleMeterRegistry());
+        when(articleRepository.findMaxId()).thenReturn(6L);
+        when(articleRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(6L));
+        restarted.warmUp();
+
+        assertThat(restarted.search("election")).containsExactly(6L);
+        assertThat(restarted.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("warmUp should ignore a snapshot that is ahead of the database")
+    void warmUp_WhenSnapshotDoesNotMatchDatabase_ShouldRebuild() {
+        when(articleRepository.findForIndexing(any(), anyLong(), any())).thenReturn(List.of());
+        searchService.warmUp();
+        searchService.index(article(9L, "Orphaned article", "From an old database"));
+        searchService.snapshot();
+
+        ArticleSearchService restarted = new ArticleSearchService(articleRepository, articleArchiveService, config, new SimpleMeterRegistry());
+        when(articleRepository.findMaxId()).thenReturn(null);
+        restarted.warmUp();
+
+        assertThat(restarted.search("orphaned")).isEmpty();
+    }
+}
@@ -1,14 +1,19 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.dto.ArticleCursor;
+import com.study.synopsi.dto.ArticleListItemDto;
 import com.study.synopsi.dto.ArticleRequestDto;
 import com.study.synopsi.dto.ArticleResponseDto;
+import com.study.synopsi.dto.PagedResponseDto;
+import com.study.synopsi.dto.filter.ArticleFilterParams;
 import com.study.synopsi.exception.ArticleNotFoundException;
 import com.study.synopsi.mapper.ArticleMapper;
 import com.study.synopsi.model.Article;
 import com.study.synopsi.model.Feed;
-import com.study.synopsi.model.Summary;
 import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.repository.ArticleQueryRepository;
 import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.util.UrlCanonicalizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,7 +21,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,12 +47,39 @@ class ArticleServiceTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private ArticleQueryRepository articleQueryRepository;
+
+    @Mock
+    private ArticleSearchService articleSearchService;
+
     @Mock
     private ArticleMapper articleMapper;
 
     @Mock
     private SummaryService summaryService;
 
+    @Mock
+    private SummaryAdmissionService summaryAdmissionService;
+
+    @Mock
+    private ProvisionalSummaryService provisionalSummaryService;
+
+    @Mock
+    private NearDuplicateService nearDuplicateService;
+
+    @Mock
+    private SourceNameResolver sourceNameResolver;
+
+    @Mock
+    private ArticleArchiveService articleArchiveService;
+
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private ArticleService articleService;
 
@@ -130,6 +171,23 @@ class ArticleServiceTest {
             verify(articleMapper, times(1)).toDto(article);
         }
 
+        @Test
+        @DisplayName("getArticleById should read archived content from the archive tier")
+        void getArticleById_WhenArchived_ShouldResolveContent() {
+            // Arrange
+            article.setStatus(Article.ArticleStatus.ARCHIVED);
+            article.setContent(null);
+            when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+            when(articleMapper.toDto(article)).thenReturn(responseDto);
+            when(articleArchiveService.resolveContent(article)).thenReturn("Archived body");
+
+            // Act
+            ArticleResponseDto result = articleService.getArticleById(1L);
+
+            // Assert
+            assertThat(result.getContent()).isEqualTo("Archived body");
+        }
+
         @Test
         @DisplayName("getArticleById should throw ArticleNotFoundException when not found")
         void getArticleById_WhenNotFound_ShouldThrowException() {
@@ -146,6 +204,287 @@ class ArticleServiceTest {
             verify(articleRepository, times(1)).findById(99L);
             verify(articleMapper, never()).toDto(any());
         }
+
+        @Test
+        @DisplayName("getArticleValidator should derive the ETag from version columns without loading the article")
+        void getArticleValidator_ShouldUseVersionColumns() {
+            // Arrange
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+            LocalDateTime summarizedAt = updatedAt.plusHours(1);
+            List<Object[]> summarized = List.<Object[]>of(
+                    new Object[]{updatedAt, Article.ArticleStatus.SUMMARIZED, summarizedAt});
+            List<Object[]> archived = List.<Object[]>of(
+                    new Object[]{updatedAt, Article.ArticleStatus.ARCHIVED, summarizedAt});
+            when(articleRepository.findVersionById(1L)).thenReturn(summarized).thenReturn(archived);
+            when(articleRepository.findVersionById(99L)).thenReturn(List.of());
+
+            // Act
+            ResourceVersions.Validator first = articleService.getArticleValidator(1L).orElseThrow();
+            ResourceVersions.Validator second = articleService.getArticleValidator(1L).orElseThrow();
+
+            // Assert
+            assertThat(first.lastModified()).isEqualTo(summarizedAt);
+            assertThat(second.etag()).isNotEqualTo(first.etag());
+            assertThat(articleService.getArticleValidator(99L)).isEmpty();
+            verify(articleRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Article Tests")
+    class SearchArticleTests {
+
+        private ArticleListItemDto item(long id) {
+            return ArticleListItemDto.builder().id(id).build();
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should page search hits in relevance order and intersect other filters by id")
+        void getFilteredArticles_WhenSortedByRelevance_ShouldUseIndexRanking() {
+            // Arrange
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setSearchTerm("climate");
+            filters.setLanguage("en");
+            Pageable pageable = PageRequest.of(0, 2, Sort.by(ArticleService.RELEVANCE_SORT));
+
+            when(articleSearchService.canSearch("climate")).thenReturn(true);
+            when(articleSearchService.matchAll("climate"))
+                    .thenReturn(new ArticleSearchService.Matches(List.of(5L, 3L, 8L, 1L), false));
+            when(articleQueryRepository.findIds(any())).thenReturn(List.of(1L, 3L, 8L));
+            when(articleQueryRepository.findListItems(any())).thenReturn(List.of(item(8L), item(3L)));
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getFilteredArticles(filters, pageable);
+
+            // Assert
+            assertThat(result.getContent()).extracting(ArticleListItemDto::getId).containsExactly(3L, 8L);
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getTruncated()).isNull();
+            verify(articleQueryRepository, never()).findListItems(any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should let the database sort search hits for column sorts")
+        void getFilteredArticles_WhenSortedByColumn_ShouldQueryMatchesById() {
+            // Arrange
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setSearchTerm("climate");
+            Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "publicationDate"));
+
+            when(articleSearchService.canSearch("climate")).thenReturn(true);
+            when(articleSearchService.matchAll("climate")).thenReturn(new ArticleSearchService.Matches(List.of(5L), true));
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(item(5L)), pageable, 1));
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getFilteredArticles(filters, pageable);
+
+            // Assert
+            assertThat(result.getContent()).extracting(ArticleListItemDto::getId).containsExactly(5L);
+            assertThat(result.getTruncated()).isTrue();
+            verify(articleQueryRepository, never()).findIds(any());
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should page by index rank alone when no other filter is set")
+        void getFilteredArticles_WhenOnlyRelevance_ShouldUseRankedHits() {
+            // Arrange
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setSearchTerm("climate");
+            Pageable pageable = PageRequest.of(0, 2, Sort.by(ArticleService.RELEVANCE_SORT));
+
+            when(articleSearchService.canSearch("climate")).thenReturn(true);
+            when(articleSearchService.rank("climate")).thenReturn(new ArticleSearchService.Matches(List.of(5L, 3L), false));
+            when(articleQueryRepository.findListItems(any())).thenReturn(List.of(item(3L), item(5L)));
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getFilteredArticles(filters, pageable);
+
+            // Assert
+            assertThat(result.getContent()).extracting(ArticleListItemDto::getId).containsExactly(5L, 3L);
+            verify(articleSearchService, never()).matchAll(any());
+            verify(articleQueryRepository, never()).findIds(any());
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should fall back to LIKE queries for a stop-word-only search")
+        void getFilteredArticles_WhenOnlyStopWords_ShouldUseDatabaseSearch() {
+            // Arrange
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setSearchTerm("the");
+            Pageable pageable = PageRequest.of(0, 20);
+
+            when(articleSearchService.canSearch("the")).thenReturn(false);
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(item(4L)), pageable, 1));
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getFilteredArticles(filters, pageable);
+
+            // Assert
+            assertThat(result.getContent()).extracting(ArticleListItemDto::getId).containsExactly(4L);
+            verify(articleSearchService, never()).matchAll(any());
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should fall back to LIKE queries while the index is not ready")
+        void getFilteredArticles_WhenIndexNotReady_ShouldUseDatabaseSearch() {
+            // Arrange
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setSearchTerm("climate");
+            Pageable pageable = PageRequest.of(0, 20);
+
+            when(articleSearchService.canSearch("climate")).thenReturn(false);
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+            // Act
+            articleService.getFilteredArticles(filters, pageable);
+
+            // Assert
+            verify(articleSearchService, never()).rank(any());
+            verify(articleSearchService, never()).matchAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("List Projection Tests")
+    class ListProjectionTests {
+
+        @Test
+        @DisplayName("getFilteredArticles should not load content unless requested")
+        void getFilteredArticles_WithoutContent_ShouldSkipContentQuery() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 20);
+            ArticleListItemDto item = ArticleListItemDto.builder().id(1L).title("Test Article").build();
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(item), pageable, 1));
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getFilteredArticles(new ArticleFilterParams(), pageable);
+
+            // Assert
+            assertThat(result.getContent()).containsExactly(item);
+            assertThat(item.getContent()).isNull();
+            verify(articleRepository, never()).findContentByIds(any());
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should load content for the whole page in one query when requested")
+        void getFilteredArticles_WithContent_ShouldAttachContent() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 20);
+            ArticleListItemDto first = ArticleListItemDto.builder().id(1L).build();
+            ArticleListItemDto second = ArticleListItemDto.builder().id(2L).build();
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(first, second), pageable, 2));
+            List<Object[]> rows = List.of(new Object[]{1L, "First body"}, new Object[]{2L, "Second body"});
+            when(articleRepository.findContentByIds(List.of(1L, 2L))).thenReturn(rows);
+
+            // Act
+            articleService.getFilteredArticles(new ArticleFilterParams(), pageable, true);
+
+            // Assert
+            assertThat(first.getContent()).isEqualTo("First body");
+            assertThat(second.getContent()).isEqualTo("Second body");
+        }
+    }
+
+    @Nested
+    @DisplayName("Source Filter Tests")
+    class SourceFilterTests {
+
+        @Test
+        @DisplayName("getFilteredArticles should resolve the source name through the cached directory")
+        void getFilteredArticles_WithSource_ShouldResolveFeedIds() {
+            // Arrange
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setSource("bbc");
+            Pageable pageable = PageRequest.of(0, 20);
+            SourceNameResolver.SourceDirectory directory = new SourceNameResolver.SourceDirectory(
+                    List.of(new SourceNameResolver.SourceEntry(1L, "BBC", List.of(10L))));
+            when(sourceNameResolver.directory()).thenReturn(directory);
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+            // Act
+            articleService.getFilteredArticles(filters, pageable);
+
+            // Assert
+            verify(sourceNameResolver).directory();
+        }
+
+        @Test
+        @DisplayName("getFilteredArticles should not load the directory without a source filter")
+        void getFilteredArticles_WithoutSource_ShouldNotResolve() {
+            // Arrange
+            Pageable pageable = PageRequest.of(0, 20);
+            when(articleQueryRepository.findListItems(any(), eq(pageable)))
+                    .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+            // Act
+            articleService.getFilteredArticles(new ArticleFilterParams(), pageable);
+
+            // Assert
+            verifyNoInteractions(sourceNameResolver);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor Pagination Tests")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("getArticlesByCursor should return a count-free slice with a cursor after its last item")
+        void getArticlesByCursor_WhenMoreRows_ShouldReturnNextCursor() {
+            // Arrange
+            LocalDateTime published = LocalDateTime.of(2025, 10, 1, 12, 0);
+            ArticleListItemDto first = ArticleListItemDto.builder().id(9L).publicationDate(published).build();
+            ArticleListItemDto second = ArticleListItemDto.builder().id(7L).publicationDate(published).build();
+            when(articleQueryRepository.findListItemsAfter(any(), isNull(), eq(2)))
+                    .thenReturn(new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true));
+            when(articleQueryRepository.estimateTotal()).thenReturn(120L);
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getArticlesByCursor(null, "", 2, false);
+
+            // Assert
+            assertThat(result.getContent()).containsExactly(first, second);
+            assertThat(result.isFirst()).isTrue();
+            assertThat(result.isLast()).isFalse();
+            assertThat(result.getApproximateTotal()).isEqualTo(120L);
+            assertThat(ArticleCursor.decode(result.getNextCursor())).isEqualTo(new ArticleCursor(published, 7L));
+            verify(articleQueryRepository, never()).count(any());
+        }
+
+        @Test
+        @DisplayName("getArticlesByCursor should continue after the decoded cursor and skip the total for filtered requests")
+        void getArticlesByCursor_WithCursorAndFilters_ShouldResumeWithoutTotal() {
+            // Arrange
+            ArticleCursor cursor = new ArticleCursor(LocalDateTime.of(2025, 10, 1, 12, 0), 7L);
+            ArticleFilterParams filters = new ArticleFilterParams();
+            filters.setLanguage("en");
+            when(articleQueryRepository.findListItemsAfter(any(), eq(cursor), eq(20)))
+                    .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+            // Act
+            PagedResponseDto<ArticleListItemDto> result = articleService.getArticlesByCursor(filters, cursor.encode(), 20, false);
+
+            // Assert
+            assertThat(result.isFirst()).isFalse();
+            assertThat(result.isLast()).isTrue();
+            assertThat(result.getNextCursor()).isNull();
+            assertThat(result.getApproximateTotal()).isNull();
+            verify(articleQueryRepository, never()).estimateTotal();
+        }
+
+        @Test
+        @DisplayName("getArticlesByCursor should reject malformed cursors")
+        void getArticlesByCursor_WithInvalidCursor_ShouldThrow() {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> articleService.getArticlesByCursor(null, "not-a-cursor", 20, false));
+            assertThat(ex.getMessage()).isEqualTo("Invalid cursor");
+        }
     }
 
     @Nested
@@ -181,12 +520,7 @@ class ArticleServiceTest {
             when(articleMapper.toDto(savedArticle)).thenReturn(savedResponseDto);
 
             // Mock SummaryService call (it's called after save)
-            when(summaryService.requestSummary(
-                    eq(2L),  // savedArticle.getId()
-                    isNull(),  // userId = null
-                    any(Summary.SummaryType.class),
-                    any(Summary.SummaryLength.class)
-            )).thenReturn(new SummaryJob());  // Return a dummy job
+            when(summaryService.requestDefaultSummary(2L)).thenReturn(new SummaryJob());  // Return a dummy job
 
             // Act
             ArticleResponseDto result = articleService.createArticle(requestDto);
@@ -202,12 +536,115 @@ class ArticleServiceTest {
             verify(articleMapper, times(1)).toDto(savedArticle);
 
             // Verify SummaryService was called
-            verify(summaryService, times(1)).requestSummary(
-                    eq(2L),
-                    isNull(),
-                    any(Summary.SummaryType.class),
-                    any(Summary.SummaryLength.class)
-            );
+            verify(summaryService, times(1)).requestDefaultSummary(2L);
+            verify(provisionalSummaryService, times(1)).submit(savedArticle);
+        }
+
+        @Test
+        @DisplayName("createArticle should defer the default summary job when the queue is saturated")
+        void createArticle_WhenQueueSaturated_ShouldDeferSummaryJob() {
+            // Arrange
+            Article newArticle = new Article();
+            newArticle.setFeed(feed);
+
+            Article savedArticle = new Article();
+            savedArticle.setId(3L);
+            savedArticle.setFeed(feed);
+            savedArticle.setStatus(Article.ArticleStatus.PENDING);
+
+            when(articleMapper.toEntity(requestDto)).thenReturn(newArticle);
+            when(articleRepository.save(newArticle)).thenReturn(savedArticle);
+            when(articleMapper.toDto(savedArticle)).thenReturn(new ArticleResponseDto());
+            when(summaryAdmissionService.shouldDeferDefaultJob(feed)).thenReturn(true);
+
+            // Act
+            articleService.createArticle(requestDto);
+
+            // Assert
+            assertThat(savedArticle.getStatus()).isEqualTo(Article.ArticleStatus.PENDING);
+            verify(summaryService, never()).requestDefaultSummary(anyLong());
+        }
+
+        @Test
+        @DisplayName("createArticle should cluster a near-duplicate under its canonical article and skip summarization")
+        void createArticle_WhenNearDuplicate_ShouldSkipSummarization() {
+            // Arrange
+            Article newArticle = new Article();
+            newArticle.setFeed(feed);
+
+            Article savedArticle = new Article();
+            savedArticle.setId(4L);
+            savedArticle.setFeed(feed);
+
+            when(articleMapper.toEntity(requestDto)).thenReturn(newArticle);
+            when(nearDuplicateService.findCanonical(newArticle)).thenReturn(Optional.of(1L));
+            when(articleRepository.save(newArticle)).thenReturn(savedArticle);
+            when(articleMapper.toDto(savedArticle)).thenReturn(new ArticleResponseDto());
+
+            // Act
+            ArticleService.UpsertResult result = articleService.upsertArticle(requestDto);
+
+            // Assert
+            assertThat(result.created()).isTrue();
+            verify(nearDuplicateService).markDuplicate(newArticle, 1L);
+            verify(nearDuplicateService).register(savedArticle);
+            verifyNoInteractions(summaryService, summaryAdmissionService, provisionalSummaryService);
+        }
+
+        @Test
+        @DisplayName("upsertArticle should return the stored article when a concurrent insert wins the URL hash")
+        void upsertArticle_WhenConcurrentInsertWins_ShouldReturnExisting() {
+            // Arrange
+            Article newArticle = new Article();
+            newArticle.setFeed(feed);
+            String urlHash = UrlCanonicalizer.hash(requestDto.getOriginalUrl());
+            when(articleRepository.findByUrlHash(urlHash)).thenReturn(Optional.empty()).thenReturn(Optional.of(article));
+            when(articleMapper.toEntity(requestDto)).thenReturn(newArticle);
+            when(articleRepository.save(newArticle))
+                    .thenThrow(new DataIntegrityViolationException("Unique index violation: IDX_ARTICLE_URL_HASH"));
+            when(articleMapper.toDto(article)).thenReturn(responseDto);
+
+            // Act
+            ArticleService.UpsertResult result = articleService.upsertArticle(requestDto);
+
+            // Assert
+            assertThat(result.created()).isFalse();
+            assertThat(result.article()).isEqualTo(responseDto);
+            verifyNoInteractions(summaryService, provisionalSummaryService);
+        }
+
+        @Test
+        @DisplayName("upsertArticle should rethrow an integrity violation that is not a stored URL")
+        void upsertArticle_WhenViolationIsNotUrlHash_ShouldRethrow() {
+            // Arrange
+            Article newArticle = new Article();
+            newArticle.setFeed(feed);
+            when(articleRepository.findByUrlHash(any())).thenReturn(Optional.empty());
+            when(articleMapper.toEntity(requestDto)).thenReturn(newArticle);
+            when(articleRepository.save(newArticle)).thenThrow(new DataIntegrityViolationException("FK violation"));
+
+            // Act & Assert
+            assertThrows(DataIntegrityViolationException.class, () -> articleService.upsertArticle(requestDto));
+        }
+
+        @Test
+        @DisplayName("upsertArticle should return the stored article for a tracking-parameter variant of its URL")
+        void upsertArticle_WhenCanonicalUrlExists_ShouldReturnExisting() {
+            // Arrange
+            requestDto.setOriginalUrl("https://WWW.Example.com/story?utm_source=rss#comments");
+            when(articleRepository.findByUrlHash(UrlCanonicalizer.hash("https://example.com/story")))
+                    .thenReturn(Optional.of(article));
+            when(articleMapper.toDto(article)).thenReturn(responseDto);
+
+            // Act
+            ArticleService.UpsertResult result = articleService.upsertArticle(requestDto);
+
+            // Assert
+            assertThat(result.created()).isFalse();
+            assertThat(result.article()).isEqualTo(responseDto);
+            verify(articleMapper, never()).toEntity(any());
+            verify(articleRepository, never()).save(any(Article.class));
+            verifyNoInteractions(summaryService, provisionalSummaryService);
         }
 
         @Test
@@ -229,7 +666,7 @@ class ArticleServiceTest {
             assertThat(exception.getMessage()).isEqualTo("Feed not found with id: 99");
             verify(articleMapper, times(1)).toEntity(badRequestDto);
             verify(articleRepository, never()).save(any(Article.class));
-            verify(summaryService, never()).requestSummary(anyLong(), any(), any(), any());
+            verify(summaryService, never()).requestDefaultSummary(anyLong());
         }
     }
 
@@ -304,22 +741,66 @@ class ArticleServiceTest {
         @DisplayName("deleteArticle should delete the article when found")
         void deleteArticle_ShouldSucceed() {
             // Arrange
-            when(articleRepository.existsById(1L)).thenReturn(true);
-            doNothing().when(articleRepository).deleteById(1L);
+            when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+            when(articleRepository.findFirstByCanonicalArticleIdOrderByIdAsc(1L)).thenReturn(Optional.empty());
 
             // Act
             articleService.deleteArticle(1L);
 
             // Assert
-            verify(articleRepository, times(1)).existsById(1L);
-            verify(articleRepository, times(1)).deleteById(1L);
+            verify(articleRepository, times(1)).delete(article);
+            verify(articleSearchService).remove(1L);
+            verify(nearDuplicateService).remove(article, null);
+            verify(articleRepository, never()).repointCanonical(any(), any());
+        }
+
+        @Test
+        @DisplayName("deleteArticle should promote the oldest near-duplicate when deleting a canonical article")
+        void deleteArticle_WhenCanonical_ShouldPromoteSuccessor() {
+            // Arrange
+            Article copy = new Article();
+            copy.setId(2L);
+            copy.setFeed(feed);
+            copy.setCanonicalArticleId(1L);
+            copy.setStatus(Article.ArticleStatus.DUPLICATE);
+            when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+            when(articleRepository.findFirstByCanonicalArticleIdOrderByIdAsc(1L)).thenReturn(Optional.of(copy));
+            when(articleRepository.repointCanonical(1L, 2L)).thenReturn(3);
+            when(summaryAdmissionService.shouldDeferDefaultJob(feed)).thenReturn(false);
+
+            // Act
+            articleService.deleteArticle(1L);
+
+            // Assert
+            assertThat(copy.getCanonicalArticleId()).isNull();
+            assertThat(copy.getStatus()).isEqualTo(Article.ArticleStatus.PENDING);
+            verify(articleRepository).save(copy);
+            verify(summaryService).requestDefaultSummary(2L);
+            verify(articleRepository).delete(article);
+            verify(nearDuplicateService).remove(article, 2L);
+        }
+
+        @Test
+        @DisplayName("deleteArticle should not touch the cluster when deleting a near-duplicate")
+        void deleteArticle_WhenDuplicate_ShouldKeepCluster() {
+            // Arrange
+            article.setCanonicalArticleId(7L);
+            when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+
+            // Act
+            articleService.deleteArticle(1L);
+
+            // Assert
+            verify(articleRepository, never()).findFirstByCanonicalArticleIdOrderByIdAsc(any());
+            verify(articleRepository).delete(article);
+            verify(nearDuplicateService).remove(article, null);
         }
 
         @Test
         @DisplayName("deleteArticle should throw ArticleNotFoundException when not found")
         void deleteArticle_WhenNotFound_ShouldThrowException() {
             // Arrange
-            when(articleRepository.existsById(99L)).thenReturn(false);
+            when(articleRepository.findById(99L)).thenReturn(Optional.empty());
 
             // Act & Assert
             ArticleNotFoundException exception = assertThrows(
@@ -328,8 +809,8 @@ class ArticleServiceTest {
             );
 
             assertThat(exception.getMessage()).isEqualTo("Article not found with id: 99");
-            verify(articleRepository, times(1)).existsById(99L);
-            verify(articleRepository, never()).deleteById(any());
+            verify(articleRepository, times(1)).findById(99L);
+            verify(articleRepository, never()).delete(any(Article.class));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.model.Feed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CrawlFrequencyPolicyTest {
+
+    private CrawlConfig config;
+    private CrawlFrequencyPolicy policy;
+    private Feed feed;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        config = new CrawlConfig();
+        policy = new CrawlFrequencyPolicy(config);
+        feed = new Feed();
+        feed.setCrawlFrequencyMinutes(60);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("a quiet feed should be polled less often, one doubling per crawl up to the bound")
+    void recordYield_ShouldStretchQuietFeeds() {
+        for (int crawl = 0; crawl < 10; crawl++) {
+            policy.recordYield(feed, 0, now.minusMinutes(feed.currentCrawlInterval()), now);
+        }
+
+        assertThat(feed.getYieldRate()).isZero();
+        assertThat(feed.getCrawlIntervalMinutes()).isEqualTo(config.getMaxIntervalMinutes());
+    }
+
+    @Test
+    @DisplayName("a busy feed should converge on the interval that yields the target per crawl")
+    void recordYield_ShouldConvergeOnTargetYield() {
+        // 12 articles an hour -> 1 article every 5 minutes
+        for (int crawl = 0; crawl < 10; crawl++) {
+            int interval = feed.currentCrawlInterval();
+            policy.recordYield(feed, interval / 5, now.minusMinutes(interval), now);
+        }
+
+        assertThat(feed.getYieldRate()).isCloseTo(12.0, within(0.5));
+        assertThat(feed.getCrawlIntervalMinutes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("the rate estimate should weight a sample by the time it covers")
+    void recordYield_ShouldSmoothShortSamples() {
+        feed.setYieldRate(1.0);
+
+        // An empty 10-minute window barely moves a rate built over a day
+        policy.recordYield(feed, 0, now.minusMinutes(10), now);
+
+        assertThat(feed.getYieldRate()).isCloseTo(0.99, within(0.01));
+    }
+
+    @Test
+    @DisplayName("nextIntervalMinutes should double per repeated failure up to the backoff cap")
+    void nextIntervalMinutes_ShouldBackOffExponentially() {
+        feed.setFailureCount(1);
+        assertThat(policy.nextIntervalMinutes(feed)).isEqualTo(60);
+        feed.setFailureCount(3);
+        assertThat(policy.nextIntervalMinutes(feed)).isEqualTo(240);
+        feed.setFailureCount(40);
+        assertThat(policy.nextIntervalMinutes(feed)).isEqualTo(config.getMaxBackoffMinutes());
+    }
+
+    @Test
+    @DisplayName("recordYield should leave the interval alone when adaptation is disabled")
+    void recordYield_ShouldRespectDisabledAdaptation() {
+        config.setAdaptiveFrequency(false);
+
+        policy.recordYield(feed, 50, now.minusMinutes(60), now);
+
+        assertThat(feed.getCrawlIntervalMinutes()).isNull();
+        assertThat(policy.nextIntervalMinutes(feed)).isEqualTo(60);
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.dto.FeedClaimDto;
+import com.study.synopsi.repository.FeedRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlLeaseServiceTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private CrawlScheduleService crawlScheduleService;
+
+    @Spy
+    private CrawlConfig crawlConfig = new CrawlConfig();
+
+    @Mock
+    private FeedCache feedCache;
+
+    @Mock
+    private FeedCircuitBreaker feedCircuitBreaker;
+
+    @InjectMocks
+    private CrawlLeaseService crawlLeaseService;
+
+    @Test
+    @DisplayName("claim should lease wheel candidates first and top up from the due index")
+    void claim_ShouldTopUpFromDueIndex() {
+        when(crawlScheduleService.pollDue(3)).thenReturn(List.of(7L));
+        when(feedRepository.leaseDueFeeds(eq(List.of(7L)), anyString(), any(), any())).thenReturn(1);
+        when(feedRepository.findDueFeedIds(any(), eq(PageRequest.of(0, 2)))).thenReturn(List.of(8L, 9L));
+        when(feedRepository.leaseDueFeeds(eq(List.of(8L, 9L)), anyString(), any(), any())).thenReturn(1);
+        FeedClaimDto seven = FeedClaimDto.builder().id(7L).build();
+        FeedClaimDto nine = FeedClaimDto.builder().id(9L).build();
+        when(feedRepository.findClaimedFeeds(anyString())).thenReturn(List.of(nine, seven));
+
+        List<FeedClaimDto> claimed = crawlLeaseService.claim(3);
+
+        assertThat(claimed).containsExactly(nine, seven);
+        verify(crawlScheduleService).schedule(eq(7L), any());
+        verify(crawlScheduleService).schedule(eq(9L), any());
+        verify(feedCache).invalidate(List.of(9L, 7L));
+        verify(feedCircuitBreaker).startProbes(anyString());
+    }
+
+    @Test
+    @DisplayName("claim should cap max and skip the descriptor query when nothing was leased")
+    void claim_ShouldReturnEmptyWhenNothingIsDue() {
+        when(crawlScheduleService.pollDue(100)).thenReturn(List.of());
+        when(feedRepository.findDueFeedIds(any(), eq(PageRequest.of(0, 100)))).thenReturn(List.of());
+
+        assertThat(crawlLeaseService.claim(5_000)).isEmpty();
+        verify(feedRepository, never()).findClaimedFeeds(anyString());
+    }
+}
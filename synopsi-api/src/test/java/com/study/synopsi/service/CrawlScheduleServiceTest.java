@@ -0,0 +1,79 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.repository.FeedRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlScheduleServiceTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    private CrawlScheduleService crawlScheduleService;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        crawlScheduleService = new CrawlScheduleService(feedRepository, new CrawlConfig(), new SimpleMeterRegistry());
+        now = LocalDateTime.now();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("reload should schedule every active feed and emit overdue ones on the next tick")
+    void reload_ShouldLoadScheduleFromDatabase() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, now.minusMinutes(5)});
+        rows.add(new Object[]{2L, now.plusMinutes(30)});
+        rows.add(new Object[]{3L, now.minusMinutes(10)});
+        when(feedRepository.scheduleUnscheduledFeeds(any())).thenReturn(0);
+        when(feedRepository.findCrawlSchedule()).thenReturn(rows);
+
+        crawlScheduleService.reload();
+        crawlScheduleService.tick();
+
+        assertThat(crawlScheduleService.scheduledCount()).isEqualTo(1);
+        assertThat(crawlScheduleService.dueCount()).isEqualTo(2);
+        assertThat(crawlScheduleService.pollDue(10)).containsExactly(3L, 1L);
+        assertThat(crawlScheduleService.dueCount()).isZero();
+
+        crawlScheduleService.advance(millis(now.plusMinutes(31)));
+        assertThat(crawlScheduleService.pollDue(10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("schedule should take a due feed out of the due set and cancel should drop it")
+    void schedule_ShouldRescheduleAndCancel() {
+        crawlScheduleService.schedule(1L, now.minusMinutes(1));
+        crawlScheduleService.schedule(2L, now.minusMinutes(1));
+        crawlScheduleService.tick();
+        assertThat(crawlScheduleService.dueCount()).isEqualTo(2);
+
+        // Crawled: next run in an hour
+        crawlScheduleService.schedule(1L, now.plusHours(1));
+        crawlScheduleService.cancel(2L);
+
+        assertThat(crawlScheduleService.dueCount()).isZero();
+        assertThat(crawlScheduleService.scheduledCount()).isEqualTo(1);
+        assertThat(crawlScheduleService.pollDue(10)).isEmpty();
+    }
+}
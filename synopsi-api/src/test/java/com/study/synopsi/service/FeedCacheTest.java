@@ -0,0 +1,68 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.dto.filter.FeedFilterParams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedCacheTest {
+
+    private ResourceVersions resourceVersions;
+    private FeedCache feedCache;
+    private Cache byId;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(FeedCache.BY_ID, FeedCache.QUERIES);
+        resourceVersions = new ResourceVersions();
+        feedCache = new FeedCache(cacheManager, resourceVersions);
+        byId = cacheManager.getCache(FeedCache.BY_ID);
+    }
+
+    private FeedQueryKey activeFeedsKey() {
+        FeedFilterParams filters = FeedFilterParams.builder().isActive(true).build();
+        return FeedQueryKey.of(resourceVersions, filters, PageRequest.of(0, 20, Sort.by("priority")));
+    }
+
+    @Test
+    @DisplayName("query keys should be equal for the same query at the same feed-set version")
+    void queryKey_ShouldBeStructural() {
+        assertThat(activeFeedsKey()).isEqualTo(activeFeedsKey());
+        assertThat(activeFeedsKey().hashCode()).isEqualTo(activeFeedsKey().hashCode());
+    }
+
+    @Test
+    @DisplayName("invalidate should evict only the changed feeds and retire query results")
+    void invalidate_ShouldEvictChangedFeedsOnly() {
+        byId.put(1L, "feed 1");
+        byId.put(2L, "feed 2");
+        FeedQueryKey before = activeFeedsKey();
+
+        feedCache.invalidate(1L);
+
+        assertThat(byId.get(1L)).isNull();
+        assertThat(byId.get(2L)).isNotNull();
+        assertThat(activeFeedsKey()).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("invalidateQueries should keep per-id entries")
+    void invalidateQueries_ShouldKeepFeedEntries() {
+        byId.put(1L, "feed 1");
+        FeedQueryKey before = activeFeedsKey();
+
+        feedCache.invalidateQueries();
+        feedCache.invalidate(List.of());
+
+        assertThat(byId.get(1L)).isNotNull();
+        assertThat(activeFeedsKey().version()).isEqualTo(before.version() + 1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.repository.FeedRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedCircuitBreakerTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FeedCircuitBreaker circuitBreaker;
+    private Feed feed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new FeedCircuitBreaker(feedRepository, new CrawlConfig(), meterRegistry);
+        feed = new Feed();
+        feed.setId(1L);
+        feed.setLastCrawled(LocalDateTime.now());
+    }
+
+    private void fail() {
+        feed.setFailureCount(feed.getFailureCount() + 1);
+        feed.scheduleNextCrawl();
+        circuitBreaker.onFailure(feed);
+    }
+
+    private double transitions(String from, String to) {
+        return meterRegistry.get("synopsi.feed.circuit.transitions").tag("from", from).tag("to", to)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("onFailure should open the circuit at the threshold and push the next crawl past the cool-down")
+    void onFailure_ShouldOpenAtThreshold() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(feed.getCircuitState()).isEqualTo(Feed.CircuitState.CLOSED);
+
+        fail();
+
+        assertThat(feed.getCircuitState()).isEqualTo(Feed.CircuitState.OPEN);
+        assertThat(feed.getNextCrawlAt()).isEqualTo(feed.getLastCrawled().plusMinutes(360));
+        assertThat(transitions("CLOSED", "OPEN")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("a failed probe should reopen the circuit with a doubled cool-down, a success should close it")
+    void probe_ShouldReopenOrClose() {
+        feed.setFailureCount(5);
+        feed.setCircuitState(Feed.CircuitState.HALF_OPEN);
+
+        fail();
+        assertThat(feed.getCircuitState()).isEqualTo(Feed.CircuitState.OPEN);
+        assertThat(feed.getNextCrawlAt()).isEqualTo(feed.getLastCrawled().plusMinutes(720));
+
+        feed.setCircuitState(Feed.CircuitState.HALF_OPEN);
+        circuitBreaker.onSuccess(feed);
+        assertThat(feed.getCircuitState()).isEqualTo(Feed.CircuitState.CLOSED);
+        assertThat(transitions("HALF_OPEN", "OPEN")).isEqualTo(1.0);
+        assertThat(transitions("HALF_OPEN", "CLOSED")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("cooldownMinutes should double per failure past the threshold up to the cap")
+    void cooldownMinutes_ShouldGrowExponentially() {
+        assertThat(circuitBreaker.cooldownMinutes(5)).isEqualTo(360);
+        assertThat(circuitBreaker.cooldownMinutes(7)).isEqualTo(1440);
+        assertThat(circuitBreaker.cooldownMinutes(50)).isEqualTo(10_080);
+    }
+
+    @Test
+    @DisplayName("reconcile should publish per-state counts, treating unset states as closed")
+    void reconcile_ShouldCountFeedsByState() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{Feed.CircuitState.CLOSED, 7L});
+        rows.add(new Object[]{null, 3L});
+        rows.add(new Object[]{Feed.CircuitState.OPEN, 2L});
+        when(feedRepository.countByCircuitState()).thenReturn(rows);
+
+        circuitBreaker.reconcile();
+
+        assertThat(circuitBreaker.count(Feed.CircuitState.CLOSED)).isEqualTo(10);
+        assertThat(circuitBreaker.count(Feed.CircuitState.OPEN)).isEqualTo(2);
+        assertThat(meterRegistry.get("synopsi.feed.circuit").tag("state", "HALF_OPEN").gauge().value()).isZero();
+    }
+}
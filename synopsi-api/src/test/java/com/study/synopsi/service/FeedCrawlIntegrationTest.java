@@ -0,0 +1,263 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.dto.CrawlOutcomeBatchResponseDto;
+import com.study.synopsi.dto.CrawlOutcomeDto;
+import com.study.synopsi.dto.CrawlSuccessDto;
+import com.study.synopsi.dto.FeedClaimDto;
+import com.study.synopsi.dto.FeedResponseDto;
+import com.study.synopsi.dto.filter.FeedFilterParams;
+import com.study.synopsi.exception.CrawlLeaseLostException;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.Source;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.repository.SourceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@DisplayName("Feed crawl scheduling Integration Tests")
+class FeedCrawlIntegrationTest {
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private CrawlLeaseService crawlLeaseService;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    private Feed feed(Source source, String url, int priority) {
+        Feed feed = new Feed();
+        feed.setSource(source);
+        feed.setFeedUrl(url);
+        feed.setPriority(priority);
+        return feedRepository.save(feed);
+    }
+
+    // Lease one feed (making it due first) under a fresh claim token
+    private String lease(Feed feed) {
+        Feed stored = feedRepository.findById(feed.getId()).orElseThrow();
+        stored.setNextCrawlAt(LocalDateTime.now().minusMinutes(1));
+        feedRepository.save(stored);
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(feedRepository.leaseDueFeeds(List.of(feed.getId()), token, now, now.plusMinutes(15))).isEqualTo(1);
+        return token;
+    }
+
+    @Test
+    @DisplayName("getFeedsNeedingCrawl should return feeds whose nextCrawlAt has passed, by priority")
+    void getFeedsNeedingCrawl_ShouldFollowNextCrawlAt() {
+        Source source = new Source();
+        source.setName("Crawl Source");
+        source.setBaseUrl("https://crawl.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed fresh = feed(source, "https://crawl.example.com/fresh", 3);
+        Feed urgent = feed(source, "https://crawl.example.com/urgent", 9);
+        Feed crawled = feed(source, "https://crawl.example.com/crawled", 5);
+        assertThat(fresh.getNextCrawlAt()).isBeforeOrEqualTo(LocalDateTime.now());
+
+        feedService.recordSuccessfulCrawl(crawled.getId(), lease(crawled));
+        assertThat(feedRepository.findById(crawled.getId()).orElseThrow().getNextCrawlAt())
+                .isAfter(LocalDateTime.now().plusMinutes(59));
+
+        assertThat(feedService.getFeedsNeedingCrawl())
+                .extracting(FeedResponseDto::getFeedUrl)
+                .containsSubsequence(urgent.getFeedUrl(), fresh.getFeedUrl())
+                .doesNotContain(crawled.getFeedUrl());
+        // Query results are cached under a structured key tagged with the feed-set version
+        FeedFilterParams filters = FeedFilterParams.builder().sourceId(source.getId()).build();
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("priority").descending());
+        assertThat(feedService.getFilteredFeeds(filters, pageable).getContent())
+                .extracting(FeedResponseDto::getId).containsExactly(urgent.getId(), crawled.getId(), fresh.getId());
+        assertThat(cacheManager.getCache(FeedCache.QUERIES)
+                .get(FeedQueryKey.of(resourceVersions, filters, pageable))).isNotNull();
+
+        assertThat(feedService.getFeedsNeedingCrawl())
+                .filteredOn(dto -> dto.getId().equals(urgent.getId()))
+                .singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.getSourceName()).isEqualTo("Crawl Source");
+                    assertThat(dto.getArticleCount()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("claim should lease each due feed once, by priority, until released or crawled")
+    void claim_ShouldLeaseDueFeedsOnce() {
+        Source source = new Source();
+        source.setName("Lease Source");
+        source.setBaseUrl("https://lease.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed low = feed(source, "https://lease.example.com/low", 2);
+        Feed high = feed(source, "https://lease.example.com/high", 10);
+        Feed mid = feed(source, "https://lease.example.com/mid", 6);
+
+        List<FeedClaimDto> first = crawlLeaseService.claim(2);
+        assertThat(first).extracting(FeedClaimDto::getId).containsExactly(high.getId(), mid.getId());
+        String token = first.get(0).getLeaseToken();
+        assertThat(first).extracting(FeedClaimDto::getLeaseToken).containsOnly(token);
+        assertThat(first.get(0).getSourceName()).isEqualTo("Lease Source");
+        assertThat(first.get(0).getLeaseExpiresAt()).isAfter(LocalDateTime.now());
+
+        Feed leased = feedRepository.findById(high.getId()).orElseThrow();
+        assertThat(leased.getLastCrawled()).isNotNull();
+        assertThat(leased.getLeaseToken()).isNotNull();
+
+        // Leased feeds are not handed out again
+        List<FeedClaimDto> second = crawlLeaseService.claim(10);
+        assertThat(second).extracting(FeedClaimDto::getId).contains(low.getId())
+                .doesNotContain(high.getId(), mid.getId());
+
+        // A crawl outcome ends the lease; a release makes the feed claimable again
+        feedService.recordSuccessfulCrawl(high.getId(), token, CrawlSuccessDto.builder()
+                .etag("\"high-v1\"").contentHash("f00d").build());
+        assertThat(feedRepository.findById(high.getId()).orElseThrow().getLeaseToken()).isNull();
+        assertThat(crawlLeaseService.release(second.get(0).getLeaseToken(), List.of(mid.getId()))).isZero();
+        assertThat(crawlLeaseService.release(token, List.of(mid.getId(), high.getId()))).isEqualTo(1);
+        assertThat(crawlLeaseService.claim(10)).extracting(FeedClaimDto::getId)
+                .contains(mid.getId())
+                .doesNotContain(high.getId(), low.getId());
+
+        // The next lease of the crawled feed carries its validators for a conditional fetch
+        Feed due = feedRepository.findById(high.getId()).orElseThrow();
+        due.setNextCrawlAt(LocalDateTime.now().minusMinutes(1));
+        feedRepository.save(due);
+        assertThat(crawlLeaseService.claim(10))
+                .filteredOn(claim -> claim.getId().equals(high.getId()))
+                .singleElement()
+                .satisfies(claim -> {
+                    assertThat(claim.getHttpEtag()).isEqualTo("\"high-v1\"");
+                    assertThat(claim.getContentHash()).isEqualTo("f00d");
+                });
+    }
+
+    @Test
+    @DisplayName("recordCrawlOutcomes should write every outcome and end the leases")
+    void recordCrawlOutcomes_ShouldApplyBatch() {
+        Source source = new Source();
+        source.setName("Outcome Source");
+        source.setBaseUrl("https://outcome.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed ok = feed(source, "https://outcome.example.com/ok", 10);
+        Feed broken = feed(source, "https://outcome.example.com/broken", 10);
+        String token = lease(ok);
+        assertThat(feedRepository.leaseDueFeeds(List.of(broken.getId()), token, LocalDateTime.now(),
+                LocalDateTime.now().plusMinutes(15))).isEqualTo(1);
+
+        CrawlOutcomeBatchResponseDto result = feedService.recordCrawlOutcomes(List.of(
+                CrawlOutcomeDto.builder().feedId(ok.getId()).leaseToken(token).success(true).contentHash("beef").build(),
+                CrawlOutcomeDto.builder().feedId(broken.getId()).leaseToken(token).success(false).errorMessage("HTTP 500").build(),
+                CrawlOutcomeDto.builder().feedId(-1L).leaseToken(token).success(true).build()));
+
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getNotFound()).isEqualTo(1);
+
+        Feed storedOk = feedRepository.findById(ok.getId()).orElseThrow();
+        assertThat(storedOk.getLeaseToken()).isNull();
+        assertThat(storedOk.getLastSuccessfulCrawl()).isNotNull();
+        assertThat(storedOk.getContentHash()).isEqualTo("beef");
+        assertThat(storedOk.getNextCrawlAt()).isEqualTo(result.getResults().get(0).getNextCrawlAt());
+
+        Feed storedBroken = feedRepository.findById(broken.getId()).orElseThrow();
+        assertThat(storedBroken.getFailureCount()).isEqualTo(1);
+        assertThat(storedBroken.getLastError()).isEqualTo("HTTP 500");
+        assertThat(storedBroken.getLeaseExpiresAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("a repeatedly failing feed should open, be probed once after its cool-down and close on success")
+    void circuitBreaker_ShouldOpenProbeAndClose() {
+        Source source = new Source();
+        source.setName("Circuit Source");
+        source.setBaseUrl("https://circuit.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+        Feed flaky = feed(source, "https://circuit.example.com/flaky", 10);
+
+        for (int i = 0; i < 5; i++) {
+            feedService.recordFailedCrawl(flaky.getId(), lease(flaky), "HTTP 503");
+        }
+        Feed open = feedRepository.findById(flaky.getId()).orElseThrow();
+        assertThat(open.getCircuitState()).isEqualTo(Feed.CircuitState.OPEN);
+        assertThat(open.getNextCrawlAt()).isAfter(LocalDateTime.now().plusMinutes(359));
+        assertThat(feedService.getFeedsNeedingCrawl()).extracting(FeedResponseDto::getId).doesNotContain(flaky.getId());
+
+        // Cool-down over: exactly one claim gets the probe
+        open.setNextCrawlAt(LocalDateTime.now().minusMinutes(1));
+        feedRepository.save(open);
+        List<FeedClaimDto> probe = crawlLeaseService.claim(100).stream()
+                .filter(claim -> claim.getId().equals(flaky.getId())).toList();
+        assertThat(probe).singleElement()
+                .satisfies(claim -> assertThat(claim.getCircuitState()).isEqualTo(Feed.CircuitState.HALF_OPEN));
+        assertThat(crawlLeaseService.claim(100)).extracting(FeedClaimDto::getId).doesNotContain(flaky.getId());
+
+        feedService.recordSuccessfulCrawl(flaky.getId(), probe.get(0).getLeaseToken());
+        Feed closed = feedRepository.findById(flaky.getId()).orElseThrow();
+        assertThat(closed.getCircuitState()).isEqualTo(Feed.CircuitState.CLOSED);
+        assertThat(closed.getFailureCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("a late report or release from an expired claim should leave the new claim's lease alone")
+    void expiredClaim_ShouldNotEndNewLease() {
+        Source source = new Source();
+        source.setName("Expiry Source");
+        source.setBaseUrl("https://expiry.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+        Feed slow = feed(source, "https://expiry.example.com/slow", 10);
+
+        // Worker A's lease runs out and worker B claims the feed
+        String first = lease(slow);
+        String second = lease(slow);
+
+        assertThatThrownBy(() -> feedService.recordSuccessfulCrawl(slow.getId(), first))
+                .isInstanceOf(CrawlLeaseLostException.class);
+        assertThatThrownBy(() -> feedService.recordFailedCrawl(slow.getId(), first, "Timeout"))
+                .isInstanceOf(CrawlLeaseLostException.class);
+        assertThat(crawlLeaseService.release(first, List.of(slow.getId()))).isZero();
+        CrawlOutcomeBatchResponseDto late = feedService.recordCrawlOutcomes(List.of(
+                CrawlOutcomeDto.builder().feedId(slow.getId()).leaseToken(first).success(false).errorMessage("Timeout").build()));
+        assertThat(late.getLeaseLost()).isEqualTo(1);
+
+        Feed held = feedRepository.findById(slow.getId()).orElseThrow();
+        assertThat(held.getLeaseToken()).isEqualTo(second);
+        assertThat(held.getNextCrawlAt()).isAfter(LocalDateTime.now());
+        assertThat(held.getFailureCount()).isZero();
+        assertThat(crawlLeaseService.claim(100)).extracting(FeedClaimDto::getId).doesNotContain(slow.getId());
+
+        feedService.recordSuccessfulCrawl(slow.getId(), second);
+        assertThat(feedRepository.findById(slow.getId()).orElseThrow().getLeaseToken()).isNull();
+    }
+}
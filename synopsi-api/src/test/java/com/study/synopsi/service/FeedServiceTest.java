@@ -1,14 +1,20 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.config.CrawlConfig;
+import com.study.synopsi.dto.CrawlOutcomeBatchResponseDto;
+import com.study.synopsi.dto.CrawlOutcomeDto;
+import com.study.synopsi.dto.CrawlSuccessDto;
 import com.study.synopsi.dto.FeedRequestDto;
 import com.study.synopsi.dto.FeedResponseDto;
 import com.study.synopsi.dto.PagedResponseDto;
 import com.study.synopsi.dto.filter.FeedFilterParams;
+import com.study.synopsi.exception.CrawlLeaseLostException;
 import com.study.synopsi.exception.FeedNotFoundException;
 import com.study.synopsi.exception.InvalidFeedException;
 import com.study.synopsi.mapper.FeedMapper;
 import com.study.synopsi.model.Feed;
 import com.study.synopsi.model.Source;
+import com.study.synopsi.repository.FeedBatchRepository;
 import com.study.synopsi.repository.FeedRepository;
 import com.study.synopsi.specification.FeedSpecification;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -29,11 +36,14 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +56,24 @@ class FeedServiceTest {
     @Mock
     private FeedMapper feedMapper;
 
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions();
+
+    @Mock
+    private CrawlScheduleService crawlScheduleService;
+
+    @Spy
+    private CrawlFrequencyPolicy crawlFrequencyPolicy = new CrawlFrequencyPolicy(new CrawlConfig());
+
+    @Mock
+    private FeedBatchRepository feedBatchRepository;
+
+    @Mock
+    private FeedCache feedCache;
+
+    @Mock
+    private FeedCircuitBreaker feedCircuitBreaker;
+
     @InjectMocks
     private FeedService feedService;
 
@@ -130,6 +158,7 @@ class FeedServiceTest {
             verify(feedRepository).existsByFeedUrl("https://example.com/rss");
             verify(feedRepository).save(any(Feed.class));
             verify(feedMapper).toDto(testFeed);
+            verify(resourceVersions).bump(ResourceVersions.SOURCES);
         }
 
         @Test
@@ -279,6 +308,27 @@ class FeedServiceTest {
             verify(feedRepository).findById(999L);
         }
 
+        @Test
+        @DisplayName("Should derive feed validators from the update time and source version")
+        void shouldDeriveFeedValidators() {
+            // Given
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+            when(feedRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+            when(feedRepository.findUpdatedAtById(999L)).thenReturn(Optional.empty());
+
+            // When
+            ResourceVersions.Validator before = feedService.getFeedValidator(1L).orElseThrow();
+            resourceVersions.bump(ResourceVersions.SOURCES);
+            ResourceVersions.Validator after = feedService.getFeedValidator(1L).orElseThrow();
+
+            // Then
+            assertThat(before.etag()).startsWith("\"").endsWith("\"");
+            assertThat(before.lastModified()).isEqualTo(updatedAt);
+            assertThat(after.etag()).isNotEqualTo(before.etag());
+            assertThat(feedService.getFeedValidator(999L)).isEmpty();
+            verify(feedRepository, never()).findById(anyLong());
+        }
+
         @Test
         @DisplayName("Should get all feeds successfully")
         void shouldGetAllFeedsSuccessfully() {
@@ -343,7 +393,7 @@ class FeedServiceTest {
             List<FeedResponseDto> responseDtos = Arrays.asList(testFeedResponseDto);
 
             when(feedRepository.findFeedsNeedingCrawl(any(LocalDateTime.class))).thenReturn(feeds);
-            when(feedMapper.toDtoList(feeds)).thenReturn(responseDtos);
+            when(feedMapper.toCrawlDtoList(feeds)).thenReturn(responseDtos);
 
             // When
             List<FeedResponseDto> result = feedService.getFeedsNeedingCrawl();
@@ -590,6 +640,8 @@ class FeedServiceTest {
             verify(feedRepository).save(feedCaptor.capture());
             Feed savedFeed = feedCaptor.getValue();
             assertThat(savedFeed.getIsActive()).isFalse();
+            verify(crawlScheduleService).cancel(1L);
+            verify(feedCache).invalidate(1L);
         }
 
         @Test
@@ -608,20 +660,87 @@ class FeedServiceTest {
     @DisplayName("Crawl Tracking Tests")
     class CrawlTrackingTests {
 
+        private static final String LEASE = "lease-1";
+
+        @BeforeEach
+        void leaseFeed() {
+            testFeed.setLeaseToken(LEASE);
+        }
+
         @Test
         @DisplayName("Should record successful crawl")
         void shouldRecordSuccessfulCrawl() {
             // Given
-            when(feedRepository.findById(1L)).thenReturn(Optional.of(testFeed));
+            when(feedRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testFeed));
             when(feedRepository.save(any(Feed.class))).thenReturn(testFeed);
 
             // When
-            feedService.recordSuccessfulCrawl(1L);
+            feedService.recordSuccessfulCrawl(1L, LEASE);
 
             // Then
-            verify(feedRepository).findById(1L);
+            verify(feedRepository).findByIdForUpdate(1L);
             verify(feedRepository).save(testFeed);
             // Note: recordSuccessfulCrawl() is called on the feed entity
+            assertThat(testFeed.getNextCrawlAt()).isEqualTo(testFeed.getLastCrawled().plusMinutes(60));
+            verify(crawlScheduleService).schedule(1L, testFeed.getNextCrawlAt());
+        }
+
+        @Test
+        @DisplayName("Should shorten the crawl interval of a feed that yields many articles")
+        void shouldAdaptIntervalToYield() {
+            // Given: 6 new articles in the hour since the previous crawl
+            testFeed.setLastSuccessfulCrawl(LocalDateTime.now().minusMinutes(60));
+            when(feedRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testFeed));
+            when(feedRepository.countArticlesByFeedIdCreatedAfter(eq(1L), any())).thenReturn(6);
+            when(feedRepository.save(any(Feed.class))).thenReturn(testFeed);
+
+            // When
+            feedService.recordSuccessfulCrawl(1L, LEASE);
+
+            // Then: the interval halves (the largest step per crawl) toward 10 minutes
+            assertThat(testFeed.getYieldRate()).isCloseTo(6.0, within(0.1));
+            assertThat(testFeed.getCrawlIntervalMinutes()).isEqualTo(30);
+            assertThat(testFeed.getNextCrawlAt()).isEqualTo(testFeed.getLastCrawled().plusMinutes(30));
+        }
+
+        @Test
+        @DisplayName("Should store validators and skip article processing for an unchanged feed")
+        void shouldSkipArticleProcessingWhenUnchanged() {
+            // Given
+            testFeed.setLastSuccessfulCrawl(LocalDateTime.now().minusMinutes(60));
+            testFeed.setContentHash("abc123");
+            when(feedRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testFeed));
+            when(feedRepository.save(any(Feed.class))).thenReturn(testFeed);
+            CrawlSuccessDto result = CrawlSuccessDto.builder()
+                    .etag("\"v2\"")
+                    .contentHash("abc123")
+                    .build();
+
+            // When
+            feedService.recordSuccessfulCrawl(1L, LEASE, result);
+
+            // Then: same body hash, so no yield count and the interval grows
+            verify(feedRepository, never()).countArticlesByFeedIdCreatedAfter(anyLong(), any());
+            assertThat(testFeed.getHttpEtag()).isEqualTo("\"v2\"");
+            assertThat(testFeed.getYieldRate()).isZero();
+            assertThat(testFeed.getCrawlIntervalMinutes()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("Should back off exponentially after repeated failures")
+        void shouldBackOffAfterRepeatedFailures() {
+            // Given
+            testFeed.setFailureCount(2);
+            when(feedRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testFeed));
+            when(feedRepository.save(any(Feed.class))).thenReturn(testFeed);
+
+            // When
+            feedService.recordFailedCrawl(1L, LEASE, "Connection timeout");
+
+            // Then: third failure in a row waits 4 x 60 minutes
+            assertThat(testFeed.getFailureCount()).isEqualTo(3);
+            assertThat(testFeed.getNextCrawlAt()).isEqualTo(testFeed.getLastCrawled().plusMinutes(240));
+            verify(feedCircuitBreaker).onFailure(testFeed);
         }
 
         @Test
@@ -629,28 +748,113 @@ class FeedServiceTest {
         void shouldRecordFailedCrawl() {
             // Given
             String errorMessage = "Connection timeout";
-            when(feedRepository.findById(1L)).thenReturn(Optional.of(testFeed));
+            when(feedRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testFeed));
             when(feedRepository.save(any(Feed.class))).thenReturn(testFeed);
 
             // When
-            feedService.recordFailedCrawl(1L, errorMessage);
+            feedService.recordFailedCrawl(1L, LEASE, errorMessage);
 
             // Then
-            verify(feedRepository).findById(1L);
+            verify(feedRepository).findByIdForUpdate(1L);
             verify(feedRepository).save(testFeed);
         }
 
+        @Test
+        @DisplayName("Should record a batch of crawl outcomes with one write")
+        void shouldRecordCrawlOutcomesInBatch() {
+            // Given
+            Feed failing = new Feed();
+            failing.setId(2L);
+            failing.setCrawlFrequencyMinutes(30);
+            failing.setFailureCount(1);
+            failing.setLeaseToken(LEASE);
+            testFeed.setLastSuccessfulCrawl(LocalDateTime.now().minusMinutes(60));
+            when(feedRepository.findAllByIdForUpdate(Set.of(1L, 2L, 99L))).thenReturn(List.of(testFeed, failing));
+            when(feedRepository.countNewArticlesByFeedIds(Set.of(1L, 2L, 99L)))
+                    .thenReturn(List.<Object[]>of(new Object[]{1L, 1L}));
+            List<CrawlOutcomeDto> outcomes = List.of(
+                    CrawlOutcomeDto.builder().feedId(1L).leaseToken(LEASE).success(true).etag("\"v1\"").build(),
+                    CrawlOutcomeDto.builder().feedId(2L).leaseToken(LEASE).success(false).errorMessage("Timeout").build(),
+                    CrawlOutcomeDto.builder().feedId(99L).leaseToken(LEASE).success(true).build());
+
+            // When
+            CrawlOutcomeBatchResponseDto result = feedService.recordCrawlOutcomes(outcomes);
+
+            // Then
+            assertThat(result.getUpdated()).isEqualTo(2);
+            assertThat(result.getNotFound()).isEqualTo(1);
+            assertThat(result.getResults()).extracting(CrawlOutcomeBatchResponseDto.ItemResult::getStatus)
+                    .containsExactly(CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED,
+                            CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED,
+                            CrawlOutcomeBatchResponseDto.ItemStatus.NOT_FOUND);
+            assertThat(result.getResults().get(0).getNextCrawlAt()).isEqualTo(testFeed.getNextCrawlAt());
+            assertThat(testFeed.getYieldRate()).isCloseTo(1.0, within(0.05));
+            assertThat(testFeed.getHttpEtag()).isEqualTo("\"v1\"");
+            assertThat(failing.getFailureCount()).isEqualTo(2);
+            assertThat(failing.getLastError()).isEqualTo("Timeout");
+            assertThat(result.getResults().get(1).getNextCrawlAt())
+                    .isEqualTo(failing.getLastCrawled().plusMinutes(60));
+
+            verify(feedBatchRepository).updateCrawlState(List.of(testFeed, failing), Map.of(1L, LEASE, 2L, LEASE));
+            verify(feedCache).invalidate(List.of(1L, 2L));
+            verify(feedRepository, never()).save(any(Feed.class));
+            verify(crawlScheduleService).schedule(1L, testFeed.getNextCrawlAt());
+            verify(crawlScheduleService).schedule(2L, failing.getNextCrawlAt());
+        }
+
+        @Test
+        @DisplayName("Should refuse a crawl outcome from a claim that lost the lease")
+        void shouldRefuseOutcomeWithoutLease() {
+            // Given: the lease expired and another claim took the feed
+            testFeed.setLeaseToken("lease-2");
+            when(feedRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testFeed));
+
+            // When/Then
+            assertThatThrownBy(() -> feedService.recordSuccessfulCrawl(1L, LEASE))
+                    .isInstanceOf(CrawlLeaseLostException.class);
+            assertThatThrownBy(() -> feedService.recordFailedCrawl(1L, LEASE, "Timeout"))
+                    .isInstanceOf(CrawlLeaseLostException.class);
+
+            assertThat(testFeed.getLeaseToken()).isEqualTo("lease-2");
+            assertThat(testFeed.getFailureCount()).isZero();
+            verify(feedRepository, never()).save(any(Feed.class));
+        }
+
+        @Test
+        @DisplayName("Should skip batch outcomes whose claim lost the lease")
+        void shouldSkipBatchOutcomesWithoutLease() {
+            // Given
+            when(feedRepository.findAllByIdForUpdate(Set.of(1L))).thenReturn(List.of(testFeed));
+            List<CrawlOutcomeDto> outcomes = List.of(
+                    CrawlOutcomeDto.builder().feedId(1L).leaseToken("lease-0").success(false).errorMessage("Late").build(),
+                    CrawlOutcomeDto.builder().feedId(1L).leaseToken(LEASE).success(true).build(),
+                    CrawlOutcomeDto.builder().feedId(1L).leaseToken(LEASE).success(false).errorMessage("Twice").build());
+
+            // When
+            CrawlOutcomeBatchResponseDto result = feedService.recordCrawlOutcomes(outcomes);
+
+            // Then: only the holder's first outcome is applied; it ends the lease
+            assertThat(result.getUpdated()).isEqualTo(1);
+            assertThat(result.getLeaseLost()).isEqualTo(2);
+            assertThat(result.getResults()).extracting(CrawlOutcomeBatchResponseDto.ItemResult::getStatus)
+                    .containsExactly(CrawlOutcomeBatchResponseDto.ItemStatus.LEASE_LOST,
+                            CrawlOutcomeBatchResponseDto.ItemStatus.UPDATED,
+                            CrawlOutcomeBatchResponseDto.ItemStatus.LEASE_LOST);
+            assertThat(testFeed.getFailureCount()).isZero();
+            verify(feedBatchRepository).updateCrawlState(List.of(testFeed), Map.of(1L, LEASE));
+        }
+
         @Test
         @DisplayName("Should throw exception when recording crawl for non-existent feed")
         void shouldThrowExceptionWhenRecordingCrawlForNonExistentFeed() {
             // Given
-            when(feedRepository.findById(999L)).thenReturn(Optional.empty());
+            when(feedRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
             // When/Then
-            assertThatThrownBy(() -> feedService.recordSuccessfulCrawl(999L))
+            assertThatThrownBy(() -> feedService.recordSuccessfulCrawl(999L, LEASE))
                     .isInstanceOf(FeedNotFoundException.class);
 
-            assertThatThrownBy(() -> feedService.recordFailedCrawl(999L, "Error"))
+            assertThatThrownBy(() -> feedService.recordFailedCrawl(999L, LEASE, "Error"))
                     .isInstanceOf(FeedNotFoundException.class);
         }
     }
@@ -0,0 +1,128 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.NearDuplicateConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.repository.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearDuplicateServiceTest {
+
+    private static final long STORY = 0x5A5A_1234_0F0F_9999L;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private NearDuplicateConfig config;
+    private NearDuplicateService nearDuplicateService;
+
+    @BeforeEach
+    void setUp() {
+        config = new NearDuplicateConfig();
+        nearDuplicateService = new NearDuplicateService(articleRepository, config, new SimpleMeterRegistry());
+    }
+
+    private Article article(Long id, long simHash, int words) {
+        Article article = new Article();
+        article.setId(id);
+        article.setSimHash(simHash);
+        article.setWordCount(words);
+        return article;
+    }
+
+    @Test
+    @DisplayName("findCanonical should return the cluster root of a near-identical rewrite")
+    void findCanonical_ShouldReturnClusterRoot() {
+        when(articleRepository.existsById(1L)).thenReturn(true);
+        nearDuplicateService.register(article(1L, STORY, 300));
+
+        Article copy = article(2L, STORY ^ 0b11L, 300);
+        assertThat(nearDuplicateService.findCanonical(copy)).contains(1L);
+
+        // A copy of a copy still points at the first article
+        nearDuplicateService.markDuplicate(copy, 1L);
+        nearDuplicateService.register(copy);
+        assertThat(nearDuplicateService.findCanonical(article(3L, STORY ^ 0b11L ^ (1L << 50), 300))).contains(1L);
+        assertThat(copy.getStatus()).isEqualTo(Article.ArticleStatus.DUPLICATE);
+    }
+
+    @Test
+    @DisplayName("findCanonical should ignore short texts and distant hashes")
+    void findCanonical_WhenNotEligibleOrDistant_ShouldReturnEmpty() {
+        nearDuplicateService.register(article(1L, STORY, 300));
+
+        assertThat(nearDuplicateService.findCanonical(article(2L, STORY, 10))).isEmpty();
+        assertThat(nearDuplicateService.findCanonical(article(3L, ~STORY, 300))).isEmpty();
+
+        config.setEnabled(false);
+        assertThat(nearDuplicateService.findCanonical(article(4L, STORY, 300))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("warmUp should load recent articles with their clusters")
+    void warmUp_ShouldLoadRecentArticles() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{9L, STORY ^ 1L, 5L});
+        rows.add(new Object[]{5L, STORY, null});
+        when(articleRepository.findSimHashesSince(any(), anyInt(), any())).thenReturn(rows);
+
+        when(articleRepository.existsById(5L)).thenReturn(true);
+
+        nearDuplicateService.warmUp();
+
+        assertThat(nearDuplicateService.size()).isEqualTo(2);
+        assertThat(nearDuplicateService.findCanonical(article(10L, STORY ^ 1L, 300))).contains(5L);
+    }
+
+    @Test
+    @DisplayName("remove should hand a deleted canonical's cluster to its successor")
+    void remove_WhenCanonicalDeleted_ShouldRepointCluster() {
+        when(articleRepository.existsById(2L)).thenReturn(true);
+        Article canonical = article(1L, STORY, 300);
+        Article copy = article(2L, STORY ^ 0b11L, 300);
+        copy.setCanonicalArticleId(1L);
+        nearDuplicateService.register(canonical);
+        nearDuplicateService.register(copy);
+
+        nearDuplicateService.remove(canonical, 2L);
+
+        assertThat(nearDuplicateService.size()).isEqualTo(1);
+        assertThat(nearDuplicateService.findCanonical(article(3L, STORY, 300))).contains(2L);
+    }
+
+    @Test
+    @DisplayName("remove should drop a deleted canonical that has no surviving cluster")
+    void remove_WhenLastMemberDeleted_ShouldForgetCluster() {
+        Article canonical = article(1L, STORY, 300);
+        nearDuplicateService.register(canonical);
+
+        nearDuplicateService.remove(canonical, null);
+
+        assertThat(nearDuplicateService.size()).isZero();
+        assertThat(nearDuplicateService.findCanonical(article(3L, STORY, 300))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findCanonical should ignore a canonical that no longer exists")
+    void findCanonical_WhenCanonicalMissing_ShouldReturnEmpty() {
+        when(articleRepository.existsById(1L)).thenReturn(false);
+        nearDuplicateService.register(article(1L, STORY, 300));
+
+        assertThat(nearDuplicateService.findCanonical(article(2L, STORY ^ 1L, 300))).isEmpty();
+        assertThat(nearDuplicateService.size()).isZero();
+    }
+}
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +54,9 @@ class PersonalizationServiceTest {
     @Mock
     private TopicRepository topicRepository;
 
+    @Mock
+    private SummaryPrefetchService summaryPrefetchService;
+
     @InjectMocks
     private PersonalizationService personalizationService;
 
@@ -160,6 +164,7 @@ class PersonalizationServiceTest {
 
         // Assert
         verify(readingHistoryRepository).save(any(ReadingHistory.class));
+        verify(summaryPrefetchService).recordRead(eq(101L), any());
     }
 
     @Test
@@ -0,0 +1,108 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SummarizationConfig;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.SummaryRepository;
+import com.study.synopsi.summarization.SummarizationEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProvisionalSummaryServiceTest {
+
+    @Mock
+    private SummarizationEngine summarizationEngine;
+
+    @Mock
+    private SummaryRepository summaryRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private SummarizationConfig config;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        config = new SummarizationConfig();
+
+        article = new Article();
+        article.setId(1L);
+        article.setTitle("Rates held steady");
+        article.setContent("The central bank held rates steady on Tuesday. Markets rallied.");
+    }
+
+    private ProvisionalSummaryService serviceWith(TaskExecutor executor) {
+        return new ProvisionalSummaryService(summarizationEngine, summaryRepository, articleRepository,
+                TransactionOperations.withoutTransaction(), executor, config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("submit should store a provisional BRIEF default summary tagged with the engine version")
+    void submit_ShouldCreateProvisionalSummary() {
+        when(summarizationEngine.summarize(article.getTitle(), article.getContent(), Summary.SummaryLength.MEDIUM))
+                .thenReturn(new SummarizationEngine.SummarizationResult("The central bank held rates steady on Tuesday.", 8, "extractive-tfidf-v1"));
+        when(summaryRepository.existsByArticleIdAndUserIsNullAndSummaryType(1L, Summary.SummaryType.BRIEF)).thenReturn(false);
+        when(articleRepository.getReferenceById(1L)).thenReturn(article);
+
+        serviceWith(Runnable::run).submit(article);
+
+        ArgumentCaptor<Summary> captor = ArgumentCaptor.forClass(Summary.class);
+        verify(summaryRepository).save(captor.capture());
+        Summary saved = captor.getValue();
+        assertThat(saved.getProvisional()).isTrue();
+        assertThat(saved.getUser()).isNull();
+        assertThat(saved.getSummaryType()).isEqualTo(Summary.SummaryType.BRIEF);
+        assertThat(saved.getStatus()).isEqualTo(Summary.SummaryStatus.COMPLETED);
+        assertThat(saved.getModelVersion()).isEqualTo("extractive-tfidf-v1");
+    }
+
+    @Test
+    @DisplayName("submit should not overwrite a default summary that already exists")
+    void submit_WhenSummaryExists_ShouldSkip() {
+        when(summarizationEngine.summarize(any(), any(), any()))
+                .thenReturn(new SummarizationEngine.SummarizationResult("Summary.", 1, "extractive-tfidf-v1"));
+        when(summaryRepository.existsByArticleIdAndUserIsNullAndSummaryType(1L, Summary.SummaryType.BRIEF)).thenReturn(true);
+
+        serviceWith(Runnable::run).submit(article);
+
+        verify(summaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("submit should drop the task instead of failing ingestion when the executor is saturated")
+    void submit_WhenExecutorSaturated_ShouldSkip() {
+        TaskExecutor saturated = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+
+        assertDoesNotThrow(() -> serviceWith(saturated).submit(article));
+        verifyNoInteractions(summarizationEngine, summaryRepository);
+    }
+
+    @Test
+    @DisplayName("submit should do nothing when provisional summaries are disabled")
+    void submit_WhenDisabled_ShouldSkip() {
+        config.setEnabled(false);
+
+        serviceWith(Runnable::run).submit(article);
+
+        verifyNoInteractions(summarizationEngine, summaryRepository);
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.synopsi.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionsTest {
+
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("collectionEtag should be a stable quoted hash that changes when the collection is bumped")
+    void collectionEtag_ShouldChangeOnBump() {
+        String before = resourceVersions.collectionEtag(ResourceVersions.TOPICS);
+
+        assertThat(before).matches("\"[0-9a-f]{32}\"");
+        assertThat(resourceVersions.collectionEtag(ResourceVersions.TOPICS)).isEqualTo(before);
+        assertThat(resourceVersions.collectionEtag(ResourceVersions.SOURCES)).isNotEqualTo(before);
+
+        resourceVersions.bump(ResourceVersions.TOPICS);
+
+        assertThat(resourceVersions.current(ResourceVersions.TOPICS)).isEqualTo(1);
+        assertThat(resourceVersions.collectionEtag(ResourceVersions.TOPICS)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("bump inside a transaction should only take effect after commit")
+    void bump_InTransaction_ShouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        resourceVersions.bump(ResourceVersions.SOURCES);
+        assertThat(resourceVersions.current(ResourceVersions.SOURCES)).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(resourceVersions.current(ResourceVersions.SOURCES)).isEqualTo(1);
+    }
+}
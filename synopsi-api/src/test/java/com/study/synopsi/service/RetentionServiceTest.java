@@ -0,0 +1,121 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.RetentionConfig;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.repository.ReadingHistoryRepository;
+import com.study.synopsi.repository.SummaryJobRepository;
+import com.study.synopsi.repository.SummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+
+    @Mock
+    private SummaryJobRepository summaryJobRepository;
+
+    @Mock
+    private SummaryJobMetrics summaryJobMetrics;
+
+    @Mock
+    private SummaryRepository summaryRepository;
+
+    @Mock
+    private ReadingHistoryRepository readingHistoryRepository;
+
+    private RetentionConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        config = new RetentionConfig();
+        config.setChunkSize(2);
+        config.setPauseMillis(0);
+        config.getFailedSummaries().setEnabled(false);
+        meterRegistry = new SimpleMeterRegistry();
+        retentionService = new RetentionService(summaryJobRepository, summaryJobMetrics, summaryRepository, readingHistoryRepository,
+                TransactionOperations.withoutTransaction(), config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("runRetention should delete expired jobs in keyset-ordered chunks")
+    void runRetention_ShouldDeleteInChunks() {
+        when(summaryJobRepository.findExpiredCompletedJobIds(any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(summaryJobRepository.findExpiredCompletedJobIds(any(), eq(2L), any())).thenReturn(List.of(5L));
+        when(summaryJobRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(summaryJobRepository.deleteAllByIdIn(List.of(5L))).thenReturn(1);
+
+        List<RetentionService.RetentionResult> results = retentionService.runRetention();
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).table()).isEqualTo("summary_jobs");
+        assertThat(results.get(0).deleted()).isEqualTo(3);
+        assertThat(results.get(0).chunks()).isEqualTo(2);
+        assertThat(meterRegistry.get("synopsi.retention.deleted").tag("table", "summary_jobs").counter().count())
+                .isEqualTo(3.0);
+
+        // The short second chunk ends the run without another query
+        verify(summaryJobRepository, times(2)).findExpiredCompletedJobIds(any(), any(), any());
+        verify(summaryJobMetrics).recordRemoved(SummaryJob.JobStatus.COMPLETED, 2);
+        verify(summaryJobMetrics).recordRemoved(SummaryJob.JobStatus.COMPLETED, 1);
+        verifyNoInteractions(readingHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("runRetention should use each policy's retention window")
+    void runRetention_ShouldUsePolicyCutoff() {
+        config.getSummaryJobs().setEnabled(false);
+        config.getFailedSummaries().setEnabled(true);
+        when(summaryRepository.findExpiredSummaryIds(any(), eq(Summary.SummaryStatus.FAILED), eq(0L), any()))
+                .thenReturn(Collections.emptyList());
+
+        retentionService.runRetention();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(summaryRepository).findExpiredSummaryIds(cutoff.capture(), eq(Summary.SummaryStatus.FAILED),
+                eq(0L), any(Pageable.class));
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+        verify(summaryRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("runRetention should stop at the per-run chunk cap")
+    void runRetention_ShouldRespectChunkCap() {
+        config.setMaxChunksPerRun(1);
+        when(summaryJobRepository.findExpiredCompletedJobIds(any(), eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(summaryJobRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        List<RetentionService.RetentionResult> results = retentionService.runRetention();
+
+        assertThat(results.get(0).chunks()).isEqualTo(1);
+        verify(summaryJobRepository, times(1)).findExpiredCompletedJobIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("runRetention should do nothing when disabled")
+    void runRetention_WhenDisabled_ShouldSkip() {
+        config.setEnabled(false);
+
+        assertThat(retentionService.runRetention()).isEmpty();
+        verifyNoInteractions(summaryJobRepository, summaryRepository, readingHistoryRepository);
+    }
+}
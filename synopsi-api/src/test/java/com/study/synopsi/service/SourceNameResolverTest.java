@@ -0,0 +1,66 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.repository.SourceRepository;
+import com.study.synopsi.service.SourceNameResolver.SourceDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SourceNameResolverTest {
+
+    @Mock
+    private SourceRepository sourceRepository;
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    private SourceDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        when(sourceRepository.findIdAndName()).thenReturn(List.of(
+                new Object[]{1L, "BBC"},
+                new Object[]{2L, "BBC Sport"},
+                new Object[]{3L, "The Guardian"},
+                new Object[]{4L, "Bloomberg"}));
+        when(feedRepository.findIdAndSourceId()).thenReturn(List.of(
+                new Object[]{10L, 1L},
+                new Object[]{11L, 1L},
+                new Object[]{20L, 2L},
+                new Object[]{30L, 3L}));
+        directory = new SourceNameResolver(sourceRepository, feedRepository).directory();
+    }
+
+    @Test
+    @DisplayName("resolveFeedIds should use only the exact source when the name matches one")
+    void resolveFeedIds_WhenExactName_ShouldSkipOtherMatches() {
+        assertThat(directory.resolveFeedIds(" bbc ")).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("resolveFeedIds should fall back to a prefix and then a substring match")
+    void resolveFeedIds_WhenPartialName_ShouldMatchPrefixThenSubstring() {
+        assertThat(directory.resolveFeedIds("bb")).containsExactlyInAnyOrder(10L, 11L, 20L);
+        assertThat(directory.resolveFeedIds("guardian")).containsExactly(30L);
+        assertThat(directory.resolveFeedIds("bloom")).isEmpty(); // Source without feeds
+        assertThat(directory.resolveFeedIds("reuters")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest should list names by prefix in alphabetical order up to the limit")
+    void suggest_ShouldServePrefixes() {
+        assertThat(directory.suggest("b", 10)).containsExactly("BBC", "BBC Sport", "Bloomberg");
+        assertThat(directory.suggest("B", 2)).containsExactly("BBC", "BBC Sport");
+        assertThat(directory.suggest("x", 10)).isEmpty();
+    }
+}
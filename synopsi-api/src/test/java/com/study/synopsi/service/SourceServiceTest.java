@@ -34,6 +34,9 @@ class SourceServiceTest {
     @Mock
     private SourceMapper sourceMapper;
 
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private SourceService sourceService;
 
@@ -111,6 +114,7 @@ class SourceServiceTest {
             verify(sourceRepository).save(any(Source.class));
             verify(sourceMapper).toEntity(testRequestDto);
             verify(sourceMapper).toDto(testSource);
+            verify(resourceVersions).bump(ResourceVersions.SOURCES);
         }
 
         @Test
@@ -0,0 +1,89 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SummaryAdmissionConfig;
+import com.study.synopsi.exception.TooManyRequestsException;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.SummaryJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryAdmissionServiceTest {
+
+    @Mock
+    private SummaryJobMetrics summaryJobMetrics;
+
+    private SummaryAdmissionConfig config;
+    private SummaryAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        config = new SummaryAdmissionConfig();
+        config.setUserBurst(3);
+        config.setUserRefillPerMinute(1);
+        config.setQueueHighWatermark(100);
+        config.setQueueLowWatermark(40);
+        config.setReleaseBatchSize(25);
+        admissionService = new SummaryAdmissionService(summaryJobMetrics, config);
+    }
+
+    @Test
+    @DisplayName("admit should allow a burst and then rate limit the user with a Retry-After hint")
+    void admit_WhenBurstExhausted_ShouldRateLimit() {
+        when(summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED)).thenReturn(0L);
+
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> admissionService.admit(7L));
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> admissionService.admit(7L));
+        assertThat(ex.getRetryAfterSeconds()).isPositive();
+
+        // Other users have their own bucket
+        assertDoesNotThrow(() -> admissionService.admit(8L));
+    }
+
+    @Test
+    @DisplayName("admit should reject everyone when the queue is above the high watermark")
+    void admit_WhenQueueSaturated_ShouldReject() {
+        when(summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED)).thenReturn(150L);
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> admissionService.admit(7L));
+        assertThat(ex.getRetryAfterSeconds()).isEqualTo(config.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("shouldDeferDefaultJob should only defer low-priority feeds while saturated")
+    void shouldDeferDefaultJob_ShouldDependOnFeedPriorityAndQueueDepth() {
+        Feed lowPriority = new Feed();
+        lowPriority.setPriority(2);
+        Feed highPriority = new Feed();
+        highPriority.setPriority(8);
+
+        when(summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED)).thenReturn(150L);
+
+        assertThat(admissionService.shouldDeferDefaultJob(lowPriority)).isTrue();
+        assertThat(admissionService.shouldDeferDefaultJob(highPriority)).isFalse();
+    }
+
+    @Test
+    @DisplayName("releasableCapacity should be bounded by the low watermark and batch size")
+    void releasableCapacity_ShouldRespectWatermarks() {
+        when(summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED)).thenReturn(30L);
+        assertThat(admissionService.releasableCapacity()).isEqualTo(10);
+
+        when(summaryJobMetrics.count(SummaryJob.JobStatus.QUEUED)).thenReturn(0L);
+        assertThat(admissionService.releasableCapacity()).isEqualTo(25);
+    }
+}
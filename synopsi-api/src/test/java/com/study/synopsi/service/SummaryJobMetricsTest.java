@@ -0,0 +1,96 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.repository.SummaryJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryJobMetricsTest {
+
+    @Mock
+    private SummaryJobRepository summaryJobRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SummaryJobMetrics jobMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jobMetrics = new SummaryJobMetrics(summaryJobRepository, meterRegistry);
+    }
+
+    private List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+
+    @Test
+    @DisplayName("count should reconcile once and then follow transitions in memory")
+    void count_ShouldFollowTransitionsWithoutQueries() {
+        when(summaryJobRepository.summarizeByStatus()).thenReturn(rows(
+                new Object[]{SummaryJob.JobStatus.QUEUED, 10L, LocalDateTime.now().minusMinutes(5)},
+                new Object[]{SummaryJob.JobStatus.COMPLETED, 100L, LocalDateTime.now().minusDays(1)}));
+
+        assertThat(jobMetrics.count(SummaryJob.JobStatus.QUEUED)).isEqualTo(10L);
+
+        jobMetrics.recordTransition(null, SummaryJob.JobStatus.QUEUED);
+        jobMetrics.recordTransition(SummaryJob.JobStatus.QUEUED, SummaryJob.JobStatus.COMPLETED);
+        jobMetrics.recordTransition(SummaryJob.JobStatus.QUEUED, SummaryJob.JobStatus.FAILED);
+
+        assertThat(jobMetrics.count(SummaryJob.JobStatus.QUEUED)).isEqualTo(9L);
+        assertThat(jobMetrics.count(SummaryJob.JobStatus.COMPLETED)).isEqualTo(101L);
+        assertThat(jobMetrics.count(SummaryJob.JobStatus.FAILED)).isEqualTo(1L);
+        assertThat(meterRegistry.get("synopsi.summary.jobs").tag("status", "QUEUED").gauge().value()).isEqualTo(9.0);
+        assertThat(meterRegistry.get("synopsi.summary.jobs.oldest.queued.age").gauge().value()).isGreaterThanOrEqualTo(299.0);
+
+        verify(summaryJobRepository, times(1)).summarizeByStatus();
+    }
+
+    @Test
+    @DisplayName("reconcile should replace drifted counts with the database totals")
+    void reconcile_ShouldCorrectDrift() {
+        when(summaryJobRepository.summarizeByStatus())
+                .thenReturn(rows(new Object[]{SummaryJob.JobStatus.QUEUED, 3L, LocalDateTime.now()}))
+                .thenReturn(rows(new Object[]{SummaryJob.JobStatus.PROCESSING, 2L, LocalDateTime.now()}));
+
+        jobMetrics.reconcile();
+        jobMetrics.recordTransition(null, SummaryJob.JobStatus.QUEUED);
+        jobMetrics.reconcile();
+
+        assertThat(jobMetrics.count(SummaryJob.JobStatus.QUEUED)).isZero();
+        assertThat(jobMetrics.count(SummaryJob.JobStatus.PROCESSING)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("recordFinished should publish queue wait, processing, turnaround and attempts")
+    void recordFinished_ShouldRecordTimings() {
+        LocalDateTime submitted = LocalDateTime.now().minusMinutes(10);
+        SummaryJob job = new SummaryJob();
+        job.setSubmittedAt(submitted);
+        job.setStartedAt(submitted.plusMinutes(8));
+        job.setCompletedAt(submitted.plusMinutes(10));
+        job.setAttempts(2);
+
+        jobMetrics.recordFinished(job);
+
+        assertThat(meterRegistry.get("synopsi.summary.job.queue.wait").timer().totalTime(TimeUnit.MINUTES))
+                .isEqualTo(8.0);
+        assertThat(meterRegistry.get("synopsi.summary.job.processing").timer().totalTime(TimeUnit.MINUTES))
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("synopsi.summary.job.turnaround").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("synopsi.summary.job.attempts").summary().totalAmount()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SummaryPrefetchConfig;
+import com.study.synopsi.dto.ArticleRequestDto;
+import com.study.synopsi.model.Article;
+import com.study.synopsi.model.Feed;
+import com.study.synopsi.model.Source;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.model.SummaryJob;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.FeedRepository;
+import com.study.synopsi.repository.SourceRepository;
+import com.study.synopsi.repository.SummaryJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@DisplayName("Summary prefetch Integration Tests")
+class SummaryPrefetchIntegrationTest {
+
+    @Autowired
+    private SummaryPrefetchService summaryPrefetchService;
+
+    @Autowired
+    private ArticleIngestionService articleIngestionService;
+
+    @Autowired
+    private SummaryService summaryService;
+
+    @Autowired
+    private SummaryPrefetchConfig config;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private SummaryJobRepository summaryJobRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Test
+    @DisplayName("planPrefetch should enqueue every missing variant of one article in the same run")
+    void planPrefetch_ShouldEnqueueBothVariantsOfOneArticle() {
+        Source source = new Source();
+        source.setName("Prefetch Source");
+        source.setBaseUrl("https://prefetch.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed feed = new Feed();
+        feed.setSource(source);
+        feed.setFeedUrl("https://prefetch.example.com/rss");
+        feed = feedRepository.save(feed);
+
+        Long articleId = articleIngestionService.createArticles(List.of(
+                ArticleRequestDto.builder().title("Prefetched").originalUrl("https://prefetch.example.com/1")
+                        .content("Prefetched article body.").feedId(feed.getId())
+                        .publicationDate(LocalDateTime.now()).build()))
+                .getResults().get(0).getArticleId();
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        article.setStatus(Article.ArticleStatus.SUMMARIZED);
+        articleRepository.saveAndFlush(article);
+
+        for (int i = 0; i < 1000; i++) {
+            summaryPrefetchService.recordRead(articleId, source.getId());
+        }
+
+        // Live queue counters are shared with the rest of the suite; keep the run out of idle detection
+        long idleQueueDepth = config.getIdleQueueDepth();
+        config.setIdleQueueDepth(Long.MAX_VALUE / 2);
+        try {
+            assertThat(summaryPrefetchService.planPrefetch()).isEqualTo(2);
+        } finally {
+            config.setIdleQueueDepth(idleQueueDepth);
+        }
+
+        assertThat(summaryJobRepository.findActiveDefaultJobTypesByArticleIds(List.of(articleId)))
+                .extracting(row -> row[1])
+                .contains(Summary.SummaryType.DETAILED, Summary.SummaryType.ELI5);
+    }
+
+    @Test
+    @DisplayName("a queued prefetch of another variant should not block the default summary")
+    void requestDefaultSummary_WhenPrefetchQueued_ShouldCreateJob() {
+        Source source = new Source();
+        source.setName("Variant Source");
+        source.setBaseUrl("https://variant.example.com");
+        source.setSourceType(Source.SourceType.RSS);
+        source = sourceRepository.save(source);
+
+        Feed feed = new Feed();
+        feed.setSource(source);
+        feed.setFeedUrl("https://variant.example.com/rss");
+        feed = feedRepository.save(feed);
+
+        Long articleId = articleIngestionService.createArticles(List.of(
+                ArticleRequestDto.builder().title("Variant").originalUrl("https://variant.example.com/1")
+                        .content("Variant article body.").feedId(feed.getId())
+                        .publicationDate(LocalDateTime.now()).build()))
+                .getResults().get(0).getArticleId();
+        // The ingestion default job is done; a prefetch of another variant is queued
+        summaryJobRepository.findByArticleId(articleId).forEach(job -> {
+            job.setStatus(SummaryJob.JobStatus.COMPLETED);
+            summaryJobRepository.saveAndFlush(job);
+        });
+        summaryService.requestPrefetchSummary(articleId, Summary.SummaryType.DETAILED);
+
+        SummaryJob regenerated = summaryService.requestDefaultSummary(articleId);
+
+        assertThat(regenerated.getSummaryType()).isEqualTo(Summary.SummaryType.BRIEF);
+        assertThat(regenerated.getStatus()).isEqualTo(SummaryJob.JobStatus.QUEUED);
+        // A second default request still collides with the queued one
+        assertThatThrownBy(() -> summaryService.requestDefaultSummary(articleId))
+                .hasMessage("Summary generation already in progress");
+    }
+}
@@ -0,0 +1,129 @@
+package com.study.synopsi.service;
+
+import com.study.synopsi.config.SummaryPrefetchConfig;
+import com.study.synopsi.model.Summary;
+import com.study.synopsi.repository.ArticleRepository;
+import com.study.synopsi.repository.SummaryJobRepository;
+import com.study.synopsi.repository.SummaryRepository;
+import com.study.synopsi.repository.UserPreferenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryPrefetchServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private SummaryRepository summaryRepository;
+    @Mock
+    private SummaryJobRepository summaryJobRepository;
+    @Mock
+    private UserPreferenceRepository userPreferenceRepository;
+    @Mock
+    private SummaryService summaryService;
+    @Mock
+    private SummaryAdmissionService summaryAdmissionService;
+
+    private SummaryPrefetchConfig config;
+    private SummaryPrefetchService prefetchService;
+
+    @BeforeEach
+    void setUp() {
+        config = new SummaryPrefetchConfig();
+        config.setBudgetPerRun(10);
+        config.setIdleQueueDepth(20);
+        prefetchService = new SummaryPrefetchService(articleRepository, summaryRepository, summaryJobRepository,
+                userPreferenceRepository, summaryService, summaryAdmissionService, config);
+    }
+
+    @Test
+    @DisplayName("planPrefetch should do nothing while the worker queue is busy")
+    void planPrefetch_WhenQueueBusy_ShouldSkip() {
+        when(summaryAdmissionService.currentQueueDepth()).thenReturn(50L);
+
+        assertThat(prefetchService.planPrefetch()).isZero();
+
+        verifyNoInteractions(articleRepository, summaryService);
+    }
+
+    @Test
+    @DisplayName("planPrefetch should enqueue missing variants for the highest scoring articles within budget")
+    void planPrefetch_ShouldEnqueueBestCandidatesWithinBudget() {
+        // Article 1: popular topic and trending. Article 2: no signals at all.
+        when(summaryAdmissionService.currentQueueDepth()).thenReturn(17L); // 3 idle slots
+        when(articleRepository.findPrefetchCandidates(any(), any())).thenReturn(List.of(
+                new Object[]{1L, 10L},
+                new Object[]{2L, 20L}
+        ));
+        when(articleRepository.findTopicIdsByArticleIds(any())).thenReturn(List.<Object[]>of(new Object[]{1L, 100L}));
+        when(userPreferenceRepository.countHighInterestUsersPerTopic()).thenReturn(List.<Object[]>of(new Object[]{100L, 12L}));
+        // DETAILED already exists for article 1
+        when(summaryRepository.findDefaultSummaryTypesByArticleIds(any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, Summary.SummaryType.DETAILED}));
+        when(summaryJobRepository.findActiveDefaultJobTypesByArticleIds(any())).thenReturn(List.of());
+
+        prefetchService.recordRead(1L, 10L);
+
+        int enqueued = prefetchService.planPrefetch();
+
+        assertThat(enqueued).isEqualTo(1);
+        verify(summaryService).requestPrefetchSummary(1L, Summary.SummaryType.ELI5);
+        verify(summaryService, never()).requestPrefetchSummary(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("rankCandidates should order by score and prefer earlier configured variants on ties")
+    void rankCandidates_ShouldOrderByScoreThenVariant() {
+        when(articleRepository.findPrefetchCandidates(any(), any())).thenReturn(List.of(
+                new Object[]{1L, 10L},
+                new Object[]{2L, 10L}
+        ));
+        when(articleRepository.findTopicIdsByArticleIds(any())).thenReturn(List.of());
+        when(userPreferenceRepository.countHighInterestUsersPerTopic()).thenReturn(List.of());
+        when(summaryRepository.findDefaultSummaryTypesByArticleIds(any())).thenReturn(List.of());
+        when(summaryJobRepository.findActiveDefaultJobTypesByArticleIds(any())).thenReturn(List.of());
+
+        prefetchService.recordRead(2L, 10L);
+        prefetchService.recordRead(2L, 10L);
+        prefetchService.recordRead(1L, 10L);
+
+        List<SummaryPrefetchService.PrefetchCandidate> ranked = prefetchService.rankCandidates();
+
+        assertThat(ranked).extracting(SummaryPrefetchService.PrefetchCandidate::articleId)
+                .containsExactly(2L, 2L, 1L, 1L);
+        assertThat(ranked.get(0).summaryType()).isEqualTo(Summary.SummaryType.DETAILED);
+        assertThat(ranked.get(1).summaryType()).isEqualTo(Summary.SummaryType.ELI5);
+    }
+
+    @Test
+    @DisplayName("prefetch metrics should count each prefetched summary hit once")
+    void prefetchMetrics_ShouldCountFirstServeOnly() {
+        SummaryPrefetchMetrics metrics = new SummaryPrefetchMetrics(new SimpleMeterRegistry());
+        Summary prefetched = new Summary();
+        prefetched.setId(5L);
+        prefetched.setPrefetched(true);
+        Summary regular = new Summary();
+        regular.setId(6L);
+
+        metrics.recordCompleted();
+        metrics.recordCompleted();
+        metrics.recordServed(prefetched);
+        metrics.recordServed(prefetched);
+        metrics.recordServed(regular);
+
+        assertThat(metrics.getStatistics().hits()).isEqualTo(1);
+        assertThat(metrics.hitRate()).isEqualTo(0.5);
+    }
+}
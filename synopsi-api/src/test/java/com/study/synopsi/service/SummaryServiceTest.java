@@ -39,6 +39,12 @@ class SummaryServiceTest {
     private ArticleRepository articleRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private SummaryAdmissionService summaryAdmissionService;
+    @Mock
+    private SummaryPrefetchMetrics summaryPrefetchMetrics;
+    @Mock
+    private SummaryJobMetrics summaryJobMetrics;
 
     @InjectMocks
     private SummaryService summaryService;
@@ -100,6 +106,25 @@ class SummaryServiceTest {
         verify(articleRepository).save(article);
     }
 
+    @Test
+    void requestPrefetchSummary_createsLowPriorityJobWithoutTouchingArticle() {
+        // Given
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+        when(summaryJobRepository.save(any(SummaryJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        SummaryJob job = summaryService.requestPrefetchSummary(1L, Summary.SummaryType.ELI5);
+
+        // Then
+        assertTrue(job.getPrefetched());
+        assertEquals(2, job.getPriority());
+        assertEquals(Summary.SummaryType.ELI5, job.getSummaryType());
+        assertEquals(Article.ArticleStatus.PENDING, article.getStatus());
+        verify(articleRepository, never()).save(article);
+        verify(summaryAdmissionService, never()).admit(any());
+        verify(summaryPrefetchMetrics).recordEnqueued();
+    }
+
     @Test
     void requestSummary_whenArticleNotFound_throwsException() {
         // Given
@@ -193,6 +218,38 @@ class SummaryServiceTest {
         verify(articleRepository).save(article);
     }
 
+    @Test
+    void handleWorkerCallback_forDefaultSummary_supersedesProvisionalSummary() {
+        // Given
+        SummaryJob job = new SummaryJob();
+        job.setId(8L);
+        job.setArticle(article);
+        job.setSummaryType(Summary.SummaryType.BRIEF);
+        job.setStatus(SummaryJob.JobStatus.PROCESSING);
+
+        Summary provisional = new Summary();
+        provisional.setId(40L);
+        provisional.setArticle(article);
+        provisional.setSummaryText("Extractive summary.");
+        provisional.setModelVersion("extractive-tfidf-v1");
+        provisional.setProvisional(true);
+
+        when(summaryJobRepository.findById(8L)).thenReturn(Optional.of(job));
+        when(summaryRepository.findFirstByArticleIdAndUserIsNullAndSummaryTypeAndProvisionalTrue(1L, Summary.SummaryType.BRIEF))
+                .thenReturn(Optional.of(provisional));
+        when(summaryRepository.save(any(Summary.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        summaryService.handleWorkerCallback(8L, "Neural summary.", "distilbart-v1", 90);
+
+        // Then - the provisional row is updated in place rather than duplicated
+        verify(summaryRepository).save(provisional);
+        assertEquals(40L, provisional.getId());
+        assertEquals("Neural summary.", provisional.getSummaryText());
+        assertEquals("distilbart-v1", provisional.getModelVersion());
+        assertFalse(provisional.getProvisional());
+    }
+
     @Test
     void handleWorkerCallback_forUserSummary_doesNotUpdateArticleStatus() {
         // Given
@@ -212,6 +269,41 @@ class SummaryServiceTest {
         verify(articleRepository, never()).save(article);
     }
 
+    @Test
+    void handleWorkerStarted_marksQueuedJobProcessing() {
+        // Given
+        SummaryJob job = new SummaryJob();
+        job.setId(9L);
+        job.setStatus(SummaryJob.JobStatus.QUEUED);
+        when(summaryJobRepository.findById(9L)).thenReturn(Optional.of(job));
+
+        // When
+        summaryService.handleWorkerStarted(9L);
+
+        // Then
+        assertEquals(SummaryJob.JobStatus.PROCESSING, job.getStatus());
+        assertNotNull(job.getStartedAt());
+        verify(summaryJobRepository).save(job);
+        verify(summaryJobMetrics).recordTransition(SummaryJob.JobStatus.QUEUED, SummaryJob.JobStatus.PROCESSING);
+    }
+
+    @Test
+    void handleWorkerStarted_ignoresJobThatIsNoLongerQueued() {
+        // Given
+        SummaryJob job = new SummaryJob();
+        job.setId(10L);
+        job.setStatus(SummaryJob.JobStatus.COMPLETED);
+        when(summaryJobRepository.findById(10L)).thenReturn(Optional.of(job));
+
+        // When
+        summaryService.handleWorkerStarted(10L);
+
+        // Then
+        assertNull(job.getStartedAt());
+        verify(summaryJobRepository, never()).save(any(SummaryJob.class));
+        verifyNoInteractions(summaryJobMetrics);
+    }
+
     @Test
     void handleWorkerFailure_whenCanRetry_requeuesJob() {
         // Given
@@ -333,19 +425,6 @@ class SummaryServiceTest {
         assertEquals("Can only retry FAILED jobs", exception.getMessage());
     }
 
-    @Test
-    void cleanupOldJobs_callsRepositoryWithCorrectCutoffDate() {
-        // When
-        summaryService.cleanupOldJobs();
-
-        // Then
-        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(summaryJobRepository).deleteOldCompletedJobs(captor.capture());
-
-        // Verify the cutoff date is approximately 7 days ago
-        assertTrue(captor.getValue().isBefore(LocalDateTime.now().minusDays(6)));
-    }
-
     @Test
     void checkStaleJobs_handlesStaleJobsCorrectly() {
         // Given
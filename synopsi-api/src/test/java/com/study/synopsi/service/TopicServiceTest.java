@@ -33,6 +33,9 @@ class TopicServiceTest {
     @Mock
     private TopicMapper topicMapper;
 
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private TopicService topicService;
 
@@ -128,6 +131,7 @@ class TopicServiceTest {
             verify(topicRepository).existsByNameIgnoreCase("Technology");
             verify(topicRepository).existsBySlug("technology");
             verify(topicRepository).save(any(Topic.class));
+            verify(resourceVersions).bump(ResourceVersions.TOPICS);
         }
 
         @Test
@@ -1,5 +1,6 @@
 package com.study.synopsi.service;
 
+import com.study.synopsi.config.JwtTokenCache;
 import com.study.synopsi.dto.PasswordChangeDto;
 import com.study.synopsi.dto.UserRequestDto;
 import com.study.synopsi.dto.UserResponseDto;
@@ -39,6 +40,9 @@ class UserServiceUnitTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private JwtTokenCache jwtTokenCache;
+
     @InjectMocks // Creates an instance of UserService and injects the mocks into it
     private UserService userService;
 
@@ -158,6 +162,7 @@ class UserServiceUnitTest {
         // Assert
         verify(userRepository, times(1)).save(user);
         assertThat(user.getPassword()).isEqualTo("newHashedPassword");
+        verify(jwtTokenCache).invalidateUser(1L);
     }
 
     @Test
@@ -172,5 +177,6 @@ class UserServiceUnitTest {
             userService.changePassword(1L, passwordDto);
         });
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(jwtTokenCache);
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.study.synopsi.summarization;
+
+import com.study.synopsi.model.Summary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExtractiveSummarizationEngineTest {
+
+    private static final String TITLE = "Central bank holds interest rates steady amid inflation concerns";
+
+    private final ExtractiveSummarizationEngine engine = new ExtractiveSummarizationEngine();
+
+    private String article(int paragraphs) {
+        String paragraph = """
+                The central bank held interest rates steady on Tuesday, citing persistent inflation concerns.
+                Officials said the decision was unanimous and reflected a cautious outlook for the economy.
+                Analysts had widely expected the pause after three consecutive rate increases this year.
+                The weather in the capital was mild, with light winds and scattered clouds.
+                Inflation remains above the bank's two percent target, according to the latest figures.
+                Several local restaurants reported a busy weekend ahead of the holiday season.
+
+                """;
+        return paragraph.repeat(paragraphs);
+    }
+
+    @Test
+    @DisplayName("summarize should favour sentences that share terms with the title and keep original order")
+    void summarize_ShouldSelectRelevantSentencesInOrder() {
+        SummarizationEngine.SummarizationResult result = engine.summarize(TITLE, article(1), Summary.SummaryLength.SHORT);
+
+        assertThat(result).isNotNull();
+        assertThat(result.modelVersion()).isEqualTo(ExtractiveSummarizationEngine.MODEL_VERSION);
+        assertThat(result.text()).startsWith("The central bank held interest rates steady on Tuesday");
+        assertThat(result.text()).doesNotContain("restaurants");
+        assertThat(result.tokenCount()).isPositive().isLessThanOrEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("summarize should respect the word budget of the requested length")
+    void summarize_ShouldRespectLengthBudget() {
+        String content = article(10);
+
+        int shortWords = engine.summarize(TITLE, content, Summary.SummaryLength.SHORT).tokenCount();
+        int longWords = engine.summarize(TITLE, content, Summary.SummaryLength.LONG).tokenCount();
+
+        assertThat(shortWords).isLessThanOrEqualTo(60);
+        assertThat(longWords).isGreaterThan(shortWords).isLessThanOrEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("summarize should return null for empty content")
+    void summarize_WhenContentBlank_ShouldReturnNull() {
+        assertThat(engine.summarize(TITLE, "  ", Summary.SummaryLength.MEDIUM)).isNull();
+        assertThat(engine.summarize(TITLE, null, Summary.SummaryLength.MEDIUM)).isNull();
+    }
+
+    @Test
+    @DisplayName("summarize should collapse whitespace runs inside a sentence")
+    void summarize_ShouldNormalizeWhitespace() {
+        String content = "The central bank\n  held interest\trates steady on Tuesday.\n\n"
+                + "Officials said   the decision was unanimous.";
+
+        SummarizationEngine.SummarizationResult result = engine.summarize(TITLE, content, Summary.SummaryLength.MEDIUM);
+
+        assertThat(result.text()).isEqualTo(
+                "The central bank held interest rates steady on Tuesday. Officials said the decision was unanimous.");
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.synopsi.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("run outside a transaction should run the task immediately")
+    void run_WithoutTransaction_ShouldRunImmediately() {
+        AtomicInteger runs = new AtomicInteger();
+
+        AfterCommit.run(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("run inside a transaction should wait for commit and never run on rollback")
+    void run_InTransaction_ShouldWaitForCommit() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        AfterCommit.run(runs::incrementAndGet);
+        assertThat(runs).hasValue(0);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(runs).hasValue(0);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(runs).hasValue(1);
+    }
+}
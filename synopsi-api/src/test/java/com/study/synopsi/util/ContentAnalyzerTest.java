@@ -0,0 +1,91 @@
+package com.study.synopsi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentAnalyzerTest {
+
+    private static final String ARTICLE = "The city council approved the new transit plan on Tuesday. "
+            + "The plan adds three bus lines and extends the light rail to the airport. "
+            + "Officials said construction is expected to start in the spring and finish within two years. "
+            + "Residents at the meeting were divided, with some praising the investment in public transport.";
+
+    @Test
+    @DisplayName("analyze should count words and derive read time, strip markup and build an excerpt")
+    void analyze_ShouldDeriveBasicFeatures() {
+        ContentAnalyzer.ContentFeatures features = ContentAnalyzer.analyze(
+                "<p>Rock &amp; roll   is <b>back</b>.</p>\n<p>Second paragraph.</p>");
+
+        assertThat(features.wordCount()).isEqualTo(6);
+        assertThat(features.readTimeMinutes()).isEqualTo(1);
+        assertThat(features.excerpt()).isEqualTo("Rock & roll is back. Second paragraph.");
+
+        String longText = "word ".repeat(450);
+        ContentAnalyzer.ContentFeatures longFeatures = ContentAnalyzer.analyze(longText);
+        assertThat(longFeatures.wordCount()).isEqualTo(450);
+        assertThat(longFeatures.readTimeMinutes()).isEqualTo(3);
+        assertThat(longFeatures.excerpt()).hasSizeLessThanOrEqualTo(ContentAnalyzer.EXCERPT_LENGTH).endsWith("…");
+    }
+
+    @Test
+    @DisplayName("fingerprint should ignore case, punctuation and markup but not wording")
+    void analyze_FingerprintShouldMatchNormalizedText() {
+        long fingerprint = ContentAnalyzer.analyze(ARTICLE).fingerprint();
+
+        assertThat(ContentAnalyzer.analyze("<div>" + ARTICLE.toUpperCase().replace(".", "!") + "</div>").fingerprint())
+                .isEqualTo(fingerprint);
+        assertThat(ContentAnalyzer.analyze(ARTICLE.replace("Tuesday", "Monday")).fingerprint())
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("simHash should be close for small edits and far for unrelated text")
+    void analyze_SimHashShouldReflectSimilarity() {
+        long original = ContentAnalyzer.analyze(ARTICLE).simHash();
+        long edited = ContentAnalyzer.analyze(ARTICLE.replace("Tuesday", "Monday")).simHash();
+        long unrelated = ContentAnalyzer.analyze("Quarterly earnings beat analyst expectations as cloud revenue "
+                + "grew sharply while hardware sales declined for a third straight quarter across all regions.").simHash();
+
+        assertThat(Long.bitCount(original ^ edited)).isLessThan(12);
+        assertThat(Long.bitCount(original ^ unrelated)).isGreaterThan(Long.bitCount(original ^ edited));
+    }
+
+    @Test
+    @DisplayName("analyze should guess the language from stop words")
+    void analyze_ShouldGuessLanguage() {
+        ContentAnalyzer.ContentFeatures english = ContentAnalyzer.analyze(ARTICLE);
+        assertThat(english.language()).isEqualTo("en");
+        assertThat(english.languageConfidence()).isGreaterThan(0.5);
+
+        ContentAnalyzer.ContentFeatures spanish = ContentAnalyzer.analyze(
+                "El gobierno de la ciudad aprobó el plan para los autobuses y las nuevas líneas del tren con el apoyo de los vecinos.");
+        assertThat(spanish.language()).isEqualTo("es");
+
+        assertThat(ContentAnalyzer.analyze("12345 67890").language()).isNull();
+    }
+
+    @Test
+    @DisplayName("analyze should keep a bare '<' as text and only skip real tags")
+    void analyze_WhenLessThanIsText_ShouldKeepFollowingWords() {
+        ContentAnalyzer.ContentFeatures features = ContentAnalyzer.analyze(
+                "<p>Prices: a < b for most buyers.</p> I <3 this <!-- note --> deal <");
+
+        assertThat(features.wordCount()).isEqualTo(10);
+        assertThat(features.excerpt()).isEqualTo("Prices: a < b for most buyers. I <3 this deal <");
+        assertThat(features.fingerprint())
+                .isEqualTo(ContentAnalyzer.analyze("Prices a b for most buyers I 3 this deal").fingerprint());
+    }
+
+    @Test
+    @DisplayName("analyze should return empty features for missing content")
+    void analyze_WhenContentMissing_ShouldReturnEmptyFeatures() {
+        ContentAnalyzer.ContentFeatures features = ContentAnalyzer.analyze(null);
+
+        assertThat(features.wordCount()).isZero();
+        assertThat(features.readTimeMinutes()).isEqualTo(1);
+        assertThat(features.excerpt()).isNull();
+        assertThat(features.languageConfidence()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.study.synopsi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    @DisplayName("advance should emit keys once their deadline passes, earliest first")
+    void advance_ShouldEmitDueKeysInDeadlineOrder() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, 0);
+        wheel.schedule("late", 5_500);
+        wheel.schedule("early", 2_000);
+        wheel.schedule("middle", 3_200);
+
+        assertThat(wheel.advance(1_999)).isEmpty();
+        assertThat(wheel.advance(3_100)).containsExactly("early");
+        // Same tick as "middle" but before its deadline; the slot is revisited on the next advance
+        assertThat(wheel.advance(3_300)).containsExactly("middle");
+        assertThat(wheel.advance(10_000)).containsExactly("late");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("deadlines beyond one revolution should wait for the right round")
+    void advance_ShouldHoldKeysBeyondOneRevolution() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 4, 0);
+        wheel.schedule("far", 9_000); // Shares a slot with tick 1 and tick 5
+
+        assertThat(wheel.advance(1_500)).isEmpty();
+        assertThat(wheel.advance(5_500)).isEmpty();
+        assertThat(wheel.contains("far")).isTrue();
+        assertThat(wheel.advance(9_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("schedule should replace a key's deadline, cancel should remove it, and past deadlines fire next")
+    void schedule_ShouldReplaceAndCancel() {
+        HashedTimingWheel<Long> wheel = new HashedTimingWheel<>(TICK, 16, 10_000);
+        wheel.schedule(1L, 12_000);
+        wheel.schedule(1L, 20_000);
+        wheel.schedule(2L, 13_000);
+        wheel.schedule(3L, 1_000); // Already overdue
+
+        assertThat(wheel.size()).isEqualTo(3);
+        assertThat(wheel.cancel(2L)).isTrue();
+        assertThat(wheel.cancel(2L)).isFalse();
+
+        assertThat(wheel.advance(10_100)).containsExactly(3L);
+        assertThat(wheel.advance(15_000)).isEmpty();
+        assertThat(wheel.advance(60_000)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,91 @@
+package com.study.synopsi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashIndexTest {
+
+    @Test
+    @DisplayName("nearest should find hashes within the distance bound and ignore farther ones")
+    void nearest_ShouldRespectMaxDistance() {
+        SimHashIndex<String> index = new SimHashIndex<>(3, 100);
+        long hash = 0xDEAD_BEEF_CAFE_BABEL;
+        index.add(hash, "original");
+
+        // Flipped bits spread over different bands
+        assertThat(index.nearest(hash ^ (1L | 1L << 20 | 1L << 63)))
+                .hasValueSatisfying(match -> {
+                    assertThat(match.value()).isEqualTo("original");
+                    assertThat(match.distance()).isEqualTo(3);
+                });
+        assertThat(index.nearest(hash ^ 0b1111L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("nearest should prefer the closest of several candidates")
+    void nearest_ShouldReturnClosestMatch() {
+        SimHashIndex<String> index = new SimHashIndex<>(3, 100);
+        long hash = 0x1234_5678_9ABC_DEF0L;
+        index.add(hash ^ 0b111L, "far");
+        index.add(hash ^ 0b1L, "near");
+
+        assertThat(index.nearest(hash)).hasValueSatisfying(match -> assertThat(match.value()).isEqualTo("near"));
+    }
+
+    @Test
+    @DisplayName("add should evict the oldest entries beyond capacity")
+    void add_WhenFull_ShouldEvictOldest() {
+        SimHashIndex<Integer> index = new SimHashIndex<>(2, 2);
+        index.add(1L, 1);
+        index.add(0xF0F0_F0F0_F0F0_F0F0L, 2);
+        index.add(-1L, 3);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.nearest(1L)).isEmpty();
+        assertThat(index.nearest(-1L)).hasValueSatisfying(match -> assertThat(match.value()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("nearest should stay sub-millisecond with a full index")
+    void nearest_ShouldBeFastOnLargeIndex() {
+        SimHashIndex<Integer> index = new SimHashIndex<>(3, 200_000);
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            index.add(random.nextLong(), i);
+        }
+
+        int lookups = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            index.nearest(random.nextLong());
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / lookups;
+
+        assertThat(micros).isLessThan(1_000.0);
+    }
+
+    @Test
+    @DisplayName("remove and replaceValue should keep the band tables consistent")
+    void removeAndReplace_ShouldUpdateLookups() {
+        SimHashIndex<Long> index = new SimHashIndex<>(3, 100);
+        long hash = 0x0F0F_F0F0_1234_4321L;
+        index.add(hash, 1L);
+        index.add(hash ^ 0b1L, 1L);
+        index.add(~hash, 9L);
+
+        assertThat(index.remove(hash, 1L)).isTrue();
+        assertThat(index.remove(hash, 1L)).isFalse();
+        assertThat(index.nearest(hash)).hasValueSatisfying(match -> assertThat(match.distance()).isEqualTo(1));
+
+        assertThat(index.replaceValue(1L, 2L)).isEqualTo(1);
+        assertThat(index.nearest(hash)).hasValueSatisfying(match -> assertThat(match.value()).isEqualTo(2L));
+
+        assertThat(index.removeValue(2L)).isEqualTo(1);
+        assertThat(index.nearest(hash)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.study.synopsi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlCanonicalizerTest {
+
+    @Test
+    @DisplayName("canonicalize should strip tracking parameters, fragments, www and default ports")
+    void canonicalize_ShouldNormalizeVariants() {
+        assertThat(UrlCanonicalizer.canonicalize(
+                "HTTPS://WWW.Example.com:443/news/story?utm_source=rss&id=5&fbclid=abc&a=1#comments"))
+                .isEqualTo("https://example.com/news/story?a=1&id=5");
+        assertThat(UrlCanonicalizer.canonicalize("http://example.com")).isEqualTo("http://example.com/");
+        assertThat(UrlCanonicalizer.canonicalize("http://example.com:8080/x")).isEqualTo("http://example.com:8080/x");
+    }
+
+    @Test
+    @DisplayName("hash should be fixed width and equal for equivalent URLs")
+    void hash_ShouldMatchForEquivalentUrls() {
+        String hash = UrlCanonicalizer.hash("https://example.com/story");
+
+        assertThat(hash).hasSize(UrlCanonicalizer.HASH_LENGTH);
+        assertThat(UrlCanonicalizer.hash("https://www.example.com/story?utm_campaign=x#top")).isEqualTo(hash);
+        assertThat(UrlCanonicalizer.hash("https://example.com/story?page=2")).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("canonicalize should return unparseable input unchanged")
+    void canonicalize_WhenUnparseable_ShouldReturnInput() {
+        assertThat(UrlCanonicalizer.canonicalize(" not a url ")).isEqualTo("not a url");
+        assertThat(UrlCanonicalizer.canonicalize(null)).isNull();
+    }
+}
@@ -343,6 +343,12 @@ class SynopsiAPIClient:
                 logger.info(f"Successfully created article ID: {created_article.get('id')}")
                 return created_article
 
+            elif response.status_code == 200:
+                # Same canonical URL already ingested; the API returns the stored article
+                existing_article = response.json()
+                logger.debug(f"Article already exists with ID: {existing_article.get('id')}")
+                return existing_article
+
             elif 400 <= response.status_code < 500:
                 logger.error(f"Client error creating article: {response.status_code} - {response.text}")
                 raise ValueError(f"Invalid article data: {response.text}")
@@ -383,7 +389,8 @@ class SynopsiAPIClient:
     def health_check(self) -> bool:
         """Check if API is reachable."""
         try:
-            url = f"{self.base_url}/api/v1/articles?page=0&size=1"
+            # Cursor mode returns a single row without running a count query
+            url = f"{self.base_url}/api/v1/articles?cursor=&size=1"
             response = self._make_request('GET', url, timeout=5)
 
             is_healthy = response.status_code < 500
@@ -398,15 +405,67 @@ class SynopsiAPIClient:
             logger.error(f"API health check failed: {e}")
             return False
 
+    BATCH_CHUNK_SIZE = 500
+
     def create_articles_batch(self, articles: List[Dict]) -> Dict[str, List]:
-        """Create multiple articles and return success/failure results."""
+        """
+        Create multiple articles via POST /api/v1/articles/batch.
+
+        Articles are sent in chunks; the API reports a result per article, so
+        one bad article never fails the rest. Falls back to one-by-one creation
+        if the API does not expose the batch endpoint.
+        """
         results = {
             'successful': [],
+            'duplicates': [],
             'failed': []
         }
 
         logger.info(f"Creating {len(articles)} articles in batch")
 
+        for start in range(0, len(articles), self.BATCH_CHUNK_SIZE):
+            chunk = articles[start:start + self.BATCH_CHUNK_SIZE]
+            try:
+                response = self._make_request(
+                    'POST',
+                    f"{self.base_url}/api/v1/articles/batch",
+                    json={'articles': chunk},
+                    timeout=self.timeout
+                )
+            except Exception as e:
+                logger.warning(f"Batch request failed: {e}")
+                results['failed'].extend({'article': article, 'error': str(e)} for article in chunk)
+                continue
+
+            if response.status_code == 404:
+                logger.warning("Batch endpoint not available, creating articles one by one")
+                self._create_articles_individually(chunk, results)
+                continue
+
+            if response.status_code != 200:
+                error = f"{response.status_code} - {response.text}"
+                logger.error(f"Batch request rejected: {error}")
+                results['failed'].extend({'article': article, 'error': error} for article in chunk)
+                continue
+
+            for item in response.json().get('results', []):
+                article = chunk[item['index']]
+                if item['status'] == 'CREATED':
+                    results['successful'].append({**article, 'id': item.get('articleId')})
+                elif item['status'] == 'DUPLICATE':
+                    results['duplicates'].append(article)
+                else:
+                    results['failed'].append({'article': article, 'error': item.get('error')})
+
+        logger.info(
+            f"Batch complete: {len(results['successful'])} successful, "
+            f"{len(results['duplicates'])} duplicates, {len(results['failed'])} failed"
+        )
+
+        return results
+
+    def _create_articles_individually(self, articles: List[Dict], results: Dict[str, List]) -> None:
+        """Create articles one request at a time (older APIs without the batch endpoint)."""
         for article in articles:
             try:
                 created_article = self.create_article(article)
@@ -419,13 +478,6 @@ class SynopsiAPIClient:
                     'error': str(e)
                 })
 
-        logger.info(
-            f"Batch complete: {len(results['successful'])} successful, "
-            f"{len(results['failed'])} failed"
-        )
-
-        return results
-
     def _validate_article(self, article: Dict) -> None:
         """Validate article has required fields."""
         required_fields = ['title', 'originalUrl']